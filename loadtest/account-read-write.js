@@ -0,0 +1,46 @@
+// 가상 스레드 모드 비교용 k6 시나리오 (잔액 조회 80% / 입금 20%)
+//
+//   # 1) 기본 (플랫폼 스레드)
+//   ./gradlew bootRun
+//   k6 run -e BASE_URL=http://localhost:8081 -e VUS=2000 loadtest/account-read-write.js --summary-export=platform.json
+//   # 2) 가상 스레드
+//   ./gradlew bootRun --args='--spring.threads.virtual.enabled=true'
+//   k6 run -e BASE_URL=http://localhost:8081 -e VUS=2000 loadtest/account-read-write.js --summary-export=virtual.json
+//
+// 두 결과의 http_req_duration p(99) 와 http_req_failed 를 비교한다.
+// 계좌는 미리 POST /admin/accounts/bulk 로 USER_FROM ~ USER_FROM+USERS-1 을 만들어 둔다.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8081';
+const VUS = parseInt(__ENV.VUS || '1000');
+const USER_FROM = parseInt(__ENV.USER_FROM || '1');
+const USERS = parseInt(__ENV.USERS || '10000');
+
+export const options = {
+    scenarios: {
+        ramp: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: VUS },
+                { duration: '2m', target: VUS },
+                { duration: '15s', target: 0 },
+            ],
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export default function () {
+    const userId = USER_FROM + Math.floor(Math.random() * USERS);
+    if (Math.random() < 0.8) {
+        const res = http.get(`${BASE_URL}/accounts/${userId}`, { tags: { name: 'getAccount' } });
+        check(res, { 'getAccount 200': (r) => r.status === 200 });
+    } else {
+        const res = http.post(`${BASE_URL}/accounts/${userId}/deposit`,
+            JSON.stringify({ amount: 1000, memo: 'k6' }),
+            { headers: { 'Content-Type': 'application/json' }, tags: { name: 'deposit' } });
+        check(res, { 'deposit 200': (r) => r.status === 200 });
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.mockbank.bench;
+
+import com.example.mockbank.application.cache.AccountSnapshotCache;
+import com.example.mockbank.application.service.AccountService;
+import com.example.mockbank.application.service.TransactionHistoryGenerator;
+import com.example.mockbank.application.service.TransactionSummaryService;
+import com.example.mockbank.application.service.VirtualTransactionHistory;
+import com.example.mockbank.domain.account.entity.Account;
+import com.example.mockbank.domain.account.repository.AccountRepository;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.retry.annotation.EnableRetry;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DB 벤치마크용 최소 컨텍스트 - 운영과 같은 AccountService/리포지토리(엔티티 매핑, 쿼리, 트랜잭션, 재시도)를 H2 인메모리로 띄운다.
+ * 컴포넌트 스캔 없이 서비스 경로에 필요한 빈만 등록하므로 SQS 리스너/스케줄러/Redis pub/sub 은 뜨지 않고, 계좌 스냅샷 캐시는 끈다.
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration
+@EnableRetry
+@EntityScan(basePackageClasses = Account.class)
+@EnableJpaRepositories(basePackageClasses = AccountRepository.class)
+@Import({AccountService.class, TransactionSummaryService.class, TransactionHistoryGenerator.class,
+        VirtualTransactionHistory.class, AccountSnapshotCache.class})
+public class BenchApplication {
+
+    // 커맨드라인 인자로 넘겨야 application.properties (MySQL 접속 정보) 보다 우선한다
+    static ConfigurableApplicationContext start(String database, String... overrides) {
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.main.web-application-type=none",
+                "--spring.main.banner-mode=off",
+                "--spring.datasource.url=jdbc:h2:mem:" + database + ";MODE=MYSQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.properties.hibernate.generate_statistics=false",
+                "--spring.data.redis.repositories.enabled=false",
+                "--mockbank.cache.account.enabled=false",
+                "--logging.level.root=WARN"));
+        args.addAll(List.of(overrides));
+        return new SpringApplicationBuilder(BenchApplication.class).run(args.toArray(String[]::new));
+    }
+}
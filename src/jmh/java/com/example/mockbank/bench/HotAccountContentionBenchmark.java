@@ -0,0 +1,63 @@
+package com.example.mockbank.bench;
+
+import com.example.mockbank.application.dto.AccountCreateRequest;
+import com.example.mockbank.application.dto.AccountResponse;
+import com.example.mockbank.application.dto.DepositRequest;
+import com.example.mockbank.application.service.AccountService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 단일 계좌(hot account)에 동시 입금이 몰릴 때 잔액 갱신 방식별 처리량 (BenchApplication = 실제 서비스/리포지토리 + H2 인메모리).
+ * 한 번의 측정 = AccountService.deposit 1건 (잔액 갱신 + 거래 INSERT + 월간 롤업 반영, 트랜잭션/재시도 포함).
+ * - OPTIMISTIC: 엔티티 조회 후 version 조건부 UPDATE, 충돌 시 @Retryable 재시도
+ * - ATOMIC: UPDATE ... SET balance = balance + ? 한 문장 (AccountUpdateRepository)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class HotAccountContentionBenchmark {
+
+    private static final long HOT_USER_ID = 1L;
+
+    @Param({"OPTIMISTIC", "ATOMIC"})
+    public String updateMode;
+
+    private ConfigurableApplicationContext context;
+    private AccountService accountService;
+    private DepositRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // 8 스레드가 한 행에 몰리므로 OPTIMISTIC 재시도 한도를 넉넉히 (소진되면 측정이 실패), 초기 내역은 측정과 무관해서 저장하지 않음
+        context = BenchApplication.start("contention-" + updateMode,
+                "--mockbank.balance.update-mode=" + updateMode,
+                "--mockbank.balance.max-attempts=50",
+                "--mockbank.balance.retry-delay-ms=1",
+                "--mockbank.history.mode=VIRTUAL");
+        accountService = context.getBean(AccountService.class);
+
+        AccountCreateRequest create = new AccountCreateRequest();
+        create.setUserId(HOT_USER_ID);
+        create.setUserName("hot");
+        create.setAccountNumber("1000000001");
+        accountService.createAccount(create);
+
+        request = new DepositRequest();
+        request.setAmount(BigDecimal.valueOf(1_000L));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public AccountResponse deposit() {
+        return accountService.deposit(HOT_USER_ID, request);
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.mockbank.bench;
+
+import com.example.mockbank.application.dto.AccountResponse;
+import com.example.mockbank.application.dto.TransactionResponse;
+import com.example.mockbank.domain.account.entity.Account;
+import com.example.mockbank.domain.account.entity.Transaction;
+import com.example.mockbank.domain.account.enums.TransactionType;
+import com.example.mockbank.domain.account.repository.projection.AccountView;
+import com.example.mockbank.domain.account.repository.projection.TransactionView;
+import com.example.mockbank.domain.account.vo.Money;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 조회 경로의 엔티티 하이드레이션 vs 프로젝션 (Hibernate + H2 인메모리, 요청 1건 = 세션/트랜잭션 1개).
+ * - accountEntity / accountProjection: getAccount (AccountResponse 4개 필드)
+ * - transactionsEntity / transactionsProjection: getTransactions (계좌당 TX_PER_ACCOUNT 건)
+ * 요청당 힙 할당량은 gc 프로파일러의 gc.alloc.rate.norm (B/op) 으로 비교한다.
+ *   ./gradlew jmh -PjmhIncludes=ReadProjectionBenchmark -PjmhProfilers=gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReadProjectionBenchmark {
+
+    private static final int ACCOUNTS = 100;
+    private static final int TX_PER_ACCOUNT = 300;
+
+    private SessionFactory sessionFactory;
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:projection;MODE=MYSQL;DB_CLOSE_DELAY=-1")
+                .applySetting(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .applySetting(AvailableSettings.JAKARTA_JDBC_PASSWORD, "")
+                .applySetting(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .applySetting(AvailableSettings.USE_SECOND_LEVEL_CACHE, "false")
+                .applySetting(AvailableSettings.STATEMENT_BATCH_SIZE, "500")
+                .build();
+        sessionFactory = new MetadataSources(registry)
+                .addAnnotatedClass(Account.class)
+                .addAnnotatedClass(Transaction.class)
+                .buildMetadata()
+                .buildSessionFactory();
+
+        LocalDateTime now = LocalDateTime.now();
+        SplittableRandom seed = new SplittableRandom(7);
+        sessionFactory.inTransaction(session -> {
+            for (long userId = 1; userId <= ACCOUNTS; userId++) {
+                Account account = Account.builder()
+                        .accountNumber(String.valueOf(1_000_000_000L + userId))
+                        .userId(userId)
+                        .userName("user" + userId)
+                        .balance(Money.won(seed.nextInt(10_000_000)))
+                        .createdAt(now)
+                        .updatedAt(now)
+                        .build();
+                session.persist(account);
+                for (int i = 0; i < TX_PER_ACCOUNT; i++) {
+                    boolean deposit = seed.nextBoolean();
+                    session.persist(Transaction.builder()
+                            .account(account)
+                            .amount(Money.won(seed.nextInt(700_000) + 1))
+                            .type(deposit ? TransactionType.DEPOSIT : TransactionType.WITHDRAWAL)
+                            .description(deposit ? "입금" : "출금")
+                            .memo(null)
+                            .createdAt(now.minusHours(TX_PER_ACCOUNT - i))
+                            .build());
+                }
+                session.flush();
+                session.clear();
+            }
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public AccountResponse accountEntity() {
+        long userId = random.nextInt(ACCOUNTS) + 1;
+        return inRequest(session -> AccountResponse.from(session
+                .createSelectionQuery("from Account a where a.userId = :userId", Account.class)
+                .setParameter("userId", userId)
+                .getSingleResult()));
+    }
+
+    @Benchmark
+    public AccountResponse accountProjection() {
+        long userId = random.nextInt(ACCOUNTS) + 1;
+        return inRequest(session -> AccountResponse.from(session
+                .createSelectionQuery("""
+                        select new com.example.mockbank.domain.account.repository.projection.AccountView(
+                            a.id, a.userId, a.accountNumber, a.balance)
+                        from Account a
+                        where a.userId = :userId
+                        """, AccountView.class)
+                .setParameter("userId", userId)
+                .getSingleResult()));
+    }
+
+    @Benchmark
+    public List<TransactionResponse> transactionsEntity() {
+        long accountId = random.nextInt(ACCOUNTS) + 1;
+        return inRequest(session -> session
+                .createSelectionQuery("from Transaction t where t.account.id = :accountId order by t.createdAt desc, t.id desc",
+                        Transaction.class)
+                .setParameter("accountId", accountId)
+                .getResultList().stream()
+                .map(TransactionResponse::from)
+                .toList());
+    }
+
+    @Benchmark
+    public List<TransactionResponse> transactionsProjection() {
+        long accountId = random.nextInt(ACCOUNTS) + 1;
+        return inRequest(session -> session
+                .createSelectionQuery("""
+                        select new com.example.mockbank.domain.account.repository.projection.TransactionView(
+                            t.id, t.amount, t.type, t.createdAt, t.description, t.memo)
+                        from Transaction t
+                        where t.account.id = :accountId
+                        order by t.createdAt desc, t.id desc
+                        """, TransactionView.class)
+                .setParameter("accountId", accountId)
+                .getResultList().stream()
+                .map(TransactionResponse::from)
+                .toList());
+    }
+
+    // 읽기/쓰기 트랜잭션 1개 (커밋 시 flush 가 관리 엔티티를 더티체킹하는 비용까지 포함)
+    private <T> T inRequest(Function<Session, T> work) {
+        return sessionFactory.fromTransaction(work);
+    }
+}
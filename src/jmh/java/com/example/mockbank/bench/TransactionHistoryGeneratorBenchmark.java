@@ -0,0 +1,52 @@
+package com.example.mockbank.bench;
+
+import com.example.mockbank.application.service.TransactionHistoryGenerator;
+import com.example.mockbank.domain.account.entity.Account;
+import com.example.mockbank.domain.account.entity.Transaction;
+import com.example.mockbank.domain.account.vo.Money;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// createAccount 의 초기 거래 생성 + 잔액 재계산 비용
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TransactionHistoryGeneratorBenchmark {
+
+    private TransactionHistoryGenerator generator;
+    private Account account;
+    private List<Transaction> history;
+
+    @Setup
+    public void setUp() {
+        generator = new TransactionHistoryGenerator();
+        account = Account.builder()
+                .id(1L)
+                .userId(1L)
+                .userName("bench")
+                .accountNumber("1000000000")
+                .balance(Money.ZERO)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        history = generator.generate(account, null).transactions();
+    }
+
+    @Benchmark
+    public TransactionHistoryGenerator.GeneratedHistory generateRandomSalary() {
+        return generator.generate(account, null);
+    }
+
+    @Benchmark
+    public TransactionHistoryGenerator.GeneratedHistory generateFixedSalary() {
+        return generator.generate(account, Money.won(3_000_000));
+    }
+
+    @Benchmark
+    public Money replayBalance() {
+        return TransactionHistoryGenerator.replayBalance(history);
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.mockbank.bench;
+
+import com.example.mockbank.application.dto.AccountCreateRequest;
+import com.example.mockbank.application.dto.TransactionStatResponse;
+import com.example.mockbank.application.service.AccountService;
+import com.example.mockbank.domain.account.enums.TransactionType;
+import com.example.mockbank.domain.account.repository.TransactionRepository;
+import com.example.mockbank.domain.account.repository.projection.TransactionPeriodStat;
+import com.example.mockbank.domain.account.repository.projection.TransactionView;
+import com.example.mockbank.domain.account.vo.Money;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * getTransactionStats 조회 경로 비교 (BenchApplication = 실제 서비스/리포지토리 + H2 인메모리).
+ * 계좌는 AccountService.createAccount (EAGER) 로 만들어 초기 내역과 월간 롤업이 운영과 같은 경로로 쌓인다.
+ * - rawRows: TransactionRepository.findAllViews 로 전체 거래를 읽어 Java 에서 월 필터/합산 (롤업 도입 전 방식)
+ * - groupByMonth: TransactionRepository.sumByMonth 로 DB 에서 월별 GROUP BY
+ * - monthlyRollup: AccountService.getTransactionStats (monthly_transaction_summary 에서 요청 월 수만큼)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TransactionStatsBenchmark {
+
+    private static final int ACCOUNTS = 200;
+
+    private ConfigurableApplicationContext context;
+    private AccountService accountService;
+    private TransactionRepository transactionRepository;
+    private long[] accountIds;
+    private YearMonth startYm;
+    private YearMonth endYm;
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchApplication.start("stats", "--mockbank.history.mode=EAGER");
+        accountService = context.getBean(AccountService.class);
+        transactionRepository = context.getBean(TransactionRepository.class);
+
+        accountIds = new long[ACCOUNTS + 1];
+        for (long userId = 1; userId <= ACCOUNTS; userId++) {
+            AccountCreateRequest request = new AccountCreateRequest();
+            request.setUserId(userId);
+            request.setUserName("user" + userId);
+            request.setAccountNumber(String.valueOf(1_000_000_000L + userId));
+            request.setSalary(BigDecimal.valueOf(3_000_000L));
+            accountIds[(int) userId] = accountService.createAccount(request).getAccountId();
+        }
+
+        endYm = YearMonth.now();
+        startYm = endYm.minusMonths(11);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Money rawRows() {
+        List<TransactionView> views = transactionRepository.findAllViews(accountIds[random.nextInt(ACCOUNTS) + 1]);
+        Money income = Money.ZERO;
+        Money expense = Money.ZERO;
+        for (TransactionView view : views) {
+            YearMonth ym = YearMonth.from(view.createdAt());
+            if (ym.isBefore(startYm) || ym.isAfter(endYm)) continue;
+            if (view.type() == TransactionType.DEPOSIT) income = income.plus(view.amount());
+            else expense = expense.plus(view.amount());
+        }
+        return income.minus(expense);
+    }
+
+    @Benchmark
+    public List<TransactionPeriodStat> groupByMonth() {
+        return transactionRepository.sumByMonth(accountIds[random.nextInt(ACCOUNTS) + 1],
+                startYm.atDay(1).atStartOfDay(), endYm.plusMonths(1).atDay(1).atStartOfDay());
+    }
+
+    @Benchmark
+    public TransactionStatResponse monthlyRollup() {
+        return accountService.getTransactionStats((long) random.nextInt(ACCOUNTS) + 1, startYm, endYm);
+    }
+}
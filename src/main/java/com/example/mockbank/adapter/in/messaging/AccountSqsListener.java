@@ -1,149 +1,487 @@
 package com.example.mockbank.adapter.in.messaging;
 
 import com.example.mockbank.application.dto.AccountCreateRequest;
+import com.example.mockbank.application.service.AccountNumberAllocator;
 import com.example.mockbank.application.service.AccountService;
+import com.example.mockbank.common.logging.LogControl;
+import com.example.mockbank.common.redis.IdempotencyService;
+import com.example.mockbank.common.redis.IdempotencyService.Claim;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 import software.amazon.awssdk.services.sqs.SqsClient;
-import software.amazon.awssdk.services.sqs.model.DeleteMessageRequest;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityRequest;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.GetQueueAttributesRequest;
 import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.MessageSystemAttributeName;
+import software.amazon.awssdk.services.sqs.model.QueueAttributeName;
 import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
 
 import java.math.BigDecimal;
-import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * 계좌 생성 SQS 컨슈머.
+ * poller N 개가 메시지를 받아 worker M 개에 넘기고, 처리 중인 메시지 수는 max-in-flight 로 제한한다
+ * (여유 슬롯이 없으면 poller 가 수신을 멈춤 → backpressure).
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class AccountSqsListener {
 
+    private static final int SQS_MAX_BATCH = 10; // ReceiveMessage/DeleteMessageBatch 한 번에 다룰 수 있는 최대 개수
+    private static final int DELETE_MAX_ATTEMPTS = 3;
+    private static final Logger BODY_LOG = LoggerFactory.getLogger("mockbank.sqs.body");
+
     private final SqsClient sqsClient;
     private final ObjectMapper objectMapper;
     private final AccountService accountService;
-    private final StringRedisTemplate redisTemplate;
+    private final AccountNumberAllocator accountNumberAllocator;
+    private final IdempotencyService idempotencyService;
+    private final MeterRegistry meterRegistry;
 
     @Value("${aws.url.sqs.account}")
     private String queueUrl; // application.properties에 있는 SQS 큐 URL
 
-    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    @Value("${mockbank.sqs.account.pollers:1}")
+    private int pollerCount;
+
+    @Value("${mockbank.sqs.account.workers:4}")
+    private int workerCount;
+
+    @Value("${mockbank.sqs.account.max-messages:10}")
+    private int maxMessages;
+
+    @Value("${mockbank.sqs.account.max-in-flight:20}")
+    private int maxInFlight;
+
+    @Value("${mockbank.sqs.account.visibility-timeout-seconds:30}")
+    private int visibilityTimeoutSeconds;
+
+    // true 면 메시지마다 가상 스레드 (동시 처리 수는 max-in-flight 로만 제한, workers 무시)
+    @Value("${mockbank.sqs.account.virtual-workers:${spring.threads.virtual.enabled:false}}")
+    private boolean virtualWorkers;
+
+    private ExecutorService pollers;
+    private ExecutorService workers;
+    private ScheduledExecutorService scheduler; // visibility 연장 + 큐 적체 조회
+    private Semaphore inFlightPermits;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong lastLagMillis = new AtomicLong();
+    private final AtomicLong queueBacklog = new AtomicLong();
+    private Timer lagTimer;
+
     private volatile boolean running = true; // 스레드 안전 종료 플래그
 
     @PostConstruct
     public void startPolling() {
-        log.info("[AccountSqsListener] SQS Listener 시작: {}", queueUrl);
-
-        executor.submit(() -> {
-            while (running && !Thread.currentThread().isInterrupted()) {
-                try {
-                    var response = sqsClient.receiveMessage(
-                            ReceiveMessageRequest.builder()
-                                    .queueUrl(queueUrl)
-                                    .waitTimeSeconds(20)
-                                    .maxNumberOfMessages(5)
-                                    .build()
-                    );
-
-                    for (Message message : response.messages()) {
-                        String eventKey = "account-event:" + message.messageId();
-                        try {
-                            if (Boolean.TRUE.equals(redisTemplate.hasKey(eventKey))) {
-                                log.info("[AccountSqsListener] 중복 메시지 수신됨: {}", eventKey);
-                                continue;
-                            }
+        int batchSize = Math.max(1, Math.min(maxMessages, SQS_MAX_BATCH));
+        inFlightPermits = new Semaphore(Math.max(batchSize, maxInFlight));
+        pollers = Executors.newFixedThreadPool(pollerCount, Thread.ofPlatform().name("sqs-account-poller-", 0).factory());
+        workers = virtualWorkers
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("sqs-account-worker-", 0).factory())
+                : Executors.newFixedThreadPool(workerCount, Thread.ofPlatform().name("sqs-account-worker-", 0).factory());
+        scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("sqs-account-scheduler").factory());
 
-                            handleMessage(message);
+        registerMetrics();
+        scheduler.scheduleWithFixedDelay(this::refreshQueueBacklog, 0, 30, TimeUnit.SECONDS);
 
-                            redisTemplate.opsForValue().set(eventKey, "processed", Duration.ofHours(1));
+        log.info("[AccountSqsListener] SQS Listener 시작: {} (pollers={}, workers={}, maxInFlight={})",
+                queueUrl, pollerCount, virtualWorkers ? "virtual" : workerCount, inFlightPermits.availablePermits());
 
-                            deleteMessage(message); // 성공 시 삭제
-                        } catch (Exception e) {
-                            log.error("계좌 생성 메시지 처리 실패: {}", e.getMessage(), e);
-                            // deleteMessage 호출 안 함 → SQS가 재시도
-                            // 재시도 정책은 SQS DLQ(Dead Letter Queue)로 관리 가능
-                        }
-                    }
-                } catch (Exception e) {
-                    log.error("SQS 폴링 에러: {}", e.getMessage(), e);
-                    if (e.getMessage().contains("Connection pool shut down")) {
-                        break;
-                    }
-                }
-            }
-        });
+        for (int i = 0; i < pollerCount; i++) {
+            pollers.submit(() -> pollLoop(batchSize));
+        }
     }
 
-    // 스프링 종료시 안전하게 스레드 종료
+    // 스프링 종료시 안전하게 스레드 종료 (처리 중인 메시지는 끝까지 처리)
     @PreDestroy
     public void stopPolling() {
         running = false;
-        executor.shutdownNow();
+        pollers.shutdownNow();
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(visibilityTimeoutSeconds, TimeUnit.SECONDS)) {
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        scheduler.shutdownNow();
         log.info("[AccountSqsListener] SQS Listener 안전하게 종료");
     }
 
-    void handleMessage(Message message) {
-        log.info("[AccountSqsListener] 수신 메시지: {}", message.body());
+    private void pollLoop(int batchSize) {
+        while (running && !Thread.currentThread().isInterrupted()) {
+            int permits = 0;
+            try {
+                permits = acquirePermits(batchSize);
+
+                var response = sqsClient.receiveMessage(
+                        ReceiveMessageRequest.builder()
+                                .queueUrl(queueUrl)
+                                .waitTimeSeconds(20)
+                                .maxNumberOfMessages(permits)
+                                .visibilityTimeout(visibilityTimeoutSeconds)
+                                .messageSystemAttributeNames(MessageSystemAttributeName.SENT_TIMESTAMP)
+                                .build()
+                );
+
+                List<Message> messages = response.messages();
+                // 받지 못한 만큼 슬롯 반환
+                inFlightPermits.release(permits - messages.size());
+                permits = 0;
+
+                if (!messages.isEmpty()) {
+                    dispatch(messages);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                inFlightPermits.release(permits);
+                log.error("SQS 폴링 에러: {}", e.getMessage(), e);
+                if (e.getMessage() != null && e.getMessage().contains("Connection pool shut down")) {
+                    break;
+                }
+            }
+        }
+    }
+
+    // 최소 1개 슬롯은 기다려서 확보하고, 나머지는 남는 만큼만 가져감
+    private int acquirePermits(int batchSize) throws InterruptedException {
+        inFlightPermits.acquire();
+        int acquired = 1;
+        while (acquired < batchSize && inFlightPermits.tryAcquire()) {
+            acquired++;
+        }
+        return acquired;
+    }
+
+    /**
+     * 수신 배치 단위 처리.
+     * 메시지 키 선점은 Redis 파이프라인 1회(SET NX), 처리 완료 표시도 파이프라인 1회, 삭제는 DeleteMessageBatch 로 묶는다.
+     */
+    private void dispatch(List<Message> messages) {
+        List<Claim> claims;
         try {
-            var tree = objectMapper.readTree(message.body());
-            String eventStr = tree.has("Message") ? tree.get("Message").asText() : message.body();
-
-            var event = objectMapper.readTree(eventStr);
-
-            AccountCreateRequest req = new AccountCreateRequest();
-            req.setUserId(event.get("userId").asLong());
-            req.setUserName(event.has("userName") ? event.get("userName").asText() : null);
-            req.setAccountNumber(generateAccountNumber());
-            if (event.has("salary") && !event.get("salary").isNull()) {
-                req.setSalary(new BigDecimal(event.get("salary").asText()));
-            } else {
-                req.setSalary(null);
+            claims = idempotencyService.claimAll(messages.stream().map(this::messageKey).toList());
+        } catch (Exception e) {
+            // 선점 여부를 모르면 처리하지 않음 → visibility timeout 후 재수신
+            log.error("메시지 선점 실패, 배치 {}건 재시도 대기: {}", messages.size(), e.getMessage(), e);
+            inFlightPermits.release(messages.size());
+            return;
+        }
+
+        List<Message> duplicates = new ArrayList<>();
+        List<Handled> handled = Collections.synchronizedList(new ArrayList<>());
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        // 처리를 마친 메시지도 배치 전체가 ack(삭제)될 때까지 visibility 를 계속 연장해야
+        // 느린 형제 메시지를 기다리는 동안 재노출 → 중복 처리되지 않는다
+        List<ScheduledFuture<?>> heartbeats = new ArrayList<>();
+
+        for (int i = 0; i < messages.size(); i++) {
+            Message message = messages.get(i);
+            Claim claim = claims.get(i);
+            if (!claim.claimed()) {
+                countDedup("message", claim.status());
+                if (claim.status() == IdempotencyService.Status.DONE) {
+                    log.info("[AccountSqsListener] 중복 메시지 수신됨: {}", claim.key());
+                    duplicates.add(message);
+                } else {
+                    // 다른 컨슈머가 처리 중 → 삭제하지 않고 재전달에 맡김
+                    log.info("[AccountSqsListener] 다른 컨슈머가 처리 중: {}", claim.key());
+                }
+                inFlightPermits.release();
+                continue;
             }
 
-            accountService.createAccount(req);
+            inFlight.incrementAndGet();
+            ScheduledFuture<?> heartbeat = scheduleVisibilityExtension(message);
+            heartbeats.add(heartbeat);
+            try {
+                futures.add(CompletableFuture
+                        .runAsync(() -> {
+                            Handled result = process(message, claim);
+                            if (result != null) {
+                                handled.add(result);
+                            } else {
+                                // 재시도 대상은 연장을 멈춰 visibility timeout 후 재전달되게 한다
+                                heartbeat.cancel(false);
+                            }
+                        }, workers)
+                        .whenComplete((r, e) -> {
+                            inFlight.decrementAndGet();
+                            inFlightPermits.release();
+                        }));
+            } catch (RejectedExecutionException e) {
+                // 종료 중 → 선점 해제 후 SQS 재전달에 맡김
+                heartbeat.cancel(false);
+                idempotencyService.release(claim);
+                inFlight.decrementAndGet();
+                inFlightPermits.release();
+            }
+        }
 
-            log.info("[AccountSqsListener] 계좌 생성 완료 for userId={}", req.getUserId());
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .whenComplete((r, e) -> {
+                    try {
+                        acknowledge(handled, duplicates);
+                    } finally {
+                        heartbeats.forEach(h -> h.cancel(false));
+                    }
+                });
+    }
+
+    // 삭제(ack) 대상이면 완료 처리할 선점 목록과 함께 반환, 재시도 대상이면 null (선점 해제 후 SQS 재전달)
+    private Handled process(Message message, Claim messageClaim) {
+        recordLag(message);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            Claim userClaim = handleMessage(message);
+            if (!userClaim.claimed()) {
+                countDedup("user", userClaim.status());
+            }
+            outcome = userClaim.status() == IdempotencyService.Status.CLAIMED ? "created" : "skipped";
+            return switch (userClaim.status()) {
+                case CLAIMED -> new Handled(message, List.of(messageClaim, userClaim));
+                case DONE -> new Handled(message, List.of(messageClaim)); // 이미 계좌가 생성된 유저
+                case IN_PROGRESS -> {
+                    idempotencyService.release(messageClaim);
+                    yield null;
+                }
+            };
         } catch (Exception e) {
-            log.error("메시지 파싱/계좌생성 실패: {}", e.getMessage(), e);
+            log.error("계좌 생성 메시지 처리 실패: {}", e.getMessage(), e);
+            idempotencyService.release(messageClaim);
+            return null;
+        } finally {
+            sample.stop(Timer.builder("mockbank.sqs.account.process")
+                    .description("메시지 1건 처리 시간 (파싱~계좌 생성)")
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    // 중복 차단 카운터 (key: message=메시지 재전달, user=같은 userId 의 다른 메시지)
+    private void countDedup(String key, IdempotencyService.Status status) {
+        meterRegistry.counter("mockbank.sqs.account.dedup",
+                "key", key, "status", status.name().toLowerCase()).increment();
+    }
+
+    private void acknowledge(List<Handled> handled, List<Message> duplicates) {
+        List<Message> toDelete = new ArrayList<>(duplicates);
+        if (!handled.isEmpty()) {
+            try {
+                idempotencyService.complete(handled.stream().flatMap(h -> h.claims().stream()).toList());
+                handled.forEach(h -> toDelete.add(h.message()));
+            } catch (Exception e) {
+                // 완료 표시 실패 시 삭제도 보류 (선점은 lease 만료 후 풀림)
+                log.error("처리 완료 표시 실패 {}건: {}", handled.size(), e.getMessage(), e);
+            }
+        }
+        deleteMessages(toDelete);
+    }
+
+    private String messageKey(Message message) {
+        return "idem:account-create:msg:" + message.messageId();
+    }
+
+    private String userKey(Long userId) {
+        return "idem:account-create:user:" + userId;
+    }
+
+    /**
+     * 메시지 파싱 후 userId(비즈니스 키)를 선점하고 계좌 생성.
+     * 선점에 실패하면(DONE/IN_PROGRESS) 생성하지 않고 선점 결과를 그대로 반환한다.
+     */
+    Claim handleMessage(Message message) {
+        log.debug("[AccountSqsListener] 수신 메시지: {}", message.messageId());
+        AccountCreateRequest req;
+        try {
+            req = parseMessage(message);
+        } catch (Exception e) {
+            log.error("메시지 파싱 실패: {} body={}", e.getMessage(), message.body(), e);
             throw new RuntimeException("메시지 처리 실패", e);
         }
+
+        MDC.put(LogControl.MDC_USER_ID, String.valueOf(req.getUserId()));
+        try {
+            // 본문은 샘플링/verbose 대상 전용 로거로 (평소에는 남기지 않음)
+            BODY_LOG.debug("[AccountSqsListener] messageId={} body={}", message.messageId(), message.body());
+
+            Claim userClaim = idempotencyService.claim(userKey(req.getUserId()));
+            if (!userClaim.claimed()) {
+                log.info("[AccountSqsListener] userId={} 계좌 생성 건너뜀 ({})", req.getUserId(), userClaim.status());
+                return userClaim;
+            }
+
+            try {
+                req.setAccountNumber(accountNumberAllocator.next());
+                accountService.createAccount(req);
+            } catch (Exception e) {
+                idempotencyService.release(userClaim);
+                log.error("계좌생성 실패: {}", e.getMessage(), e);
+                throw new RuntimeException("메시지 처리 실패", e);
+            }
+
+            log.info("[AccountSqsListener] 계좌 생성 완료 for userId={}", req.getUserId());
+            return userClaim;
+        } finally {
+            MDC.remove(LogControl.MDC_USER_ID);
+        }
     }
 
-    private void deleteMessage(Message message) {
-        sqsClient.deleteMessage(DeleteMessageRequest.builder()
-                .queueUrl(queueUrl)
-                .receiptHandle(message.receiptHandle())
-                .build());
+    private AccountCreateRequest parseMessage(Message message) throws Exception {
+        var tree = objectMapper.readTree(message.body());
+        String eventStr = tree.has("Message") ? tree.get("Message").asText() : message.body();
+
+        var event = objectMapper.readTree(eventStr);
+
+        AccountCreateRequest req = new AccountCreateRequest();
+        req.setUserId(event.get("userId").asLong());
+        req.setUserName(event.has("userName") ? event.get("userName").asText() : null);
+        if (event.has("salary") && !event.get("salary").isNull()) {
+            req.setSalary(new BigDecimal(event.get("salary").asText()));
+        } else {
+            req.setSalary(null);
+        }
+        return req;
+    }
+
+    private record Handled(Message message, List<Claim> claims) {
     }
 
-    private String generateAccountNumber() {
-        String accountNumber;
-        int tryCount = 0;
-        final int maxTry = 10;
+    // 수신~ack 가 visibility timeout 보다 길어지면 다른 컨슈머에게 재노출되지 않도록 주기적으로 연장
+    private ScheduledFuture<?> scheduleVisibilityExtension(Message message) {
+        long period = Math.max(1, visibilityTimeoutSeconds / 2);
+        return scheduler.scheduleAtFixedRate(() -> {
+            try {
+                sqsClient.changeMessageVisibility(ChangeMessageVisibilityRequest.builder()
+                        .queueUrl(queueUrl)
+                        .receiptHandle(message.receiptHandle())
+                        .visibilityTimeout(visibilityTimeoutSeconds)
+                        .build());
+            } catch (Exception e) {
+                log.warn("visibility 연장 실패 messageId={}: {}", message.messageId(), e.getMessage());
+            }
+        }, period, period, TimeUnit.SECONDS);
+    }
 
-        do {
-            accountNumber = randomAccountNumber(10);
-            tryCount++;
-        } while (accountService.existsByAccountNumber(accountNumber) && tryCount < maxTry);
+    private void recordLag(Message message) {
+        String sent = message.attributes().get(MessageSystemAttributeName.SENT_TIMESTAMP);
+        if (sent == null) {
+            return;
+        }
+        long lag = Math.max(0, System.currentTimeMillis() - Long.parseLong(sent));
+        lastLagMillis.set(lag);
+        lagTimer.record(lag, TimeUnit.MILLISECONDS);
+    }
 
-        if (tryCount == maxTry) {
-            throw new RuntimeException("계좌번호 생성 시도 초과 (중복)");
+    private void refreshQueueBacklog() {
+        try {
+            var attrs = sqsClient.getQueueAttributes(GetQueueAttributesRequest.builder()
+                    .queueUrl(queueUrl)
+                    .attributeNames(QueueAttributeName.APPROXIMATE_NUMBER_OF_MESSAGES)
+                    .build());
+            String value = attrs.attributes().get(QueueAttributeName.APPROXIMATE_NUMBER_OF_MESSAGES);
+            if (value != null) {
+                queueBacklog.set(Long.parseLong(value));
+            }
+        } catch (Exception e) {
+            log.debug("SQS 큐 적체 조회 실패: {}", e.getMessage());
         }
-        return accountNumber;
     }
 
-    private String randomAccountNumber(int length) {
-        StringBuilder sb = new StringBuilder();
-        sb.append((int) (Math.random() * 9) + 1);
-        for (int i = 1; i < length; i++) {
-            sb.append((int) (Math.random() * 10));
+    private void registerMetrics() {
+        Gauge.builder("mockbank.sqs.account.workers", () -> virtualWorkers ? maxInFlight : workerCount)
+                .description("계좌 생성 메시지 처리 worker 수")
+                .register(meterRegistry);
+        Gauge.builder("mockbank.sqs.account.in_flight", inFlight, AtomicInteger::get)
+                .description("처리 중인 메시지 수")
+                .register(meterRegistry);
+        Gauge.builder("mockbank.sqs.account.lag.last", lastLagMillis, AtomicLong::get)
+                .description("마지막 메시지의 발행~처리 시작 지연(ms)")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("mockbank.sqs.account.backlog", queueBacklog, AtomicLong::get)
+                .description("큐 적체 메시지 수 (ApproximateNumberOfMessages)")
+                .register(meterRegistry);
+        lagTimer = Timer.builder("mockbank.sqs.account.lag")
+                .description("메시지 발행~처리 시작 지연")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    // DeleteMessageBatch (최대 10건) - 실패한 엔트리만 골라서 재시도
+    private void deleteMessages(List<Message> messages) {
+        for (int from = 0; from < messages.size(); from += SQS_MAX_BATCH) {
+            List<Message> chunk = messages.subList(from, Math.min(from + SQS_MAX_BATCH, messages.size()));
+            Map<String, Message> pending = new LinkedHashMap<>();
+            for (int i = 0; i < chunk.size(); i++) {
+                pending.put(String.valueOf(i), chunk.get(i));
+            }
+
+            for (int attempt = 1; attempt <= DELETE_MAX_ATTEMPTS && !pending.isEmpty(); attempt++) {
+                try {
+                    var response = sqsClient.deleteMessageBatch(DeleteMessageBatchRequest.builder()
+                            .queueUrl(queueUrl)
+                            .entries(pending.entrySet().stream()
+                                    .map(e -> DeleteMessageBatchRequestEntry.builder()
+                                            .id(e.getKey())
+                                            .receiptHandle(e.getValue().receiptHandle())
+                                            .build())
+                                    .toList())
+                            .build());
+
+                    response.successful().forEach(ok -> pending.remove(ok.id()));
+                    for (BatchResultErrorEntry failed : response.failed()) {
+                        if (Boolean.TRUE.equals(failed.senderFault())) {
+                            // 영수증 만료 등 요청 자체 오류는 재시도해도 동일 → 포기
+                            log.warn("메시지 삭제 실패(재시도 안 함) messageId={}: {}",
+                                    pending.get(failed.id()).messageId(), failed.code());
+                            pending.remove(failed.id());
+                        }
+                    }
+                } catch (Exception e) {
+                    log.warn("DeleteMessageBatch 호출 실패 (시도 {}/{}): {}", attempt, DELETE_MAX_ATTEMPTS, e.getMessage());
+                }
+            }
+
+            if (!pending.isEmpty()) {
+                log.error("메시지 {}건 삭제 실패 → 재전달 시 중복 체크로 걸러짐", pending.size());
+            }
         }
-        return sb.toString();
     }
 }
@@ -0,0 +1,130 @@
+package com.example.mockbank.adapter.in.web;
+
+import com.example.mockbank.application.dto.AccountBulkCreateRequest;
+import com.example.mockbank.application.dto.LedgerCheckResponse;
+import com.example.mockbank.application.dto.SummaryMismatchResponse;
+import com.example.mockbank.application.service.AccountProvisioningService;
+import com.example.mockbank.application.service.TransactionExportService;
+import com.example.mockbank.application.service.TransactionHistoryMaterializer;
+import com.example.mockbank.application.service.TransactionLedgerBackfillJob;
+import com.example.mockbank.application.service.TransactionLedgerService;
+import com.example.mockbank.application.service.TransactionSummaryBackfillJob;
+import com.example.mockbank.application.service.TransactionSummaryService;
+import com.example.mockbank.common.enums.ExportFormat;
+import com.example.mockbank.common.enums.SuccessCode;
+import com.example.mockbank.common.response.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.List;
+
+// 운영/정합성 점검용 내부 API
+@RestController
+@RequestMapping("/admin/accounts")
+@RequiredArgsConstructor
+public class AccountAdminController {
+
+    private final TransactionSummaryService transactionSummaryService;
+    private final TransactionSummaryBackfillJob transactionSummaryBackfillJob;
+    private final TransactionLedgerService transactionLedgerService;
+    private final TransactionLedgerBackfillJob transactionLedgerBackfillJob;
+    private final AccountProvisioningService accountProvisioningService;
+    private final TransactionExportService transactionExportService;
+    private final TransactionHistoryMaterializer transactionHistoryMaterializer;
+    private final ObjectMapper objectMapper;
+
+    @PostMapping("/summaries/backfill")
+    public ResponseEntity<ApiResponse<Integer>> backfillSummaries() {
+        return ResponseEntity
+                .status(SuccessCode.BACKFILL_SUMMARY_SUCCESS.getStatus())
+                .body(ApiResponse.onSuccess(SuccessCode.BACKFILL_SUMMARY_SUCCESS, transactionSummaryBackfillJob.backfillAll()));
+    }
+
+    @GetMapping("/{userId}/summaries/verify")
+    public ResponseEntity<ApiResponse<List<SummaryMismatchResponse>>> verifySummaries(@PathVariable Long userId) {
+        return ResponseEntity
+                .status(SuccessCode.VERIFY_SUMMARY_SUCCESS.getStatus())
+                .body(ApiResponse.onSuccess(SuccessCode.VERIFY_SUMMARY_SUCCESS, transactionSummaryService.verify(userId)));
+    }
+
+    @PostMapping("/ledger/backfill")
+    public ResponseEntity<ApiResponse<Integer>> backfillLedger() {
+        return ResponseEntity
+                .status(SuccessCode.BACKFILL_LEDGER_SUCCESS.getStatus())
+                .body(ApiResponse.onSuccess(SuccessCode.BACKFILL_LEDGER_SUCCESS, transactionLedgerBackfillJob.backfillAll()));
+    }
+
+    @GetMapping("/{userId}/ledger/verify")
+    public ResponseEntity<ApiResponse<LedgerCheckResponse>> verifyLedger(@PathVariable Long userId) {
+        return ResponseEntity
+                .status(SuccessCode.VERIFY_LEDGER_SUCCESS.getStatus())
+                .body(ApiResponse.onSuccess(SuccessCode.VERIFY_LEDGER_SUCCESS,
+                        transactionHistoryMaterializer.readAfterMaterialize(userId,
+                                () -> transactionLedgerService.verify(userId))));
+    }
+
+    // 전체 계좌 잔액 ↔ 원장 최신 행 비교 (불일치 계좌만)
+    @GetMapping("/ledger/verify")
+    public ResponseEntity<ApiResponse<List<LedgerCheckResponse>>> verifyAllLedgers() {
+        return ResponseEntity
+                .status(SuccessCode.VERIFY_LEDGER_SUCCESS.getStatus())
+                .body(ApiResponse.onSuccess(SuccessCode.VERIFY_LEDGER_SUCCESS, transactionLedgerService.verifyAll()));
+    }
+
+    // 부하 테스트 시딩용 대량 계좌 생성 - chunk 마다 진행 상황을 NDJSON 한 줄씩 스트리밍
+    @PostMapping(value = "/bulk", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> provisionAccounts(@Valid @RequestBody AccountBulkCreateRequest request) {
+        accountProvisioningService.validate(request);
+        StreamingResponseBody body = out -> accountProvisioningService.provision(request, progress -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(progress));
+                out.write('\n');
+                out.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+
+    // 대사용 거래 내역 내보내기 (한 계좌 전체, 오래된 순)
+    @GetMapping("/{userId}/transactions/export")
+    public ResponseEntity<StreamingResponseBody> exportTransactions(
+            @PathVariable Long userId,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        TransactionExportService.AccountExport target = transactionExportService.resolveAccount(userId);
+        return exportResponse("transactions-" + userId, format,
+                out -> transactionExportService.exportAccount(target, format, out));
+    }
+
+    // 대사용 거래 내역 내보내기 (전체 계좌, 기간 [from, to], 계좌 → 시간순)
+    @GetMapping("/transactions/export")
+    public ResponseEntity<StreamingResponseBody> exportTransactionsBetween(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        transactionExportService.validateRange(from, to);
+        return exportResponse("transactions-" + from + "_" + to, format,
+                out -> transactionExportService.exportRange(from, to, format, out));
+    }
+
+    private ResponseEntity<StreamingResponseBody> exportResponse(String fileName, ExportFormat format, StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"" + fileName + "." + format.getExtension() + "\"")
+                .body(body);
+    }
+}
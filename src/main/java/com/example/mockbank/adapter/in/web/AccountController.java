@@ -1,17 +1,26 @@
 package com.example.mockbank.adapter.in.web;
 
 import com.example.mockbank.application.dto.*;
+import com.example.mockbank.application.journal.WriteBehindBalanceService;
+import com.example.mockbank.application.service.AccountNumberAllocator;
 import com.example.mockbank.application.service.AccountService;
+import com.example.mockbank.application.service.TransactionHistoryMaterializer;
+import com.example.mockbank.application.service.TransactionLedgerService;
 import com.example.mockbank.common.enums.ErrorCode;
+import com.example.mockbank.common.enums.StatBucket;
 import com.example.mockbank.common.enums.SuccessCode;
 import com.example.mockbank.common.exception.CustomException;
 import com.example.mockbank.common.response.ApiResponse;
+import com.example.mockbank.domain.account.vo.Money;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @RestController
 @RequestMapping("/accounts")
@@ -19,21 +28,34 @@ import java.util.List;
 public class AccountController {
 
     private final AccountService accountService;
+    private final AccountNumberAllocator accountNumberAllocator;
+    private final TransactionLedgerService transactionLedgerService;
+    private final WriteBehindBalanceService writeBehindBalanceService;
+    // 거래 내역 조회는 LAZY 초기 내역을 먼저 저장한 뒤 (서비스의 읽기 전용 트랜잭션 밖에서) 호출
+    private final TransactionHistoryMaterializer transactionHistoryMaterializer;
+
+    @Value("${mockbank.transactions.unpaged-enabled:true}")
+    private boolean unpagedEnabled;
 
     @PostMapping
     public ResponseEntity<ApiResponse<AccountResponse>> createAccount(@Valid @RequestBody AccountCreateRequest request) {
+        // 계좌번호는 생성 트랜잭션 밖에서 발급 (블록 예약이 별도 커넥션을 쓰므로)
+        accountNumberAllocator.assignIfMissing(request);
         return ResponseEntity
                 .status(SuccessCode.CREATE_USER_SUCCESS.getStatus())
                 .body(ApiResponse.onSuccess(SuccessCode.CREATE_USER_SUCCESS, accountService.createAccount(request)));
     }
 
+    // WRITE_BEHIND 모드는 DB 트랜잭션 없이 저널 + 메모리 잔액으로 처리하므로 @Transactional 서비스 메서드를 거치지 않는다
     @PostMapping("/{userId}/deposit")
     public ResponseEntity<ApiResponse<AccountResponse>> deposit(
             @PathVariable Long userId,
             @Valid @RequestBody DepositRequest request) {
         return ResponseEntity
                 .status(SuccessCode.DEPOSIT_SUCCESS.getStatus())
-                .body(ApiResponse.onSuccess(SuccessCode.DEPOSIT_SUCCESS, accountService.deposit(userId, request)));
+                .body(ApiResponse.onSuccess(SuccessCode.DEPOSIT_SUCCESS, writeBehindBalanceService.isEnabled()
+                        ? writeBehindBalanceService.deposit(userId, Money.of(request.getAmount()), request.getMemo())
+                        : accountService.deposit(userId, request)));
     }
 
     @PostMapping("/{userId}/withdraw")
@@ -42,21 +64,53 @@ public class AccountController {
             @Valid @RequestBody WithdrawRequest request) {
         return ResponseEntity
                 .status(SuccessCode.WITHDRAW_SUCCESS.getStatus())
-                .body(ApiResponse.onSuccess(SuccessCode.WITHDRAW_SUCCESS, accountService.withdraw(userId, request)));
+                .body(ApiResponse.onSuccess(SuccessCode.WITHDRAW_SUCCESS, writeBehindBalanceService.isEnabled()
+                        ? writeBehindBalanceService.withdraw(userId, Money.of(request.getAmount()), request.getMemo())
+                        : accountService.withdraw(userId, request)));
     }
 
     @GetMapping("/{userId}")
     public ResponseEntity<ApiResponse<AccountResponse>> getAccount(@PathVariable Long userId) {
         return ResponseEntity
                 .status(SuccessCode.GET_ACCOUNT_SUCCESS.getStatus())
-                .body(ApiResponse.onSuccess(SuccessCode.GET_ACCOUNT_SUCCESS, accountService.getAccount(userId)));
+                .body(ApiResponse.onSuccess(SuccessCode.GET_ACCOUNT_SUCCESS, writeBehindBalanceService.find(userId)
+                        .orElseGet(() -> accountService.getAccount(userId))));
+    }
+
+    // 임의 시점 잔액 (원장 balance_after 인덱스 1행 조회)
+    @GetMapping("/{userId}/balance")
+    public ResponseEntity<ApiResponse<BalanceAtResponse>> getBalanceAt(
+            @PathVariable Long userId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+        return ResponseEntity
+                .status(SuccessCode.GET_BALANCE_AT_SUCCESS.getStatus())
+                .body(ApiResponse.onSuccess(SuccessCode.GET_BALANCE_AT_SUCCESS,
+                        transactionHistoryMaterializer.readAfterMaterialize(userId,
+                                () -> transactionLedgerService.getBalanceAt(userId, at))));
     }
 
+    // 기본: 커서 페이징 / unpaged=true: 기존 전체 목록 (mockbank.transactions.unpaged-enabled 일 때만)
     @GetMapping("/{userId}/transactions")
-    public ResponseEntity<ApiResponse<List<TransactionResponse>>> getTransactions(@PathVariable Long userId) {
+    public ResponseEntity<ApiResponse<?>> getTransactions(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean unpaged) {
+        if (unpaged) {
+            if (!unpagedEnabled) {
+                throw new CustomException(ErrorCode.UNPAGED_NOT_ALLOWED);
+            }
+            return ResponseEntity
+                    .status(SuccessCode.GET_TRANSACTIONS_SUCCESS.getStatus())
+                    .body(ApiResponse.onSuccess(SuccessCode.GET_TRANSACTIONS_SUCCESS,
+                            transactionHistoryMaterializer.readAfterMaterialize(userId,
+                                    () -> accountService.getTransactions(userId))));
+        }
         return ResponseEntity
                 .status(SuccessCode.GET_TRANSACTIONS_SUCCESS.getStatus())
-                .body(ApiResponse.onSuccess(SuccessCode.GET_TRANSACTIONS_SUCCESS, accountService.getTransactions(userId)));
+                .body(ApiResponse.onSuccess(SuccessCode.GET_TRANSACTIONS_SUCCESS,
+                        transactionHistoryMaterializer.readAfterMaterialize(userId,
+                                () -> accountService.getTransactionPage(userId, cursor, size))));
     }
 
     @PostMapping("/{userId}/transactions/stats")
@@ -64,11 +118,26 @@ public class AccountController {
             @PathVariable Long userId,
             @RequestBody TransactionStatRequest request
     ) {
-        TransactionStatResponse resp = accountService.getTransactionStats(
-                userId,
-                request.getStartYM(),
-                request.getEndYM()
-        );
+        TransactionStatResponse resp = transactionHistoryMaterializer.readAfterMaterialize(userId,
+                () -> accountService.getTransactionStats(
+                        userId,
+                        request.getStartYM(),
+                        request.getEndYM()
+                ));
         return ApiResponse.onSuccess(SuccessCode.GET_TRANSACTIONS_STATS_SUCCESS, resp);
     }
+
+    // 임의 기간 [from, to] 의 일/주/월 단위 시계열 (DB 에서 구간별 1행으로 집계)
+    @GetMapping("/{userId}/transactions/series")
+    public ResponseEntity<ApiResponse<TransactionSeriesResponse>> getTransactionSeries(
+            @PathVariable Long userId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "DAY") StatBucket bucket) {
+        return ResponseEntity
+                .status(SuccessCode.GET_TRANSACTIONS_SERIES_SUCCESS.getStatus())
+                .body(ApiResponse.onSuccess(SuccessCode.GET_TRANSACTIONS_SERIES_SUCCESS,
+                        transactionHistoryMaterializer.readAfterMaterialize(userId,
+                                () -> accountService.getTransactionSeries(userId, from, to, bucket))));
+    }
 }
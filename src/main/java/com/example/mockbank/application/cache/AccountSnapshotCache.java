@@ -0,0 +1,224 @@
+package com.example.mockbank.application.cache;
+
+import com.example.mockbank.application.dto.AccountResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * GET /accounts/{userId} 용 계좌 스냅샷 2단 캐시 (로컬 Caffeine → Redis → DB).
+ * 잔액이 바뀌는 쓰기(입출금)는 커밋 이후 양쪽 캐시를 무효화하고,
+ * 다른 인스턴스의 로컬 캐시는 Redis pub/sub 으로 무효화한다.
+ * <p>
+ * 무효화마다 사용자별 버전을 올리고(로컬 = 스트라이프 카운터, Redis = 버전 키), 미스 시 로더 실행 전에 읽은 버전이
+ * 그대로일 때만 캐시에 쓴다. 입금 커밋 전에 읽기 시작한 요청이 무효화 뒤에 옛 잔액을 다시 채워 넣지 못하게 하기 위함.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccountSnapshotCache implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "account-snapshot:invalidate";
+    // 스냅샷/버전 키가 같은 슬롯에 있어야 스크립트 한 번으로 비교할 수 있으므로 userId 를 해시 태그로
+    private static final String KEY_PREFIX = "account-snapshot:";
+    private static final String VERSION_KEY_PREFIX = "account-snapshot-version:";
+    private static final int LOCAL_VERSION_STRIPES = 1024;
+
+    // 버전이 읽은 값 그대로일 때만 저장 (버전 키가 없으면 "0")
+    private static final RedisScript<Long> SET_IF_VERSION = new DefaultRedisScript<>("""
+            if (redis.call('get', KEYS[2]) or '0') == ARGV[1] then
+              redis.call('set', KEYS[1], ARGV[2], 'EX', ARGV[3])
+              return 1
+            end
+            return 0
+            """, Long.class);
+    // 버전 증가 + 스냅샷 삭제 (버전 키는 진행 중인 로더보다 오래 남도록 스냅샷 TTL 만큼 유지)
+    private static final RedisScript<Long> INVALIDATE = new DefaultRedisScript<>("""
+            redis.call('incr', KEYS[2])
+            redis.call('expire', KEYS[2], ARGV[1])
+            redis.call('del', KEYS[1])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${mockbank.cache.account.enabled:true}")
+    private boolean enabled;
+
+    @Value("${mockbank.cache.account.local-max-size:10000}")
+    private long localMaxSize;
+
+    @Value("${mockbank.cache.account.local-ttl-seconds:30}")
+    private long localTtlSeconds;
+
+    @Value("${mockbank.cache.account.redis-ttl-seconds:600}")
+    private long redisTtlSeconds;
+
+    private Cache<Long, AccountResponse> local;
+    // userId 해시 → 로컬 무효화 횟수 (충돌 시 쓰기를 한 번 더 건너뛸 뿐이라 무해)
+    private final AtomicLongArray localVersions = new AtomicLongArray(LOCAL_VERSION_STRIPES);
+    private Counter redisHits;
+    private Counter redisMisses;
+    private Counter redisErrors;
+
+    @PostConstruct
+    void init() {
+        // W-TinyLFU 기반 크기 제한 + 인스턴스 간 무효화 누락 대비 짧은 TTL
+        local = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, local, "accountSnapshot");
+        redisHits = Counter.builder("mockbank.cache.account.redis").tag("result", "hit").register(meterRegistry);
+        redisMisses = Counter.builder("mockbank.cache.account.redis").tag("result", "miss").register(meterRegistry);
+        redisErrors = Counter.builder("mockbank.cache.account.redis").tag("result", "error").register(meterRegistry);
+    }
+
+    public AccountResponse get(Long userId, Supplier<AccountResponse> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        AccountResponse cached = local.getIfPresent(userId);
+        if (cached != null) {
+            return cached;
+        }
+        // 조회 전에 버전을 먼저 잡아 둔다 (그 뒤의 무효화는 아래 쓰기를 막는다)
+        long localVersion = localVersions.get(stripe(userId));
+        RedisEntry entry = readRedis(userId);
+        if (entry.snapshot() != null) {
+            putLocal(userId, entry.snapshot(), localVersion);
+            return entry.snapshot();
+        }
+        AccountResponse loaded = loader.get();
+        putLocal(userId, loaded, localVersion);
+        if (entry.version() != null) {
+            writeRedis(userId, loaded, entry.version());
+        }
+        return loaded;
+    }
+
+    // 잔액 변경 후 호출 - 트랜잭션 중이면 커밋 이후에 무효화 (롤백 시 캐시 유지)
+    public void evictAfterCommit(Long userId) {
+        if (!enabled) {
+            return;
+        }
+        runAfterCommit(() -> evict(userId));
+    }
+
+    public void evict(Long userId) {
+        invalidateLocal(userId);
+        try {
+            redisTemplate.execute(INVALIDATE, List.of(snapshotKey(userId), versionKey(userId)),
+                    String.valueOf(redisTtlSeconds));
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.valueOf(userId));
+        } catch (Exception e) {
+            redisErrors.increment();
+            log.warn("[AccountSnapshotCache] Redis 무효화 실패 userId={}: {}", userId, e.getMessage());
+        }
+    }
+
+    // 다른 인스턴스에서 온 무효화 메시지
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            invalidateLocal(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8)));
+        } catch (NumberFormatException e) {
+            log.warn("[AccountSnapshotCache] 잘못된 무효화 메시지: {}", e.getMessage());
+        }
+    }
+
+    // 버전을 먼저 올리고 지운다 - 사이에 끼어든 putLocal 은 버전 재확인에서 걸러진다
+    private void invalidateLocal(Long userId) {
+        localVersions.incrementAndGet(stripe(userId));
+        local.invalidate(userId);
+    }
+
+    // 넣은 뒤 버전을 다시 보고, 그 사이 무효화가 있었으면 방금 넣은 값을 지운다
+    private void putLocal(Long userId, AccountResponse snapshot, long version) {
+        local.put(userId, snapshot);
+        if (localVersions.get(stripe(userId)) != version) {
+            local.invalidate(userId);
+        }
+    }
+
+    // 스냅샷 + 현재 버전을 MGET 한 번으로 (오류 시 version 이 null → Redis 에 쓰지 않음)
+    private RedisEntry readRedis(Long userId) {
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(List.of(snapshotKey(userId), versionKey(userId)));
+            String json = values == null ? null : values.get(0);
+            String version = values == null || values.get(1) == null ? "0" : values.get(1);
+            if (json == null) {
+                redisMisses.increment();
+                return new RedisEntry(null, version);
+            }
+            redisHits.increment();
+            return new RedisEntry(objectMapper.readValue(json, AccountResponse.class), version);
+        } catch (Exception e) {
+            redisErrors.increment();
+            log.warn("[AccountSnapshotCache] Redis 조회 실패 userId={}: {}", userId, e.getMessage());
+            return new RedisEntry(null, null);
+        }
+    }
+
+    private void writeRedis(Long userId, AccountResponse snapshot, String expectedVersion) {
+        try {
+            redisTemplate.execute(SET_IF_VERSION, List.of(snapshotKey(userId), versionKey(userId)),
+                    expectedVersion, objectMapper.writeValueAsString(snapshot), String.valueOf(redisTtlSeconds));
+        } catch (Exception e) {
+            redisErrors.increment();
+            log.warn("[AccountSnapshotCache] Redis 저장 실패 userId={}: {}", userId, e.getMessage());
+        }
+    }
+
+    private static String snapshotKey(Long userId) {
+        return KEY_PREFIX + "{" + userId + "}";
+    }
+
+    private static String versionKey(Long userId) {
+        return VERSION_KEY_PREFIX + "{" + userId + "}";
+    }
+
+    private static int stripe(Long userId) {
+        return Long.hashCode(userId * 0x9E3779B97F4A7C15L) & (LOCAL_VERSION_STRIPES - 1);
+    }
+
+    private static void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private record RedisEntry(AccountResponse snapshot, String version) {
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.mockbank.application.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 대량 계좌 프로비저닝 요청. 둘 중 하나로 지정한다.
+ * - accounts: 계좌 생성 요청 목록 그대로
+ * - count + startUserId: userId startUserId ~ startUserId+count-1 계좌를 자동 생성
+ * seed 를 주면 계좌별 거래 내역이 (seed, userId) 로 결정되어 재실행해도 같은 내역이 나온다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class AccountBulkCreateRequest {
+    @Valid
+    private List<AccountCreateRequest> accounts;
+
+    @Positive(message = "생성 개수는 1 이상이어야 합니다.")
+    private Integer count;
+
+    @Positive(message = "시작 유저ID는 1 이상이어야 합니다.")
+    private Long startUserId;
+
+    private BigDecimal salary; // count 모드 공통 월급 (null 이면 랜덤 수입)
+
+    private Long seed;
+}
@@ -12,8 +12,7 @@ import java.math.BigDecimal;
 @Setter
 @NoArgsConstructor
 public class AccountCreateRequest {
-    @NotBlank(message = "계좌번호는 필수입니다.")
-    private String accountNumber;
+    private String accountNumber; // 비우면 AccountNumberAllocator 가 발급
 
     @NotNull(message = "유저ID는 필수입니다.")
     private Long userId;
@@ -1,12 +1,15 @@
 package com.example.mockbank.application.dto;
 
 import com.example.mockbank.domain.account.entity.Account;
+import com.example.mockbank.domain.account.repository.projection.AccountView;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 
 @Getter
+@NoArgsConstructor
 @AllArgsConstructor
 public class AccountResponse {
     private Long accountId;
@@ -19,8 +22,12 @@ public class AccountResponse {
                 account.getId(),
                 account.getUserId(),
                 account.getAccountNumber(),
-                account.getBalance()
+                account.getBalance().toBigDecimal()
         );
     }
+
+    public static AccountResponse from(AccountView view) {
+        return new AccountResponse(view.id(), view.userId(), view.accountNumber(), view.balance().toBigDecimal());
+    }
 }
 
@@ -0,0 +1,15 @@
+package com.example.mockbank.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class BalanceAtResponse {
+    private Long userId;
+    private LocalDateTime at;
+    private BigDecimal balance; // at 시점까지 반영된 잔액 (이전 거래가 없으면 0)
+}
@@ -0,0 +1,18 @@
+package com.example.mockbank.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 대량 프로비저닝 진행 상황 (NDJSON 한 줄)
+@Getter
+@AllArgsConstructor
+public class BulkProvisionProgress {
+    private int total;
+    private int processed;
+    private int created;
+    private int skipped; // 이미 존재하는 userId
+    private int failed;
+    private long transactions;
+    private long elapsedMs;
+    private boolean done;
+}
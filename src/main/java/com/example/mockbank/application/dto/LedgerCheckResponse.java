@@ -0,0 +1,16 @@
+package com.example.mockbank.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+// Account.balance ↔ 원장 최신 행(balance_after) 비교 결과 (ledgerBalance 가 null 이면 백필 필요)
+@Getter
+@AllArgsConstructor
+public class LedgerCheckResponse {
+    private Long userId;
+    private BigDecimal accountBalance;
+    private BigDecimal ledgerBalance;
+    private boolean matched;
+}
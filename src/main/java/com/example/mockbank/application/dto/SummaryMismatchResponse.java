@@ -0,0 +1,20 @@
+package com.example.mockbank.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+// 롤업 ↔ 원본 거래 불일치 내역 (expected = Transaction 기준, actual = 롤업 기준)
+@Getter
+@AllArgsConstructor
+public class SummaryMismatchResponse {
+    private YearMonth statMonth;
+    private BigDecimal expectedIncome;
+    private BigDecimal actualIncome;
+    private BigDecimal expectedExpense;
+    private BigDecimal actualExpense;
+    private long expectedCount;
+    private long actualCount;
+}
@@ -1,6 +1,7 @@
 package com.example.mockbank.application.dto;
 
 import com.example.mockbank.domain.account.entity.Transaction;
+import com.example.mockbank.domain.account.repository.projection.TransactionView;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -20,13 +21,24 @@ public class TransactionResponse {
     public static TransactionResponse from(Transaction t) {
         return new TransactionResponse(
                 t.getId(),
-                t.getAmount(),
+                t.getAmount().toBigDecimal(),
                 t.getType().name(),
                 t.getCreatedAt(),
                 t.getDescription(),
                 t.getMemo()
         );
     }
+
+    public static TransactionResponse from(TransactionView v) {
+        return new TransactionResponse(
+                v.id(),
+                v.amount().toBigDecimal(),
+                v.type().name(),
+                v.createdAt(),
+                v.description(),
+                v.memo()
+        );
+    }
 }
 
 
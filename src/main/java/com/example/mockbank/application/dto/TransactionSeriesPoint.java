@@ -0,0 +1,17 @@
+package com.example.mockbank.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Getter
+@AllArgsConstructor
+public class TransactionSeriesPoint {
+    private LocalDate bucketStart; // 일: 해당 일 / 주: 월요일 / 월: 1일
+    private BigDecimal income;
+    private BigDecimal expense;
+    private BigDecimal net;        // income - expense
+    private long count;
+}
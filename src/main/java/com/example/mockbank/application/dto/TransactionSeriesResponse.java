@@ -0,0 +1,22 @@
+package com.example.mockbank.application.dto;
+
+import com.example.mockbank.common.enums.StatBucket;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class TransactionSeriesResponse {
+    private StatBucket bucket;
+    private LocalDate from;
+    private LocalDate to;          // 포함
+    private BigDecimal totalIncome;
+    private BigDecimal totalExpense;
+    private BigDecimal net;
+    private long count;
+    private List<TransactionSeriesPoint> points; // 거래가 없는 구간도 0 으로 채움
+}
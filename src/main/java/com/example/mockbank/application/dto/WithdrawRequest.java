@@ -2,6 +2,7 @@ package com.example.mockbank.application.dto;
 
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -13,5 +14,6 @@ public class WithdrawRequest {
     @NotNull(message = "입금 금액은 필수입니다.")
     @Min(value = 1, message = "입금 금액은 1원 이상이어야 합니다.")
     private BigDecimal amount;
-    private String memo; // 선택: 출금 메모
+    @Size(max = 255, message = "메모는 255자 이하여야 합니다.")
+    private String memo; // 선택: 출금 메모 (transaction.memo varchar(255))
 }
@@ -0,0 +1,36 @@
+package com.example.mockbank.application.journal;
+
+import com.example.mockbank.domain.account.entity.Transaction;
+import com.example.mockbank.domain.account.enums.TransactionType;
+import com.example.mockbank.domain.account.vo.Money;
+
+import java.time.LocalDateTime;
+
+// 저널 1건 = 입금/출금 1건 (balanceAfter 는 append 시점의 메모리 잔액)
+public record JournalRecord(
+        long seq,
+        long accountId,
+        long userId,
+        TransactionType type,
+        Money amount,
+        Money balanceAfter,
+        LocalDateTime createdAt,
+        String memo
+) {
+
+    // 앞선 레코드가 격리되면 그 금액을 뺀 잔액으로 반영
+    public JournalRecord withBalanceAfter(Money corrected) {
+        return new JournalRecord(seq, accountId, userId, type, amount, corrected, createdAt, memo);
+    }
+
+    public Transaction toTransaction() {
+        return Transaction.builder()
+                .amount(amount)
+                .type(type)
+                .memo(memo)
+                .description(type == TransactionType.DEPOSIT ? "입금" : "출금")
+                .createdAt(createdAt)
+                .balanceAfter(balanceAfter)
+                .build();
+    }
+}
@@ -0,0 +1,333 @@
+package com.example.mockbank.application.journal;
+
+import com.example.mockbank.common.exception.CustomException;
+import com.example.mockbank.domain.account.enums.TransactionType;
+import com.example.mockbank.domain.account.vo.Money;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 메모리 맵 append-only 저널 (세그먼트 파일 journal-{첫 seq}.log).
+ * <p>
+ * 레코드 = [payload 길이 int][CRC32C int][payload]. 파일은 미리 segment-size 로 잡아 두므로 길이 0 이 나오면 끝,
+ * CRC 가 안 맞으면 쓰다 만 꼬리(crash)로 보고 거기서 멈춘다.
+ * {@link #sync(long)} 는 그 시점까지 쓴 레코드를 한 번의 force 로 디스크에 내리므로 동시 호출이 fsync 를 나눠 쓴다.
+ * 재시작하면 항상 새 세그먼트에서 이어 쓰고, DB 에 반영된(checkpoint) 세그먼트는 {@link #truncate(long)} 로 지운다.
+ */
+@Slf4j
+public class TransactionJournal implements Closeable {
+
+    private static final String PREFIX = "journal-";
+    private static final String SUFFIX = ".log";
+    private static final int HEADER_BYTES = 8;
+    private static final int MAX_RECORD_BYTES = 4 * 1024;
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final boolean fsync;
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final ReentrantLock syncLock = new ReentrantLock();
+    // 닫힌 세그먼트 (첫 seq, 경로) - 오래된 순
+    private final Deque<Segment> closedSegments = new ArrayDeque<>();
+    private final ByteBuffer scratch = ByteBuffer.allocate(MAX_RECORD_BYTES);
+
+    private Segment current;
+    private MappedByteBuffer buffer;
+    private long nextSeq;
+    private long writtenSeq;
+    private volatile long durableSeq;
+
+    private TransactionJournal(Path directory, int segmentBytes, boolean fsync) {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.fsync = fsync;
+    }
+
+    /**
+     * 기존 세그먼트를 읽어 afterSeq 이후 레코드를 replay 에 담고, 새 세그먼트를 열어 이어 쓸 준비를 한다.
+     */
+    public static TransactionJournal open(Path directory, int segmentBytes, boolean fsync,
+                                          long afterSeq, List<JournalRecord> replay) throws IOException {
+        Files.createDirectories(directory);
+        TransactionJournal journal = new TransactionJournal(directory, segmentBytes, fsync);
+        long lastSeq = afterSeq;
+        for (Segment segment : journal.listSegments()) {
+            for (JournalRecord record : readSegment(segment.path())) {
+                if (record.seq() > afterSeq) replay.add(record);
+                lastSeq = Math.max(lastSeq, record.seq());
+            }
+            journal.closedSegments.add(segment);
+        }
+        journal.nextSeq = lastSeq + 1;
+        journal.writtenSeq = lastSeq;
+        journal.durableSeq = lastSeq;
+        journal.roll();
+        return journal;
+    }
+
+    // 레코드 직렬화 + 기록 (seq 부여). 아직 디스크 보장 아님 → sync(seq)
+    // onAppended 는 append 락 안에서 호출되므로 받는 쪽은 항상 seq 순서대로 받는다
+    public JournalRecord append(long accountId, long userId, TransactionType type, Money amount,
+                                Money balanceAfter, LocalDateTime createdAt, String memo,
+                                Consumer<JournalRecord> onAppended) throws IOException {
+        appendLock.lock();
+        try {
+            JournalRecord record = new JournalRecord(nextSeq, accountId, userId, type, amount, balanceAfter, createdAt, memo);
+            ByteBuffer payload = encode(record);
+            int frame = HEADER_BYTES + payload.remaining();
+            if (buffer.remaining() < frame) {
+                roll();
+            }
+            CRC32C crc = new CRC32C();
+            crc.update(payload.duplicate());
+            // CRC 를 먼저, 길이를 마지막에 써야 중간에 죽었을 때 길이 0 또는 CRC 불일치로 걸러진다
+            int start = buffer.position();
+            buffer.putInt(start + 4, (int) crc.getValue());
+            buffer.put(start + HEADER_BYTES, payload, payload.position(), payload.remaining());
+            buffer.putInt(start, payload.remaining());
+            buffer.position(start + frame);
+            writtenSeq = nextSeq++;
+            onAppended.accept(record);
+            return record;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    // seq 까지 디스크에 내려갔음을 보장 (이미 다른 호출이 내렸으면 바로 반환)
+    public void sync(long seq) {
+        if (durableSeq >= seq) {
+            return;
+        }
+        syncLock.lock();
+        try {
+            if (durableSeq >= seq) {
+                return;
+            }
+            long target;
+            MappedByteBuffer toForce;
+            appendLock.lock();
+            try {
+                target = writtenSeq;
+                toForce = buffer;
+            } finally {
+                appendLock.unlock();
+            }
+            if (fsync) {
+                toForce.force();
+            }
+            durableSeq = target;
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    // checkpoint 이하 레코드만 담긴 닫힌 세그먼트 삭제
+    public void truncate(long checkpointSeq) {
+        appendLock.lock();
+        try {
+            while (!closedSegments.isEmpty()) {
+                Segment oldest = closedSegments.peekFirst();
+                Segment following = closedSegments.size() > 1
+                        ? closedSegments.stream().skip(1).findFirst().orElseThrow()
+                        : current;
+                // 다음 세그먼트의 첫 seq - 1 까지가 oldest 의 범위
+                if (following.firstSeq() - 1 > checkpointSeq) {
+                    return;
+                }
+                closedSegments.pollFirst();
+                try {
+                    Files.deleteIfExists(oldest.path());
+                } catch (IOException e) {
+                    log.warn("[TransactionJournal] 세그먼트 삭제 실패 {}: {}", oldest.path(), e.getMessage());
+                }
+            }
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    public long lastWrittenSeq() {
+        appendLock.lock();
+        try {
+            return writtenSeq;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        appendLock.lock();
+        try {
+            if (buffer != null && fsync) {
+                buffer.force();
+            }
+            durableSeq = writtenSeq;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    // 현재 세그먼트를 내리고 nextSeq 로 시작하는 새 세그먼트를 연다 (appendLock 보유 상태)
+    private void roll() throws IOException {
+        if (current != null) {
+            if (fsync) buffer.force();
+            durableSeq = writtenSeq;
+            closedSegments.add(current);
+        }
+        Path path = directory.resolve(String.format("%s%020d%s", PREFIX, nextSeq, SUFFIX));
+        // 같은 이름이 있으면 지난 실행에서 레코드 없이 끝난 세그먼트 (유효 레코드가 있었다면 nextSeq 가 더 컸다)
+        closedSegments.removeIf(s -> s.path().equals(path));
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // 매핑은 채널을 닫아도 유지된다
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+        }
+        current = new Segment(nextSeq, path);
+        log.info("[TransactionJournal] 새 세그먼트 {}", path.getFileName());
+    }
+
+    private List<Segment> listSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(p -> p.getFileName().toString().startsWith(PREFIX) && p.getFileName().toString().endsWith(SUFFIX))
+                    .map(p -> {
+                        String name = p.getFileName().toString();
+                        return new Segment(Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length())), p);
+                    })
+                    .sorted((a, b) -> Long.compare(a.firstSeq(), b.firstSeq()))
+                    .toList();
+        }
+    }
+
+    static List<JournalRecord> readSegment(Path path) throws IOException {
+        List<JournalRecord> records = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer in = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            while (in.remaining() >= HEADER_BYTES) {
+                int length = in.getInt();
+                int checksum = in.getInt();
+                if (length <= 0 || length > MAX_RECORD_BYTES || length > in.remaining()) {
+                    break; // 기록 끝 (또는 쓰다 만 길이)
+                }
+                ByteBuffer payload = in.slice(in.position(), length);
+                CRC32C crc = new CRC32C();
+                crc.update(payload.duplicate());
+                if ((int) crc.getValue() != checksum) {
+                    log.warn("[TransactionJournal] {} 손상된 꼬리 레코드 이후 무시", path.getFileName());
+                    break;
+                }
+                try {
+                    records.add(decode(payload));
+                } catch (BufferUnderflowException | IllegalArgumentException | CustomException e) {
+                    log.warn("[TransactionJournal] {} 레코드 해석 실패 이후 무시: {}", path.getFileName(), e.getMessage());
+                    break;
+                }
+                in.position(in.position() + length);
+            }
+        }
+        return records;
+    }
+
+    private ByteBuffer encode(JournalRecord r) {
+        ByteBuffer out = scratch.clear();
+        out.putLong(r.seq());
+        out.putLong(r.accountId());
+        out.putLong(r.userId());
+        out.put((byte) r.type().ordinal());
+        out.putLong(r.createdAt().toEpochSecond(ZoneOffset.UTC));
+        out.putInt(r.createdAt().getNano());
+        putMoney(out, r.amount());
+        putMoney(out, r.balanceAfter());
+        putString(out, r.memo());
+        return out.flip();
+    }
+
+    private static JournalRecord decode(ByteBuffer in) {
+        long seq = in.getLong();
+        long accountId = in.getLong();
+        long userId = in.getLong();
+        TransactionType type = TransactionType.values()[in.get()];
+        LocalDateTime createdAt = LocalDateTime.ofEpochSecond(in.getLong(), in.getInt(), ZoneOffset.UTC);
+        Money amount = getMoney(in);
+        Money balanceAfter = getMoney(in);
+        String memo = getString(in);
+        return new JournalRecord(seq, accountId, userId, type, amount, balanceAfter, createdAt, memo);
+    }
+
+    // 기존 decimal 포맷 그대로 [scale int][unscaled 길이 short][unscaled big-endian 2의 보수] - scale 은 항상 Money.SCALE
+    static void putMoney(ByteBuffer out, Money value) {
+        long minor = value.minor();
+        // BigInteger.toByteArray() 와 같은 최소 길이 (bitLength / 8 + 1)
+        int length = (Long.SIZE - Long.numberOfLeadingZeros(minor ^ (minor >> 63))) / 8 + 1;
+        out.putInt(Money.SCALE);
+        out.putShort((short) length);
+        for (int i = length - 1; i >= 0; i--) {
+            out.put((byte) (minor >>> (i * 8)));
+        }
+    }
+
+    // 이전 버전이 다른 scale 로 쓴 레코드도 읽을 수 있도록 scale/길이가 다르면 BigDecimal 로 해석
+    static Money getMoney(ByteBuffer in) {
+        int scale = in.getInt();
+        short length = in.getShort();
+        if (scale == Money.SCALE && length > 0 && length <= Long.BYTES) {
+            long minor = in.get(); // 부호 확장
+            for (int i = 1; i < length; i++) {
+                minor = (minor << 8) | (in.get() & 0xFF);
+            }
+            return new Money(minor);
+        }
+        byte[] unscaled = new byte[length];
+        in.get(unscaled);
+        return Money.of(new BigDecimal(new BigInteger(unscaled), scale));
+    }
+
+    // 메모는 길이 제한 없이 들어올 수 있으므로 레코드 한도 안에서 잘라 둔다 (null 은 -1)
+    private static void putString(ByteBuffer out, String value) {
+        if (value == null) {
+            out.putShort((short) -1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        int length = Math.min(bytes.length, out.remaining() - Short.BYTES);
+        out.putShort((short) length);
+        out.put(bytes, 0, length);
+    }
+
+    private static String getString(ByteBuffer in) {
+        short length = in.getShort();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private record Segment(long firstSeq, Path path) {
+    }
+}
@@ -0,0 +1,466 @@
+package com.example.mockbank.application.journal;
+
+import com.example.mockbank.application.cache.AccountSnapshotCache;
+import com.example.mockbank.application.dto.AccountResponse;
+import com.example.mockbank.application.service.TransactionSummaryService;
+import com.example.mockbank.common.enums.BalanceUpdateMode;
+import com.example.mockbank.common.enums.ErrorCode;
+import com.example.mockbank.common.exception.CustomException;
+import com.example.mockbank.domain.account.entity.JournalCheckpoint;
+import com.example.mockbank.domain.account.entity.JournalDeadLetter;
+import com.example.mockbank.domain.account.entity.Transaction;
+import com.example.mockbank.domain.account.enums.TransactionType;
+import com.example.mockbank.domain.account.repository.AccountRepository;
+import com.example.mockbank.domain.account.repository.JournalCheckpointRepository;
+import com.example.mockbank.domain.account.repository.JournalDeadLetterRepository;
+import com.example.mockbank.domain.account.repository.TransactionRepository;
+import com.example.mockbank.domain.account.repository.projection.AccountView;
+import com.example.mockbank.domain.account.vo.Money;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * WRITE_BEHIND 모드 입출금 (mockbank.balance.update-mode=WRITE_BEHIND).
+ * <p>
+ * 요청 경로: 계좌별 락 안에서 잔액 검사 → 로컬 저널 append → 메모리 잔액 갱신, 락 밖에서 저널 fsync 후 응답.
+ * DB 쓰기(거래 INSERT + 잔액 UPDATE + 월간 롤업 + checkpoint)는 flusher 스레드가 모아서 한 트랜잭션으로 그룹 커밋한다.
+ * 재시작 시 checkpoint 이후 저널 레코드를 먼저 DB 에 반영한 뒤에 요청을 받는다.
+ * <p>
+ * 메모리 잔액이 기준이므로 같은 계좌의 입출금은 한 인스턴스로만 들어와야 한다 (userId sticky 라우팅 전제).
+ * 거래 내역/통계 조회는 최대 flush 지연만큼 늦게 보인다.
+ * <p>
+ * 제약 위반(DataIntegrityViolationException)처럼 재시도해도 안 되는 레코드는 배치를 반으로 나눠 가며 찾아낸 뒤
+ * journal_dead_letter 테이블로 격리하고 checkpoint 를 넘긴다 - 한 레코드 때문에 flusher/기동 복구가 멈추지 않도록.
+ * 격리한 금액은 메모리 잔액에서 되돌리고, 그 전에 append 된 같은 계좌 레코드의 balanceAfter 에서도 빼고 반영한다.
+ */
+@Slf4j
+@Service
+@Timed(value = "mockbank.service.account", histogram = true)
+public class WriteBehindBalanceService {
+
+    private static final long SHUTDOWN_WAIT_MILLIS = 30_000L;
+    private static final long MAX_RETRY_DELAY_MILLIS = 5_000L;
+    private static final int MAX_MEMO_LENGTH = 255; // transaction.memo varchar(255)
+
+    private final AccountRepository accountRepository;
+    private final TransactionRepository transactionRepository;
+    private final TransactionSummaryService transactionSummaryService;
+    private final JournalCheckpointRepository checkpointRepository;
+    private final JournalDeadLetterRepository deadLetterRepository;
+    private final AccountSnapshotCache accountSnapshotCache;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Long, AccountState> states = new ConcurrentHashMap<>();
+    // append 순서(seq 순)로 들어오므로 앞에서부터 꺼낸 배치의 마지막 seq 가 곧 checkpoint
+    private final BlockingQueue<JournalRecord> pending = new LinkedBlockingQueue<>();
+    // 격리된 레코드 금액이 들어 있는 채로 append 된 레코드들 (checkpoint 가 지나가면 제거)
+    private final List<BalanceCorrection> corrections = new CopyOnWriteArrayList<>();
+
+    @Value("${mockbank.balance.update-mode:OPTIMISTIC}")
+    private BalanceUpdateMode mode;
+
+    @Value("${mockbank.journal.dir:./data/journal}")
+    private String directory;
+
+    // 인스턴스마다 저널/checkpoint 가 따로 (같은 디렉터리를 두 인스턴스가 쓰면 안 됨)
+    @Value("${mockbank.journal.instance-id:${HOSTNAME:local}}")
+    private String instanceId;
+
+    @Value("${mockbank.journal.segment-size-mb:64}")
+    private int segmentSizeMb;
+
+    @Value("${mockbank.journal.fsync:true}")
+    private boolean fsync;
+
+    @Value("${mockbank.journal.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${mockbank.journal.max-flush-latency-ms:200}")
+    private long maxFlushLatencyMs;
+
+    @Value("${mockbank.journal.max-pending:100000}")
+    private int maxPending;
+
+    private TransactionJournal journal;
+    private Thread flusher;
+    private volatile boolean running;
+    private volatile long checkpointSeq;
+
+    private Timer flushTimer;
+    private Timer flushLatency;
+    private DistributionSummary batchSizes;
+    private Counter slaMisses;
+    private Counter deadLetters;
+
+    public WriteBehindBalanceService(AccountRepository accountRepository,
+                                     TransactionRepository transactionRepository,
+                                     TransactionSummaryService transactionSummaryService,
+                                     JournalCheckpointRepository checkpointRepository,
+                                     JournalDeadLetterRepository deadLetterRepository,
+                                     AccountSnapshotCache accountSnapshotCache,
+                                     MeterRegistry meterRegistry,
+                                     PlatformTransactionManager transactionManager) {
+        this.accountRepository = accountRepository;
+        this.transactionRepository = transactionRepository;
+        this.transactionSummaryService = transactionSummaryService;
+        this.checkpointRepository = checkpointRepository;
+        this.deadLetterRepository = deadLetterRepository;
+        this.accountSnapshotCache = accountSnapshotCache;
+        this.meterRegistry = meterRegistry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public boolean isEnabled() {
+        return mode == BalanceUpdateMode.WRITE_BEHIND;
+    }
+
+    @PostConstruct
+    void start() throws IOException {
+        if (!isEnabled()) {
+            return;
+        }
+        registerMetrics();
+
+        // 1. 저널 복구: checkpoint 이후 레코드를 DB 에 반영하기 전에는 요청을 받지 않는다
+        long checkpoint = checkpointRepository.findById(instanceId).map(JournalCheckpoint::getLastSeq).orElse(0L);
+        List<JournalRecord> replay = new ArrayList<>();
+        journal = TransactionJournal.open(Path.of(directory), segmentSizeMb * 1024 * 1024, fsync, checkpoint, replay);
+        checkpointSeq = checkpoint;
+        deadLetterRepository.findByInstanceNameAndCorrectedThroughSeqGreaterThan(instanceId, checkpoint)
+                .forEach(d -> corrections.add(new BalanceCorrection(d.getAccountId(), d.getSeq(), d.getCorrectedThroughSeq(),
+                        delta(d.getType(), d.getAmount()))));
+        if (!replay.isEmpty()) {
+            log.warn("[WriteBehindBalanceService] 저널 복구: checkpoint={} 이후 {}건 반영", checkpoint, replay.size());
+            // 일시 장애면 예외로 기동 실패 (재기동 시 다시 복구), 제약 위반 레코드는 격리하고 계속
+            for (int from = 0; from < replay.size(); from += Math.max(1, batchSize)) {
+                commitIsolating(replay.subList(from, Math.min(replay.size(), from + Math.max(1, batchSize))));
+            }
+        }
+        journal.truncate(checkpointSeq);
+
+        // 2. 그룹 커미터 시작
+        running = true;
+        flusher = Thread.ofPlatform().name("journal-flusher").start(this::flushLoop);
+        log.info("[WriteBehindBalanceService] WRITE_BEHIND 시작 (dir={}, instance={}, fsync={}, checkpoint={})",
+                directory, instanceId, fsync, checkpointSeq);
+    }
+
+    public AccountResponse deposit(Long userId, Money amount, String memo) {
+        return apply(userId, TransactionType.DEPOSIT, amount, memo);
+    }
+
+    public AccountResponse withdraw(Long userId, Money amount, String memo) {
+        return apply(userId, TransactionType.WITHDRAWAL, amount, memo);
+    }
+
+    // 메모리 잔액 (한 번이라도 입출금/조회로 올라온 계좌만, 아니면 DB 가 최신)
+    public Optional<AccountResponse> find(Long userId) {
+        AccountState state = states.get(userId);
+        return state == null ? Optional.empty() : Optional.of(state.toResponse(state.balance));
+    }
+
+    private AccountResponse apply(Long userId, TransactionType type, Money amount, String memo) {
+        if (!running) {
+            throw new IllegalStateException("WRITE_BEHIND 저널이 동작 중이 아닙니다.");
+        }
+        // DB 반영이 밀리면 메모리/저널만 계속 커지지 않도록 거절
+        if (pending.size() >= maxPending) {
+            throw new CustomException(ErrorCode.CONCURRENT_UPDATE_CONFLICT);
+        }
+        // DB 에 들어갈 수 없는 레코드는 저널에 쓰기 전에 거절 (쓰고 나면 flusher 에서야 실패)
+        if (memo != null && memo.length() > MAX_MEMO_LENGTH) {
+            throw new CustomException(ErrorCode.INVALID_MEMO);
+        }
+        AccountState state = state(userId);
+        JournalRecord record;
+        state.lock.lock();
+        try {
+            Money next = type == TransactionType.DEPOSIT ? state.balance.plus(amount) : state.balance.minus(amount);
+            if (next.isNegative()) {
+                throw new CustomException(ErrorCode.INSUFFICIENT_BALANCE);
+            }
+            record = journal.append(state.accountId, userId, type, amount, next, LocalDateTime.now(), memo, pending::add);
+            state.balance = next;
+        } catch (IOException e) {
+            throw new IllegalStateException("저널 기록 실패", e);
+        } finally {
+            state.lock.unlock();
+        }
+        // 락 밖에서 fsync - 동시에 들어온 요청들이 한 번의 force 를 나눠 쓴다
+        journal.sync(record.seq());
+        return state.toResponse(record.balanceAfter());
+    }
+
+    private AccountState state(Long userId) {
+        AccountState state = states.get(userId);
+        if (state != null) {
+            return state;
+        }
+        // 이 인스턴스에서 처음 보는 계좌 → 아직 반영 안 된 저널이 없으므로 DB 잔액이 최신
+        AccountView account = accountRepository.findViewByUserId(userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.ACCOUNT_NOT_FOUND));
+        AccountState loaded = new AccountState(account.id(), account.userId(), account.accountNumber(), account.balance());
+        AccountState existing = states.putIfAbsent(userId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private void flushLoop() {
+        List<JournalRecord> batch = new ArrayList<>(Math.max(1, batchSize));
+        while (running || !pending.isEmpty()) {
+            try {
+                // 비어 있으면 최대 SLA 만큼만 기다리고, 커밋 중에 쌓인 만큼이 다음 배치가 된다 (그룹 커밋)
+                JournalRecord first = pending.poll(maxFlushLatencyMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                pending.drainTo(batch, Math.max(1, batchSize) - 1);
+                commitWithRetry(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // 일시 장애(커넥션/락 타임아웃 등)는 될 때까지 재시도 - 이미 커밋된 앞부분(checkpoint 이하)은 다시 쓰지 않는다
+    private void commitWithRetry(List<JournalRecord> batch) throws InterruptedException {
+        long delay = 100L;
+        while (true) {
+            List<JournalRecord> remaining = batch.stream().filter(r -> r.seq() > checkpointSeq).toList();
+            if (remaining.isEmpty()) {
+                return;
+            }
+            try {
+                commitIsolating(remaining);
+                return;
+            } catch (Exception e) {
+                log.error("[WriteBehindBalanceService] 그룹 커밋 실패 ({}건, seq {}~{}), {}ms 후 재시도: {}",
+                        remaining.size(), remaining.get(0).seq(), remaining.get(remaining.size() - 1).seq(), delay,
+                        e.getMessage());
+                if (!running) {
+                    // 종료 중이면 포기 - 저널에 남아 있으므로 재시작 시 복구된다
+                    return;
+                }
+                Thread.sleep(delay);
+                delay = Math.min(delay * 2, MAX_RETRY_DELAY_MILLIS);
+            }
+        }
+    }
+
+    // 제약 위반이면 반씩 나눠 다시 커밋 → 끝까지 실패하는 레코드 1건만 격리 (seq 순서 유지)
+    private void commitIsolating(List<JournalRecord> batch) {
+        try {
+            commit(batch);
+        } catch (DataIntegrityViolationException e) {
+            if (batch.size() == 1) {
+                quarantine(batch.get(0), e);
+                return;
+            }
+            int mid = batch.size() / 2;
+            commitIsolating(batch.subList(0, mid));
+            commitIsolating(batch.subList(mid, batch.size()));
+        }
+    }
+
+    // 레코드를 journal_dead_letter 에 남기고 (수동 보정용) checkpoint 를 넘긴 뒤 금액을 잔액에서 되돌린다.
+    // 계좌 락을 잡은 채로 저장 - 지금까지 append 된 같은 계좌 레코드(correctedThroughSeq 이하)만 금액이 들어 있고,
+    // 이후 append 는 되돌린 메모리 잔액에서 시작한다. 저장이 실패하면 아무것도 바꾸지 않고 재시도된다.
+    private void quarantine(JournalRecord record, DataIntegrityViolationException e) {
+        String error = e.getMostSpecificCause().getMessage();
+        log.error("[WriteBehindBalanceService] dead-letter: 반영 불가 레코드 격리 seq={} accountId={} userId={} type={} amount={} "
+                        + "balanceAfter={} createdAt={} memo={}: {}",
+                record.seq(), record.accountId(), record.userId(), record.type(), record.amount(),
+                record.balanceAfter(), record.createdAt(), record.memo(), error);
+        Money delta = delta(record.type(), record.amount());
+        AccountState state = states.get(record.userId());
+        if (state != null) state.lock.lock();
+        try {
+            long correctedThroughSeq = journal.lastWrittenSeq();
+            transactionTemplate.executeWithoutResult(status -> {
+                deadLetterRepository.save(JournalDeadLetter.builder()
+                        .instanceName(instanceId)
+                        .seq(record.seq())
+                        .accountId(record.accountId())
+                        .userId(record.userId())
+                        .type(record.type())
+                        .amount(record.amount())
+                        .balanceAfter(record.balanceAfter())
+                        .createdAt(record.createdAt())
+                        .memo(record.memo())
+                        .error(error == null ? null : error.substring(0, Math.min(error.length(), 1000)))
+                        .correctedThroughSeq(correctedThroughSeq)
+                        .quarantinedAt(LocalDateTime.now())
+                        .build());
+                advanceCheckpoint(record.seq());
+            });
+            corrections.add(new BalanceCorrection(record.accountId(), record.seq(), correctedThroughSeq, delta));
+            if (state != null) state.balance = state.balance.minus(delta);
+        } finally {
+            if (state != null) state.lock.unlock();
+        }
+        if (deadLetters != null) deadLetters.increment();
+        checkpointSeq = record.seq();
+        journal.truncate(record.seq());
+    }
+
+    // 레코드가 잔액에 더한 금액 (입금 +, 출금 -)
+    private static Money delta(TransactionType type, Money amount) {
+        return type == TransactionType.DEPOSIT ? amount : Money.ZERO.minus(amount);
+    }
+
+    // 앞서 격리된 같은 계좌 레코드 금액을 balanceAfter 에서 뺀다
+    private JournalRecord corrected(JournalRecord record) {
+        Money balanceAfter = record.balanceAfter();
+        for (BalanceCorrection correction : corrections) {
+            if (correction.covers(record)) {
+                balanceAfter = balanceAfter.minus(correction.delta());
+            }
+        }
+        return balanceAfter.equals(record.balanceAfter()) ? record : record.withBalanceAfter(balanceAfter);
+    }
+
+    // 배치 = seq 연속 구간. 거래/잔액/롤업/checkpoint 를 한 DB 트랜잭션으로
+    private void commit(List<JournalRecord> batch) {
+        Map<Long, List<Transaction>> byAccount = new LinkedHashMap<>();
+        Map<Long, Money> balances = new HashMap<>();
+        Set<Long> userIds = new HashSet<>();
+        for (JournalRecord appended : batch) {
+            JournalRecord record = corrected(appended);
+            byAccount.computeIfAbsent(record.accountId(), id -> new ArrayList<>()).add(record.toTransaction());
+            balances.put(record.accountId(), record.balanceAfter()); // seq 순이라 마지막 값이 최종 잔액
+            userIds.add(record.userId());
+        }
+        long lastSeq = batch.get(batch.size() - 1).seq();
+
+        long started = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            transactionRepository.bulkInsert(byAccount);
+            accountRepository.bulkUpdateBalances(balances);
+            transactionSummaryService.applyAll(byAccount);
+            advanceCheckpoint(lastSeq);
+            userIds.forEach(accountSnapshotCache::evictAfterCommit);
+        });
+        checkpointSeq = lastSeq;
+        journal.truncate(lastSeq);
+        corrections.removeIf(c -> c.throughSeq() <= lastSeq);
+
+        if (flushTimer != null) {
+            flushTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            batchSizes.record(batch.size());
+            Duration oldest = Duration.between(batch.get(0).createdAt(), LocalDateTime.now());
+            flushLatency.record(oldest);
+            if (oldest.toMillis() > maxFlushLatencyMs) slaMisses.increment();
+        }
+    }
+
+    private void advanceCheckpoint(long lastSeq) {
+        JournalCheckpoint checkpoint = checkpointRepository.findById(instanceId)
+                .orElseGet(() -> JournalCheckpoint.builder()
+                        .name(instanceId)
+                        .lastSeq(0L)
+                        .updatedAt(LocalDateTime.now())
+                        .build());
+        checkpoint.advance(lastSeq);
+        checkpointRepository.save(checkpoint);
+    }
+
+    private void registerMetrics() {
+        flushTimer = Timer.builder("mockbank.journal.flush")
+                .description("그룹 커밋 DB 트랜잭션 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        flushLatency = Timer.builder("mockbank.journal.flush.latency")
+                .description("저널 append → DB 커밋까지 (배치에서 가장 오래된 레코드 기준)")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        batchSizes = DistributionSummary.builder("mockbank.journal.flush.batch")
+                .description("그룹 커밋 1회당 레코드 수")
+                .register(meterRegistry);
+        slaMisses = Counter.builder("mockbank.journal.flush.sla.miss")
+                .description("max-flush-latency-ms 를 넘긴 그룹 커밋 수")
+                .register(meterRegistry);
+        deadLetters = Counter.builder("mockbank.journal.dead.letter")
+                .description("제약 위반으로 DB 에 반영하지 못하고 격리한 저널 레코드 수")
+                .register(meterRegistry);
+        Gauge.builder("mockbank.journal.pending", pending, Collection::size)
+                .description("DB 반영 대기 레코드 수")
+                .register(meterRegistry);
+        Gauge.builder("mockbank.journal.checkpoint.lag", this,
+                        s -> s.journal == null ? 0 : s.journal.lastWrittenSeq() - s.checkpointSeq)
+                .description("저널 마지막 seq - DB checkpoint seq")
+                .register(meterRegistry);
+    }
+
+    // 남은 레코드를 모두 커밋하고 종료 (시간 안에 못 끝내면 다음 기동 때 저널에서 복구)
+    @PreDestroy
+    void stop() {
+        if (!isEnabled() || journal == null) {
+            return;
+        }
+        running = false;
+        if (flusher != null) {
+            try {
+                flusher.join(SHUTDOWN_WAIT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        journal.close();
+        log.info("[WriteBehindBalanceService] 종료 (checkpoint={}, 미반영 {}건)", checkpointSeq, pending.size());
+    }
+
+    // afterSeq 초과 ~ throughSeq 이하의 accountId 레코드는 balanceAfter 에 delta 가 들어 있다
+    private record BalanceCorrection(long accountId, long afterSeq, long throughSeq, Money delta) {
+
+        boolean covers(JournalRecord record) {
+            return record.accountId() == accountId && record.seq() > afterSeq && record.seq() <= throughSeq;
+        }
+    }
+
+    private static final class AccountState {
+        final ReentrantLock lock = new ReentrantLock();
+        final Long accountId;
+        final Long userId;
+        final String accountNumber;
+        volatile Money balance; // lock 안에서만 변경
+
+        AccountState(Long accountId, Long userId, String accountNumber, Money balance) {
+            this.accountId = accountId;
+            this.userId = userId;
+            this.accountNumber = accountNumber;
+            this.balance = balance;
+        }
+
+        AccountResponse toResponse(Money balance) {
+            return new AccountResponse(accountId, userId, accountNumber, balance.toBigDecimal());
+        }
+    }
+}
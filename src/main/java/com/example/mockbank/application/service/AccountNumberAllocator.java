@@ -0,0 +1,194 @@
+package com.example.mockbank.application.service;
+
+import com.example.mockbank.application.dto.AccountCreateRequest;
+import com.example.mockbank.domain.account.entity.AccountNumberSequence;
+import com.example.mockbank.domain.account.repository.AccountNumberSequenceRepository;
+import com.example.mockbank.domain.account.repository.AccountRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 계좌번호 발급기 (REST/SQS/대량 프로비저닝 공용).
+ * <p>
+ * DB 시퀀스(account_number_sequence)에서 카운터를 block-size 개씩 예약하고,
+ * 카운터를 Feistel 치환으로 섞어 9자리 본문을 만든 뒤 Luhn 체크 숫자 1자리를 붙인다 (총 10자리).
+ * 치환은 전단사라서 카운터가 겹치지 않는 한 번호도 겹치지 않는다 → 발급마다 DB 중복 조회가 필요 없다.
+ * 예전 랜덤 방식으로 발급된 번호와의 충돌만 블록 예약 시 한 번의 IN 조회로 걸러낸다.
+ * <p>
+ * feistel-key 를 바꾸면 이미 발급한 번호와 겹칠 수 있으므로 운영 중에는 바꾸지 않는다.
+ * <p>
+ * 블록 예약은 별도 커넥션(REQUIRES_NEW)을 쓰므로 반드시 트랜잭션 밖에서 호출한다.
+ * 커넥션을 잡은 스레드들이 lock 뒤에서 예약을 기다리면 풀이 포화됐을 때 예약 트랜잭션이 커넥션을 못 얻어 교착된다.
+ */
+@Slf4j
+@Component
+public class AccountNumberAllocator {
+
+    static final String SEQUENCE_NAME = "account-number";
+
+    // 본문 공간 = 30000 x 30000 = 9억 (100000000 ~ 999999999, 첫 자리 0 없음)
+    private static final long HALF = 30_000L;
+    static final long CAPACITY = HALF * HALF;
+    private static final long BODY_OFFSET = 100_000_000L;
+    private static final int ROUNDS = 4;
+
+    private final AccountNumberSequenceRepository sequenceRepository;
+    private final AccountRepository accountRepository;
+    private final TransactionTemplate requiresNew;
+    private final Deque<String> pool = new ArrayDeque<>();
+    // synchronized 대신 Lock - 블록 예약(DB I/O) 중 가상 스레드가 캐리어 스레드를 점유(pinning)하지 않도록
+    private final ReentrantLock lock = new ReentrantLock();
+
+    @Value("${mockbank.account-number.block-size:1000}")
+    private int blockSize;
+
+    @Value("${mockbank.account-number.feistel-key:7046029254386353131}")
+    private long feistelKey;
+
+    public AccountNumberAllocator(AccountNumberSequenceRepository sequenceRepository,
+                                  AccountRepository accountRepository,
+                                  PlatformTransactionManager transactionManager) {
+        this.sequenceRepository = sequenceRepository;
+        this.accountRepository = accountRepository;
+        // 호출한 쪽 트랜잭션이 롤백돼도 예약한 블록은 돌려주지 않는다 (번호가 비는 것은 허용)
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // 요청에 번호가 없으면 발급 (계좌 생성 트랜잭션을 열기 전에)
+    public void assignIfMissing(AccountCreateRequest request) {
+        if (request.getAccountNumber() == null || request.getAccountNumber().isBlank()) {
+            request.setAccountNumber(next());
+        }
+    }
+
+    public String next() {
+        lock.lock();
+        try {
+            if (pool.isEmpty()) {
+                refill();
+            }
+            return pool.poll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public List<String> next(int count) {
+        lock.lock();
+        try {
+            List<String> numbers = new ArrayList<>(count);
+            while (numbers.size() < count) {
+                if (pool.isEmpty()) {
+                    refill();
+                }
+                numbers.add(pool.poll());
+            }
+            return numbers;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void refill() {
+        int size = Math.max(1, blockSize);
+        long start = reserveBlock(size);
+        if (start + size > CAPACITY) {
+            throw new IllegalStateException("계좌번호 공간 소진 (counter=" + start + ")");
+        }
+
+        List<String> block = new ArrayList<>(size);
+        for (long counter = start; counter < start + size; counter++) {
+            block.add(format(counter, feistelKey));
+        }
+        Set<String> taken = accountRepository.findExistingAccountNumbers(block);
+        if (!taken.isEmpty()) {
+            log.info("[AccountNumberAllocator] 기존 번호와 겹치는 {}건 제외", taken.size());
+        }
+        for (String number : block) {
+            if (!taken.contains(number)) pool.add(number);
+        }
+        log.debug("[AccountNumberAllocator] 카운터 블록 예약 [{}, {})", start, start + size);
+    }
+
+    private long reserveBlock(int size) {
+        try {
+            return doReserveBlock(size);
+        } catch (DataIntegrityViolationException e) {
+            // 시퀀스 행 최초 생성이 다른 인스턴스와 겹친 경우 → 이미 생긴 행으로 다시 예약
+            return doReserveBlock(size);
+        }
+    }
+
+    private long doReserveBlock(int size) {
+        Long start = requiresNew.execute(status -> sequenceRepository.findForUpdate(SEQUENCE_NAME)
+                .orElseGet(() -> sequenceRepository.saveAndFlush(AccountNumberSequence.builder()
+                        .name(SEQUENCE_NAME)
+                        .nextValue(0L)
+                        .build()))
+                .reserve(size));
+        return start == null ? 0L : start;
+    }
+
+    // 카운터 → 10자리 계좌번호
+    static String format(long counter, long key) {
+        long body = BODY_OFFSET + permute(counter, key);
+        return Long.toString(body) + luhnCheckDigit(body);
+    }
+
+    // [0, CAPACITY) 위의 전단사 치환 (HALF x HALF 균형 Feistel)
+    static long permute(long value, long key) {
+        long left = value / HALF;
+        long right = value % HALF;
+        for (int round = 0; round < ROUNDS; round++) {
+            long next = (left + roundFunction(right, key, round)) % HALF;
+            left = right;
+            right = next;
+        }
+        return left * HALF + right;
+    }
+
+    // 라운드 함수 (SplitMix64 finalizer) → [0, HALF)
+    private static long roundFunction(long half, long key, int round) {
+        long z = half + key + round * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return Math.floorMod(z ^ (z >>> 31), HALF);
+    }
+
+    static int luhnCheckDigit(long payload) {
+        int sum = 0;
+        boolean doubleIt = true; // 체크 숫자 바로 왼쪽 자리부터 2배
+        while (payload > 0) {
+            int digit = (int) (payload % 10);
+            if (doubleIt) {
+                digit *= 2;
+                if (digit > 9) digit -= 9;
+            }
+            sum += digit;
+            doubleIt = !doubleIt;
+            payload /= 10;
+        }
+        return (10 - sum % 10) % 10;
+    }
+
+    public static boolean isValid(String accountNumber) {
+        if (accountNumber == null || !accountNumber.matches("\\d{10}")) {
+            return false;
+        }
+        long payload = Long.parseLong(accountNumber.substring(0, 9));
+        return luhnCheckDigit(payload) == accountNumber.charAt(9) - '0';
+    }
+}
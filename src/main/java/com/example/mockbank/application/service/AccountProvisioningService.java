@@ -0,0 +1,306 @@
+package com.example.mockbank.application.service;
+
+import com.example.mockbank.application.dto.AccountBulkCreateRequest;
+import com.example.mockbank.application.dto.AccountCreateRequest;
+import com.example.mockbank.application.dto.BulkProvisionProgress;
+import com.example.mockbank.common.enums.ErrorCode;
+import com.example.mockbank.common.enums.HistoryMode;
+import com.example.mockbank.common.exception.CustomException;
+import com.example.mockbank.domain.account.entity.Account;
+import com.example.mockbank.domain.account.entity.Transaction;
+import com.example.mockbank.domain.account.enums.HistoryStatus;
+import com.example.mockbank.domain.account.repository.AccountRepository;
+import com.example.mockbank.domain.account.repository.TransactionRepository;
+import com.example.mockbank.domain.account.vo.Money;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+
+/**
+ * 부하 테스트용 대량 계좌 프로비저닝.
+ * <p>
+ * 요청을 chunk-size 단위로 나눠서
+ * 1) 이미 있는 userId 는 건너뛰고
+ * 2) 거래 내역 생성은 generator-threads 로 병렬 (CPU)
+ * 3) 계좌/거래/월간 롤업 INSERT 는 chunk 당 트랜잭션 하나, JDBC 배치로 (writer-threads 개 커넥션)
+ * 생성과 쓰기가 파이프라인으로 겹치고, 메모리에 올라가는 chunk 는 writer-threads * 2 개로 제한한다.
+ * chunk 가 실패해도 이전 chunk 는 커밋된 상태로 남고 실패 건수로 집계된다 (재실행 시 생성된 userId 는 skip).
+ * 초기 내역은 단건 생성(AccountService.createAccount)과 같이 mockbank.history.mode 를 따른다
+ * (LAZY/VIRTUAL 은 seed + 잔액만 저장하고 거래/롤업 INSERT 없음).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AccountProvisioningService {
+
+    private final AccountRepository accountRepository;
+    private final TransactionRepository transactionRepository;
+    private final TransactionSummaryService transactionSummaryService;
+    private final TransactionHistoryGenerator transactionHistoryGenerator;
+    private final AccountNumberAllocator accountNumberAllocator;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${mockbank.provisioning.chunk-size:500}")
+    private int chunkSize;
+
+    // 0 이면 CPU 코어 수
+    @Value("${mockbank.provisioning.generator-threads:0}")
+    private int generatorThreads;
+
+    @Value("${mockbank.provisioning.writer-threads:2}")
+    private int writerThreads;
+
+    @Value("${mockbank.provisioning.max-count:200000}")
+    private int maxCount;
+
+    @Value("${mockbank.history.mode:EAGER}")
+    private HistoryMode historyMode;
+
+    // 스트리밍 시작 전에 호출 (응답 헤더가 나가기 전에 400 으로 끊기 위함)
+    public void validate(AccountBulkCreateRequest request) {
+        boolean listMode = request.getAccounts() != null && !request.getAccounts().isEmpty();
+        boolean countMode = request.getCount() != null;
+        if (listMode == countMode) {
+            throw new CustomException(ErrorCode.INVALID_BULK_REQUEST);
+        }
+        int total = listMode ? request.getAccounts().size() : request.getCount();
+        if (total > maxCount) {
+            throw new CustomException(ErrorCode.INVALID_BULK_REQUEST);
+        }
+        if (listMode) {
+            Set<Long> userIds = new HashSet<>();
+            for (AccountCreateRequest account : request.getAccounts()) {
+                if (!userIds.add(account.getUserId())) {
+                    throw new CustomException(ErrorCode.INVALID_BULK_REQUEST); // 요청 안에서 userId 중복
+                }
+            }
+        } else if (request.getStartUserId() == null) {
+            throw new CustomException(ErrorCode.INVALID_BULK_REQUEST);
+        }
+    }
+
+    public BulkProvisionProgress provision(AccountBulkCreateRequest request, Consumer<BulkProvisionProgress> progress) {
+        validate(request);
+        int total = request.getAccounts() != null && !request.getAccounts().isEmpty()
+                ? request.getAccounts().size()
+                : request.getCount();
+        int writers = Math.max(1, writerThreads);
+        int generators = generatorThreads > 0 ? generatorThreads : Runtime.getRuntime().availableProcessors();
+        // 저장된 값(datetime(6))으로 다시 생성해도 같은 내역이 나오도록 마이크로초까지만
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        Tally tally = new Tally(total, System.nanoTime());
+
+        log.info("[AccountProvisioningService] 대량 프로비저닝 시작: {}건 (chunk={}, generators={}, writers={}, history={})",
+                total, chunkSize, generators, writers, historyMode);
+
+        ExecutorService generatorPool = Executors.newFixedThreadPool(generators,
+                Thread.ofPlatform().name("provision-gen-", 0).factory());
+        ExecutorService writerPool = Executors.newFixedThreadPool(writers,
+                Thread.ofPlatform().name("provision-write-", 0).factory());
+        Semaphore window = new Semaphore(writers * 2);
+        BlockingQueue<ChunkResult> completed = new LinkedBlockingQueue<>();
+        int submitted = 0;
+        try {
+            for (int from = 0; from < total; from += Math.max(1, chunkSize)) {
+                List<AccountCreateRequest> chunk = chunk(request, from, Math.min(total, from + Math.max(1, chunkSize)));
+                while (!window.tryAcquire(200, TimeUnit.MILLISECONDS)) {
+                    drain(completed, tally, progress);
+                }
+
+                Set<Long> existing = accountRepository.findExistingUserIds(chunk.stream().map(AccountCreateRequest::getUserId).toList());
+                List<AccountCreateRequest> fresh = chunk.stream().filter(r -> !existing.contains(r.getUserId())).toList();
+                int requested = chunk.size();
+                int skipped = requested - fresh.size();
+
+                generate(fresh, request.getSeed(), now, generators, generatorPool)
+                        .thenApplyAsync(this::write, writerPool)
+                        .handle((txCount, e) -> {
+                            if (e != null) {
+                                log.error("프로비저닝 chunk 실패 ({}건): {}", fresh.size(), e.getMessage(), e);
+                                return new ChunkResult(requested, 0, skipped, fresh.size(), 0L);
+                            }
+                            return new ChunkResult(requested, fresh.size(), skipped, 0, txCount);
+                        })
+                        .thenAccept(result -> {
+                            completed.add(result);
+                            window.release();
+                        });
+                submitted++;
+                drain(completed, tally, progress);
+            }
+            while (tally.chunks < submitted) {
+                tally.add(completed.take());
+                progress.accept(tally.snapshot(false));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("[AccountProvisioningService] 프로비저닝 중단됨 ({}/{})", tally.processed, total);
+        } finally {
+            generatorPool.shutdownNow();
+            writerPool.shutdownNow();
+        }
+
+        BulkProvisionProgress result = tally.snapshot(true);
+        progress.accept(result);
+        log.info("[AccountProvisioningService] 대량 프로비저닝 완료: 생성 {} / skip {} / 실패 {}, 거래 {}건, {}ms",
+                result.getCreated(), result.getSkipped(), result.getFailed(), result.getTransactions(), result.getElapsedMs());
+        return result;
+    }
+
+    private void drain(BlockingQueue<ChunkResult> completed, Tally tally, Consumer<BulkProvisionProgress> progress) {
+        ChunkResult result;
+        while ((result = completed.poll()) != null) {
+            tally.add(result);
+            progress.accept(tally.snapshot(false));
+        }
+    }
+
+    // chunk 안의 계좌들을 generator 스레드 수만큼 나눠서 생성
+    private CompletableFuture<List<Prepared>> generate(List<AccountCreateRequest> requests, Long seed,
+                                                        LocalDateTime now, int parallelism, Executor pool) {
+        if (requests.isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+        int sliceSize = (requests.size() + parallelism - 1) / parallelism;
+        List<CompletableFuture<List<Prepared>>> slices = new ArrayList<>();
+        for (int from = 0; from < requests.size(); from += sliceSize) {
+            List<AccountCreateRequest> slice = requests.subList(from, Math.min(requests.size(), from + sliceSize));
+            slices.add(CompletableFuture.supplyAsync(() -> slice.stream().map(r -> prepare(r, seed, now)).toList(), pool));
+        }
+        return CompletableFuture.allOf(slices.toArray(CompletableFuture[]::new))
+                .thenApply(v -> slices.stream().flatMap(f -> f.join().stream()).toList());
+    }
+
+    private Prepared prepare(AccountCreateRequest request, Long seed, LocalDateTime now) {
+        long accountSeed = seed == null
+                ? ThreadLocalRandom.current().nextLong()
+                : mix(seed, request.getUserId());
+        // 계좌 id 는 INSERT 후에 정해지므로 거래는 계좌 없이 만들고 accountId 로 묶어서 저장
+        TransactionHistoryGenerator.GeneratedHistory history =
+                transactionHistoryGenerator.generate(null, Money.ofNullable(request.getSalary()), accountSeed, now);
+        // LAZY/VIRTUAL 은 잔액만 쓰고 거래 목록은 chunk 가 쓰일 때까지 들고 있지 않는다
+        List<Transaction> transactions = historyMode == HistoryMode.EAGER ? history.transactions() : List.of();
+        return new Prepared(request, accountSeed, now, history.finalBalance(), transactions);
+    }
+
+    // chunk 하나 = 트랜잭션 하나. 반환값은 저장한 거래 수
+    private long write(List<Prepared> prepared) {
+        if (prepared.isEmpty()) {
+            return 0L;
+        }
+        HistoryStatus historyStatus = switch (historyMode) {
+            case EAGER -> HistoryStatus.MATERIALIZED;
+            case LAZY -> HistoryStatus.PENDING;
+            case VIRTUAL -> HistoryStatus.VIRTUAL;
+        };
+        Long txCount = transactionTemplate.execute(status -> {
+            LocalDateTime createdAt = LocalDateTime.now();
+            List<Account> accounts = new ArrayList<>(prepared.size());
+            for (Prepared p : prepared) {
+                accounts.add(Account.builder()
+                        .accountNumber(p.request().getAccountNumber())
+                        .userId(p.request().getUserId())
+                        .userName(p.request().getUserName())
+                        .salary(Money.ofNullable(p.request().getSalary()))
+                        .balance(p.balance())
+                        .historySeed(p.historySeed())
+                        .historyBaseTime(p.historyBaseTime())
+                        .historyStatus(historyStatus)
+                        .createdAt(createdAt)
+                        .updatedAt(createdAt)
+                        .build());
+            }
+            accountRepository.bulkInsert(accounts);
+            if (historyMode != HistoryMode.EAGER) {
+                return 0L;
+            }
+
+            Map<Long, Long> accountIds = accountRepository.findIdsByUserIds(
+                    prepared.stream().map(p -> p.request().getUserId()).toList());
+            Map<Long, List<Transaction>> byAccountId = new LinkedHashMap<>();
+            long count = 0;
+            for (Prepared p : prepared) {
+                byAccountId.put(accountIds.get(p.request().getUserId()), p.transactions());
+                count += p.transactions().size();
+            }
+            transactionRepository.bulkInsert(byAccountId);
+            transactionSummaryService.applyAll(byAccountId);
+            return count;
+        });
+        return txCount == null ? 0L : txCount;
+    }
+
+    private List<AccountCreateRequest> chunk(AccountBulkCreateRequest request, int from, int to) {
+        if (request.getAccounts() != null && !request.getAccounts().isEmpty()) {
+            List<AccountCreateRequest> chunk = request.getAccounts().subList(from, to);
+            chunk.forEach(accountNumberAllocator::assignIfMissing);
+            return chunk;
+        }
+        List<String> accountNumbers = accountNumberAllocator.next(to - from);
+        List<AccountCreateRequest> chunk = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            long userId = request.getStartUserId() + i;
+            AccountCreateRequest r = new AccountCreateRequest();
+            r.setUserId(userId);
+            r.setUserName("모의유저" + userId);
+            r.setAccountNumber(accountNumbers.get(i - from));
+            r.setSalary(request.getSalary());
+            chunk.add(r);
+        }
+        return chunk;
+    }
+
+    // (seed, userId) → 계좌별 seed (SplitMix64 finalizer)
+    private static long mix(long seed, long userId) {
+        long z = seed + userId * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private record Prepared(AccountCreateRequest request, long historySeed, LocalDateTime historyBaseTime,
+                            Money balance, List<Transaction> transactions) {
+    }
+
+    private record ChunkResult(int requested, int created, int skipped, int failed, long transactions) {
+    }
+
+    // 진행 상황 누적 (요청 스레드에서만 갱신)
+    private static class Tally {
+        final int total;
+        final long startedNanos;
+        int chunks;
+        int processed;
+        int created;
+        int skipped;
+        int failed;
+        long transactions;
+
+        Tally(int total, long startedNanos) {
+            this.total = total;
+            this.startedNanos = startedNanos;
+        }
+
+        void add(ChunkResult result) {
+            chunks++;
+            processed += result.requested();
+            created += result.created();
+            skipped += result.skipped();
+            failed += result.failed();
+            transactions += result.transactions();
+        }
+
+        BulkProvisionProgress snapshot(boolean done) {
+            return new BulkProvisionProgress(total, processed, created, skipped, failed, transactions,
+                    (System.nanoTime() - startedNanos) / 1_000_000, done);
+        }
+    }
+}
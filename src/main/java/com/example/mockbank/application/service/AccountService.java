@@ -1,180 +1,205 @@
 package com.example.mockbank.application.service;
 
+import com.example.mockbank.application.cache.AccountSnapshotCache;
 import com.example.mockbank.application.dto.*;
+import com.example.mockbank.common.enums.BalanceUpdateMode;
+import com.example.mockbank.common.enums.HistoryMode;
+import com.example.mockbank.common.enums.StatBucket;
+import com.example.mockbank.config.ReplicaRoutingDataSource;
 import com.example.mockbank.domain.account.entity.Account;
+import com.example.mockbank.domain.account.entity.MonthlyTransactionSummary;
 import com.example.mockbank.domain.account.entity.Transaction;
+import com.example.mockbank.domain.account.enums.HistoryStatus;
 import com.example.mockbank.domain.account.enums.TransactionType;
 import com.example.mockbank.domain.account.repository.AccountRepository;
 import com.example.mockbank.domain.account.repository.TransactionRepository;
+import com.example.mockbank.domain.account.repository.projection.TransactionPeriodStat;
+import com.example.mockbank.domain.account.repository.projection.TransactionView;
+import com.example.mockbank.domain.account.vo.Money;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import com.example.mockbank.common.enums.ErrorCode;
 import com.example.mockbank.common.exception.CustomException;
 import org.springframework.transaction.annotation.Transactional;
 
 
-import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Random;
-import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
+@Timed(value = "mockbank.service.account", histogram = true) // class/method 태그로 메서드별 구분
 public class AccountService {
 
+    // 거래 내역 정렬 키 (createdAt desc, id desc) - 키셋 커서와 같은 순서
+    private static final Comparator<TransactionView> NEWEST_FIRST =
+            Comparator.comparing(TransactionView::createdAt).thenComparing(TransactionView::id).reversed();
+
     private final AccountRepository accountRepository;
     private final TransactionRepository transactionRepository;
+    private final TransactionSummaryService transactionSummaryService;
+    private final AccountSnapshotCache accountSnapshotCache;
+    private final TransactionHistoryGenerator transactionHistoryGenerator;
+    private final VirtualTransactionHistory virtualTransactionHistory;
+
+    @Value("${mockbank.balance.update-mode:OPTIMISTIC}")
+    private BalanceUpdateMode balanceUpdateMode;
+
+    @Value("${mockbank.history.mode:EAGER}")
+    private HistoryMode historyMode;
+
+    @Value("${mockbank.transactions.default-page-size:20}")
+    private int defaultPageSize;
+
+    @Value("${mockbank.transactions.max-page-size:100}")
+    private int maxPageSize;
+
+    @Value("${mockbank.stats.max-points:1000}")
+    private int maxSeriesPoints;
 
     @Transactional
     public AccountResponse createAccount(AccountCreateRequest request) {
-        BigDecimal salary = request.getSalary();
-        boolean isSalaryRandom = false;
-        if (salary == null) {
-            isSalaryRandom = true;
+        Money salary = Money.ofNullable(request.getSalary());
+        String accountNumber = request.getAccountNumber();
+        if (accountNumber == null || accountNumber.isBlank()) {
+            // 트랜잭션 안에서 발급하면 블록 예약이 커넥션을 하나 더 잡는다 → 호출한 쪽이 AccountNumberAllocator 로 먼저 발급
+            throw new IllegalStateException("계좌번호는 트랜잭션 밖에서 먼저 발급해야 합니다. (userId=" + request.getUserId() + ")");
+        }
+        // seed + 기준 시각을 저장해 두면 언제든 같은 초기 내역을 다시 만들 수 있다
+        long historySeed = ThreadLocalRandom.current().nextLong();
+        // DB(datetime(6))에 저장된 값으로 다시 생성해도 같은 시각이 나오도록 마이크로초까지만
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+
+        // 값이 없으면(설정 누락) EAGER 와 같게
+        if (historyMode == HistoryMode.LAZY || historyMode == HistoryMode.VIRTUAL) {
+            // 잔액만 메모리에서 계산하고 INSERT 1번으로 끝
+            // LAZY: 내역은 첫 조회/filler 가 같은 seed 로 저장 / VIRTUAL: 저장하지 않고 조회 때마다 계산
+            Money balance = transactionHistoryGenerator.generate(null, salary, historySeed, now).finalBalance();
+            HistoryStatus status = historyMode == HistoryMode.LAZY ? HistoryStatus.PENDING : HistoryStatus.VIRTUAL;
+            Account account = accountRepository.save(newAccount(request, accountNumber, salary, balance, historySeed, now, status));
+            return AccountResponse.from(account);
         }
 
-        Account account = Account.builder()
-                .accountNumber(request.getAccountNumber())
-                .userId(request.getUserId())
-                .userName(request.getUserName())
-                .salary(salary) // null 가능!
-                .balance(BigDecimal.ZERO)
-                .createdAt(LocalDateTime.now())
-                .updatedAt(LocalDateTime.now())
-                .build();
-        account = accountRepository.save(account);
+        Account account = accountRepository.save(
+                newAccount(request, accountNumber, salary, Money.ZERO, historySeed, now, HistoryStatus.MATERIALIZED));
 
-        List<Transaction> transactions = generateInitialTransactions(account, salary, isSalaryRandom);
-        transactionRepository.saveAll(transactions);
+        TransactionHistoryGenerator.GeneratedHistory history =
+                transactionHistoryGenerator.generate(account, salary, historySeed, now);
+        List<Transaction> transactions = history.transactions();
+        long started = System.nanoTime();
+        transactionRepository.bulkInsert(account.getId(), transactions);
+        transactionSummaryService.applyAll(account.getId(), transactions);
+        log.debug("[AccountService] 초기 거래 {}건 저장 {}ms (userId={})",
+                transactions.size(), (System.nanoTime() - started) / 1_000_000, account.getUserId());
 
-        // balance 재계산 (최신 거래까지)
-        BigDecimal balance = BigDecimal.ZERO;
-        for (Transaction tx : transactions.stream().sorted(Comparator.comparing(Transaction::getCreatedAt)).toList()) {
-            if (tx.getType() == TransactionType.DEPOSIT) balance = balance.add(tx.getAmount());
-            else balance = balance.subtract(tx.getAmount());
-            if (balance.compareTo(BigDecimal.ZERO) < 0) balance = BigDecimal.ZERO;
-        }
-        account.updateBalance(balance);
+        // 생성 시 함께 계산된 최종 잔액 (이미 시간순이라 재정렬/재계산 없음)
+        account.updateBalance(history.finalBalance());
         accountRepository.save(account);
+        accountSnapshotCache.evictAfterCommit(account.getUserId());
 
         return AccountResponse.from(account);
     }
 
-
-    private List<Transaction> generateInitialTransactions(Account account, BigDecimal salary, boolean isSalaryRandom) {
-        List<Transaction> all = new ArrayList<>();
-        Random rand = new Random();
-        LocalDateTime now = LocalDateTime.now();
-        int currentDay = now.getDayOfMonth();
-        int monthCount = rand.nextInt(27) + 10; // 10~36개월
-        BigDecimal currentBalance = BigDecimal.ZERO;
-
-        for (int i = monthCount - 1; i >= 0; i--) {
-            LocalDateTime month = now.minusMonths(i);
-            int lastDay = month.toLocalDate().lengthOfMonth();
-            boolean isCurrentMonth = (i == 0);
-            int txCount = isCurrentMonth ? Math.max(1, currentDay / 2) : rand.nextInt(11) + 10;
-
-            List<Integer> daysPool = new ArrayList<>();
-            for (int d = 1; d <= lastDay; d++) daysPool.add(d);
-            daysPool.remove(Integer.valueOf(lastDay));
-            java.util.Collections.shuffle(daysPool);
-
-            List<Integer> sortedDays = daysPool.subList(0, Math.min(txCount - 1, daysPool.size()));
-            java.util.Collections.sort(sortedDays);
-
-            // 거래 생성
-            for (int day : sortedDays) {
-                LocalDateTime txDate = month.withDayOfMonth(day).withHour(rand.nextInt(10) + 8);
-                if (isCurrentMonth && txDate.getDayOfMonth() >= currentDay) continue;
-                TransactionType type = rand.nextBoolean() ? TransactionType.DEPOSIT : TransactionType.WITHDRAWAL;
-                BigDecimal amount = BigDecimal.valueOf(rand.nextInt(700_001));
-                if (amount.compareTo(BigDecimal.ZERO) == 0) amount = BigDecimal.valueOf(1000);
-                if (type == TransactionType.WITHDRAWAL && currentBalance.compareTo(amount) < 0) continue;
-                String memo = type == TransactionType.DEPOSIT ? "입금" : "출금";
-                String desc = type == TransactionType.DEPOSIT ? "입금" : "출금";
-
-                Transaction tx = Transaction.builder()
-                        .account(account)
-                        .amount(amount)
-                        .type(type)
-                        .memo(memo)
-                        .description(desc)
-                        .createdAt(txDate)
-                        .build();
-
-                all.add(tx);
-                if (type == TransactionType.DEPOSIT) currentBalance = currentBalance.add(amount);
-                else currentBalance = currentBalance.subtract(amount);
-            }
-
-            // 월급/수입 (월 말일)
-            LocalDateTime salaryDate = month.withDayOfMonth(lastDay).withHour(rand.nextInt(10) + 8);
-            boolean shouldAddSalary = !(isCurrentMonth && lastDay > currentDay);
-            if (shouldAddSalary) {
-                BigDecimal monthSalary = salary;
-                String memo = "월급";
-                if (isSalaryRandom) {
-                    // 매달 200~500만 랜덤
-                    monthSalary = BigDecimal.valueOf(rand.nextInt(301) + 200)
-                            .multiply(BigDecimal.valueOf(10000));
-                    memo = "수입";
-                }
-                Transaction tx = Transaction.builder()
-                        .account(account)
-                        .amount(monthSalary)
-                        .type(TransactionType.DEPOSIT)
-                        .memo(memo)
-                        .description("입금")
-                        .createdAt(salaryDate)
-                        .build();
-                all.add(tx);
-                currentBalance = currentBalance.add(monthSalary);
-            }
-        }
-        all.sort(Comparator.comparing(Transaction::getCreatedAt));
-        return all;
+    private static Account newAccount(AccountCreateRequest request, String accountNumber, Money salary, Money balance,
+                                      long historySeed, LocalDateTime now, HistoryStatus historyStatus) {
+        return Account.builder()
+                .accountNumber(accountNumber)
+                .userId(request.getUserId())
+                .userName(request.getUserName())
+                .salary(salary) // null 가능!
+                .balance(balance)
+                .historySeed(historySeed)
+                .historyBaseTime(now)
+                .historyStatus(historyStatus)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
     }
 
 
-
+    @Retryable(
+            retryFor = OptimisticLockingFailureException.class,
+            maxAttemptsExpression = "${mockbank.balance.max-attempts:5}",
+            backoff = @Backoff(delayExpression = "${mockbank.balance.retry-delay-ms:10}", multiplier = 2.0, maxDelay = 200, random = true)
+    )
     @Transactional
     public AccountResponse deposit(Long userId, DepositRequest request) {
-        Account account = accountRepository.getOrThrowByUserId(userId);
-
-        account.deposit(request.getAmount());
-        accountRepository.save(account);
+        Money amount = Money.of(request.getAmount());
+        Account account;
+        if (balanceUpdateMode == BalanceUpdateMode.ATOMIC) {
+            if (accountRepository.increaseBalance(userId, amount.toBigDecimal(), LocalDateTime.now()) == 0) {
+                throw new CustomException(ErrorCode.ACCOUNT_NOT_FOUND);
+            }
+            account = accountRepository.getLatestOrThrowByUserId(userId); // 갱신된 잔액 재조회 (행 락 보유 중)
+        } else {
+            account = accountRepository.getLatestOrThrowByUserId(userId);
+            account.deposit(amount);
+            accountRepository.save(account);
+        }
 
         Transaction tx = Transaction.builder()
                 .account(account)
-                .amount(request.getAmount())
+                .amount(amount)
                 .type(TransactionType.DEPOSIT)
                 .memo(request.getMemo())
                 .description("입금")
                 .createdAt(LocalDateTime.now())
+                .balanceAfter(account.getBalance()) // 행 락/버전 검사로 직렬화된 갱신 후 잔액
                 .build();
         transactionRepository.save(tx);
+        transactionSummaryService.apply(account.getId(), tx);
+        accountSnapshotCache.evictAfterCommit(userId);
 
         return AccountResponse.from(account);
     }
 
+    @Retryable(
+            retryFor = OptimisticLockingFailureException.class,
+            maxAttemptsExpression = "${mockbank.balance.max-attempts:5}",
+            backoff = @Backoff(delayExpression = "${mockbank.balance.retry-delay-ms:10}", multiplier = 2.0, maxDelay = 200, random = true)
+    )
     @Transactional
     public AccountResponse withdraw(Long userId, WithdrawRequest request) {
-        Account account = accountRepository.getOrThrowByUserId(userId);
-
-        BigDecimal withdrawAmount = request.getAmount();
-        if (account.getBalance().compareTo(withdrawAmount) < 0) {
-            throw new CustomException(ErrorCode.INSUFFICIENT_BALANCE);
+        Money withdrawAmount = Money.of(request.getAmount());
+        Account account;
+        if (balanceUpdateMode == BalanceUpdateMode.ATOMIC) {
+            if (accountRepository.decreaseBalanceIfSufficient(userId, withdrawAmount.toBigDecimal(), LocalDateTime.now()) == 0) {
+                if (!accountRepository.existsByUserId(userId)) {
+                    throw new CustomException(ErrorCode.ACCOUNT_NOT_FOUND);
+                }
+                throw new CustomException(ErrorCode.INSUFFICIENT_BALANCE);
+            }
+            account = accountRepository.getLatestOrThrowByUserId(userId);
+        } else {
+            account = accountRepository.getLatestOrThrowByUserId(userId);
+            if (account.getBalance().isLessThan(withdrawAmount)) {
+                throw new CustomException(ErrorCode.INSUFFICIENT_BALANCE);
+            }
+            // 잔액 검사 이후 다른 요청이 먼저 커밋하면 version 충돌 → 재시도에서 다시 검사
+            account.withdraw(withdrawAmount);
+            accountRepository.save(account);
         }
 
-        account.withdraw(request.getAmount());
-        accountRepository.save(account);
-
         Transaction tx = Transaction.builder()
                 .account(account)
                 .amount(withdrawAmount)
@@ -182,29 +207,97 @@ public class AccountService {
                 .memo(request.getMemo())
                 .description("출금")
                 .createdAt(LocalDateTime.now())
+                .balanceAfter(account.getBalance())
                 .build();
         transactionRepository.save(tx);
+        transactionSummaryService.apply(account.getId(), tx);
+        accountSnapshotCache.evictAfterCommit(userId);
 
         return AccountResponse.from(account);
     }
 
 
-    @Transactional(readOnly = true)
+    // 캐시 조회는 트랜잭션 밖에서 - 히트 시 커넥션을 잡지 않고, 미스 시 로더(리포지토리 호출)만 짧은 트랜잭션을 연다
     public AccountResponse getAccount(Long userId) {
-        Account account = accountRepository.getOrThrowByUserId(userId);
-        return AccountResponse.from(account);
+        // 캐시 미스 시에도 엔티티 대신 응답 필드만 조회, 캐시에 오래 남으므로 지연된 복제본이 아닌 primary 에서
+        return accountSnapshotCache.get(userId, () -> ReplicaRoutingDataSource.onPrimary(() ->
+                accountRepository.findViewByUserId(userId)
+                        .map(AccountResponse::from)
+                        .orElseThrow(() -> new CustomException(ErrorCode.ACCOUNT_NOT_FOUND))));
     }
 
+    // 전체 거래 내역 (호환용, 페이지 제한 없음)
     @Transactional(readOnly = true)
     public List<TransactionResponse> getTransactions(Long userId) {
         Account account = accountRepository.getOrThrowByUserId(userId);
 
-        return account.getTransactions().stream()
-                .sorted(Comparator.comparing(Transaction::getCreatedAt).reversed())
+        List<TransactionView> rows = transactionRepository.findAllViews(account.getId());
+        if (virtualTransactionHistory.isVirtual(account)) {
+            rows = mergeNewestFirst(rows, virtualTransactionHistory.views(account), Integer.MAX_VALUE);
+        }
+        return rows.stream()
                 .map(TransactionResponse::from)
                 .toList();
     }
 
+    // 거래 내역 키셋 페이징 (최신순, createdAt desc, id desc)
+    @Transactional(readOnly = true)
+    public TransactionPageResponse getTransactionPage(Long userId, String cursor, Integer size) {
+        Account account = accountRepository.getOrThrowByUserId(userId);
+        int pageSize = resolvePageSize(size);
+        // 다음 페이지 존재 여부 확인용으로 1건 더 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        TransactionCursor c = (cursor == null || cursor.isBlank()) ? null : TransactionCursor.decode(cursor);
+        List<TransactionView> rows = (c == null)
+                ? transactionRepository.findLatestViews(account.getId(), limit)
+                : transactionRepository.findViewsBefore(account.getId(), c.createdAt(), c.id(), limit);
+        if (virtualTransactionHistory.isVirtual(account)) {
+            // 가상 행도 같은 커서 조건으로 잘라서 병합 (음수 id 라 같은 시각이면 실제 행이 먼저)
+            List<TransactionView> virtualRows = (c == null)
+                    ? virtualTransactionHistory.viewsBefore(account, null, null, pageSize + 1)
+                    : virtualTransactionHistory.viewsBefore(account, c.createdAt(), c.id(), pageSize + 1);
+            rows = mergeNewestFirst(rows, virtualRows, pageSize + 1);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<TransactionView> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            TransactionView last = page.get(page.size() - 1);
+            nextCursor = new TransactionCursor(last.createdAt(), last.id()).encode();
+        }
+
+        return new TransactionPageResponse(
+                page.stream().map(TransactionResponse::from).toList(),
+                nextCursor,
+                hasNext
+        );
+    }
+
+    private int resolvePageSize(Integer size) {
+        int max = Math.max(1, maxPageSize);
+        if (size == null || size <= 0) {
+            return Math.min(Math.max(1, defaultPageSize), max);
+        }
+        return Math.min(size, max);
+    }
+
+    // 둘 다 최신순인 목록을 병합해서 앞에서 limit 건
+    private static List<TransactionView> mergeNewestFirst(List<TransactionView> a, List<TransactionView> b, int limit) {
+        if (b.isEmpty()) return a;
+        List<TransactionView> merged = new ArrayList<>(Math.min(limit, a.size() + b.size()));
+        int i = 0, j = 0;
+        while (merged.size() < limit && (i < a.size() || j < b.size())) {
+            if (j >= b.size() || (i < a.size() && NEWEST_FIRST.compare(a.get(i), b.get(j)) <= 0)) {
+                merged.add(a.get(i++));
+            } else {
+                merged.add(b.get(j++));
+            }
+        }
+        return merged;
+    }
+
     @Transactional(readOnly = true)
     public TransactionStatResponse getTransactionStats(Long userId, YearMonth startYm, YearMonth endYm) {
 
@@ -218,35 +311,137 @@ public class AccountService {
 
         Account account = accountRepository.getOrThrowByUserId(userId);
 
-        // 1. 거래 내역 필터링
-        List<Transaction> txs = account.getTransactions().stream()
-                .filter(tx -> {
-                    java.time.YearMonth ym = java.time.YearMonth.from(tx.getCreatedAt());
-                    return (ym.compareTo(startYm) >= 0 && ym.compareTo(endYm) <= 0);
-                }).toList();
+        // 1. 월간 롤업 조회 (최대 monthCount 행)
+        List<MonthlyTransactionSummary> summaries =
+                transactionSummaryService.findRange(account.getId(), startYm, endYm);
 
-        // 2. 월별로 분리
+        // 2. 월 수
         int monthCount = (int) ChronoUnit.MONTHS.between(startYm, endYm) + 1;
 
         // 3. 합계/평균 계산
-        BigDecimal totalIncome = BigDecimal.ZERO;
-        BigDecimal totalExpense = BigDecimal.ZERO;
-        for (Transaction tx : txs) {
-            if (tx.getType() == TransactionType.DEPOSIT) totalIncome = totalIncome.add(tx.getAmount());
-            else if (tx.getType() == TransactionType.WITHDRAWAL) totalExpense = totalExpense.add(tx.getAmount());
+        Money totalIncome = Money.ZERO;
+        Money totalExpense = Money.ZERO;
+        for (MonthlyTransactionSummary summary : summaries) {
+            totalIncome = totalIncome.plus(summary.getIncomeSum());
+            totalExpense = totalExpense.plus(summary.getExpenseSum());
+        }
+        // VIRTUAL: 롤업에는 실제 입출금만 있으므로 가상 내역 월 합계를 더한다
+        for (Map.Entry<YearMonth, TransactionSummaryService.MonthlyTotals> e
+                : TransactionSummaryService.aggregate(virtualTransactionHistory.transactions(account)).entrySet()) {
+            if (e.getKey().isBefore(startYm) || e.getKey().isAfter(endYm)) continue;
+            totalIncome = totalIncome.plus(e.getValue().income);
+            totalExpense = totalExpense.plus(e.getValue().expense);
         }
 
-        BigDecimal avgIncome = (monthCount > 0) ? totalIncome.divide(BigDecimal.valueOf(monthCount), 0, BigDecimal.ROUND_DOWN) : BigDecimal.ZERO;
-        BigDecimal avgExpense = (monthCount > 0) ? totalExpense.divide(BigDecimal.valueOf(monthCount), 0, BigDecimal.ROUND_DOWN) : BigDecimal.ZERO;
+        Money avgIncome = (monthCount > 0) ? totalIncome.divideDown(monthCount) : Money.ZERO;
+        Money avgExpense = (monthCount > 0) ? totalExpense.divideDown(monthCount) : Money.ZERO;
 
         return TransactionStatResponse.builder()
-                .totalIncome(totalIncome)
-                .totalExpense(totalExpense)
-                .avgMonthlyIncome(avgIncome)
-                .avgMonthlyExpense(avgExpense)
+                .totalIncome(totalIncome.toBigDecimal())
+                .totalExpense(totalExpense.toBigDecimal())
+                .avgMonthlyIncome(avgIncome.toBigDecimal())
+                .avgMonthlyExpense(avgExpense.toBigDecimal())
                 .build();
     }
 
+    // 임의 기간 [from, to] 시계열 - DB 는 일/월 단위로 구간당 1행만 돌려주고, 주 단위는 일 행을 접어서 만든다
+    @Transactional(readOnly = true)
+    public TransactionSeriesResponse getTransactionSeries(Long userId, LocalDate from, LocalDate to, StatBucket bucket) {
+        if (from == null || to == null || bucket == null) {
+            throw new CustomException(ErrorCode.INVALID_DATE_REQUEST);
+        }
+        if (from.isAfter(to)) {
+            throw new CustomException(ErrorCode.INVALID_DATE_RANGE);
+        }
+        LocalDate firstBucket = bucketStart(from, bucket);
+        long points = bucketsBetween(firstBucket, bucketStart(to, bucket), bucket) + 1;
+        if (points > Math.max(1, maxSeriesPoints)) {
+            throw new CustomException(ErrorCode.STATS_RANGE_TOO_LARGE);
+        }
+
+        Account account = accountRepository.getOrThrowByUserId(userId);
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+        List<TransactionPeriodStat> rows = (bucket == StatBucket.MONTH)
+                ? transactionRepository.sumByMonth(account.getId(), start, end)
+                : transactionRepository.sumByDay(account.getId(), start, end);
+
+        // 구간 시작일 → [income, expense, count]
+        Map<LocalDate, SeriesAccumulator> byBucket = new HashMap<>();
+        for (TransactionPeriodStat row : rows) {
+            LocalDate day = LocalDate.of(row.year(), row.month(), row.day() == null ? 1 : row.day());
+            byBucket.computeIfAbsent(bucketStart(day, bucket), k -> new SeriesAccumulator()).add(row);
+        }
+        for (Transaction tx : virtualTransactionHistory.transactions(account)) {
+            if (tx.getCreatedAt().isBefore(start) || !tx.getCreatedAt().isBefore(end)) continue;
+            byBucket.computeIfAbsent(bucketStart(tx.getCreatedAt().toLocalDate(), bucket), k -> new SeriesAccumulator())
+                    .add(tx.getType(), tx.getAmount());
+        }
+
+        // 거래가 없는 구간도 0 으로 채워 연속된 시계열로 반환
+        List<TransactionSeriesPoint> series = new ArrayList<>((int) points);
+        SeriesAccumulator total = new SeriesAccumulator();
+        for (LocalDate cursor = firstBucket; !cursor.isAfter(to); cursor = nextBucket(cursor, bucket)) {
+            SeriesAccumulator acc = byBucket.getOrDefault(cursor, SeriesAccumulator.EMPTY);
+            total.merge(acc);
+            series.add(new TransactionSeriesPoint(cursor, acc.income.toBigDecimal(), acc.expense.toBigDecimal(),
+                    acc.income.minus(acc.expense).toBigDecimal(), acc.count));
+        }
+        return new TransactionSeriesResponse(bucket, from, to, total.income.toBigDecimal(), total.expense.toBigDecimal(),
+                total.income.minus(total.expense).toBigDecimal(), total.count, series);
+    }
+
+    private static LocalDate bucketStart(LocalDate date, StatBucket bucket) {
+        return switch (bucket) {
+            case DAY -> date;
+            case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> date.withDayOfMonth(1);
+        };
+    }
+
+    private static LocalDate nextBucket(LocalDate bucketStart, StatBucket bucket) {
+        return switch (bucket) {
+            case DAY -> bucketStart.plusDays(1);
+            case WEEK -> bucketStart.plusWeeks(1);
+            case MONTH -> bucketStart.plusMonths(1);
+        };
+    }
+
+    private static long bucketsBetween(LocalDate first, LocalDate last, StatBucket bucket) {
+        return switch (bucket) {
+            case DAY -> ChronoUnit.DAYS.between(first, last);
+            case WEEK -> ChronoUnit.WEEKS.between(first, last);
+            case MONTH -> ChronoUnit.MONTHS.between(first, last);
+        };
+    }
+
+    private static final class SeriesAccumulator {
+        static final SeriesAccumulator EMPTY = new SeriesAccumulator();
+
+        Money income = Money.ZERO;
+        Money expense = Money.ZERO;
+        long count;
+
+        // DB 합계(decimal)는 구간당 1번만 변환
+        void add(TransactionPeriodStat row) {
+            if (row.income() != null) income = income.plus(Money.of(row.income()));
+            if (row.expense() != null) expense = expense.plus(Money.of(row.expense()));
+            count += row.count() == null ? 0L : row.count();
+        }
+
+        void add(TransactionType type, Money amount) {
+            if (type == TransactionType.DEPOSIT) income = income.plus(amount);
+            else expense = expense.plus(amount);
+            count++;
+        }
+
+        void merge(SeriesAccumulator other) {
+            income = income.plus(other.income);
+            expense = expense.plus(other.expense);
+            count += other.count;
+        }
+    }
+
     public boolean existsByAccountNumber(String accountNumber) {
         return accountRepository.existsByAccountNumber(accountNumber);
     }
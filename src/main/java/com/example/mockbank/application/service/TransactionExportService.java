@@ -0,0 +1,171 @@
+package com.example.mockbank.application.service;
+
+import com.example.mockbank.common.enums.ErrorCode;
+import com.example.mockbank.common.enums.ExportFormat;
+import com.example.mockbank.common.exception.CustomException;
+import com.example.mockbank.config.ReplicaRoutingDataSource;
+import com.example.mockbank.domain.account.entity.Account;
+import com.example.mockbank.domain.account.repository.AccountRepository;
+import com.example.mockbank.domain.account.repository.TransactionRepository;
+import com.example.mockbank.domain.account.repository.projection.TransactionExportRow;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * 거래 내역 스트리밍 내보내기 (NDJSON / CSV).
+ * DB 커서에서 한 행씩 읽어 바로 출력 스트림에 쓰기 때문에 행 수와 관계없이 힙 사용량이 일정하다.
+ * StreamingResponseBody 는 요청 스레드 밖에서 실행되므로 트랜잭션은 여기서 직접 연다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TransactionExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String CSV_HEADER = "id,accountId,userId,type,amount,createdAt,description,memo";
+
+    private final AccountRepository accountRepository;
+    private final TransactionRepository transactionRepository;
+    private final TransactionHistoryMaterializer transactionHistoryMaterializer;
+    private final VirtualTransactionHistory virtualTransactionHistory;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+
+    // 스트리밍 시작 전에 (트랜잭션 밖에서) 호출 - 없는 계좌면 404 로 끊기 위함, LAZY 계좌는 여기서 내역 저장
+    public AccountExport resolveAccount(Long userId) {
+        boolean materialized = transactionHistoryMaterializer.materializeIfPending(userId);
+        return new AccountExport(accountRepository.getOrThrowByUserId(userId).getId(), materialized);
+    }
+
+    // 스트리밍 시작 전에 호출 - 응답 헤더를 보내기 전에 400 으로 끊기 위함 (exportRange 는 다시 검사하지 않음)
+    public void validateRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            throw new CustomException(ErrorCode.INVALID_DATE_REQUEST);
+        }
+        if (from.isAfter(to)) {
+            throw new CustomException(ErrorCode.INVALID_DATE_RANGE);
+        }
+    }
+
+    public long exportAccount(AccountExport target, ExportFormat format, OutputStream out) throws IOException {
+        Long accountId = target.accountId();
+        // VIRTUAL 계좌는 저장하지 않은 초기 내역(항상 실제 행보다 과거)을 앞에 붙인다
+        return export(() -> Stream.concat(
+                accountRepository.findById(accountId).map(virtualTransactionHistory::exportRows).orElseGet(Stream::empty),
+                transactionRepository.streamExportRows(accountId)), format, out, target.fromPrimary());
+    }
+
+    // [from, to] 날짜 포함 - 저장된 행만 (VIRTUAL 계좌의 초기 내역은 포함하지 않음), 범위는 validateRange 로 검사된 값
+    public long exportRange(LocalDate from, LocalDate to, ExportFormat format, OutputStream out) throws IOException {
+        return export(() -> transactionRepository.streamExportRowsBetween(from.atStartOfDay(), to.plusDays(1).atStartOfDay()),
+                format, out, false);
+    }
+
+    private long export(Supplier<Stream<TransactionExportRow>> query, ExportFormat format, OutputStream out,
+                        boolean fromPrimary) throws IOException {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        long started = System.nanoTime();
+        try {
+            TransactionCallback<Long> write = status -> {
+                // out 은 컨테이너가 닫으므로 writer 는 flush 만 한다
+                Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+                try (Stream<TransactionExportRow> rows = query.get()) {
+                    long count = format == ExportFormat.CSV
+                            ? writeCsv(rows.iterator(), writer)
+                            : writeNdjson(rows.iterator(), writer);
+                    writer.flush();
+                    return count;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            };
+            // 방금 초기 내역을 저장한 계좌는 복제본에 아직 없을 수 있으므로 primary 에서
+            Long written = fromPrimary
+                    ? ReplicaRoutingDataSource.onPrimary(() -> readOnly.execute(write))
+                    : readOnly.execute(write);
+            log.info("[TransactionExportService] {} 내보내기 {}건 {}ms",
+                    format, written, (System.nanoTime() - started) / 1_000_000);
+            return written == null ? 0L : written;
+        } catch (UncheckedIOException e) {
+            // 대부분 클라이언트 연결 끊김
+            log.warn("[TransactionExportService] 내보내기 중단: {}", e.getCause().getMessage());
+            throw e.getCause();
+        }
+    }
+
+    private long writeNdjson(Iterator<TransactionExportRow> rows, Writer writer) throws IOException {
+        long count = 0;
+        // 행마다 flush 하지 않도록 (버퍼가 찰 때만 내보냄)
+        ObjectWriter rowWriter = objectMapper.writerFor(TransactionExportRow.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(writer);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        while (rows.hasNext()) {
+            rowWriter.writeValue(generator, rows.next());
+            generator.writeRaw('\n');
+            count++;
+        }
+        generator.flush();
+        return count;
+    }
+
+    private long writeCsv(Iterator<TransactionExportRow> rows, Writer writer) throws IOException {
+        long count = 0;
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        while (rows.hasNext()) {
+            TransactionExportRow row = rows.next();
+            writer.write(String.valueOf(row.id()));
+            writer.write(',');
+            writer.write(String.valueOf(row.accountId()));
+            writer.write(',');
+            writer.write(String.valueOf(row.userId()));
+            writer.write(',');
+            writer.write(row.type().name());
+            writer.write(',');
+            writer.write(row.amount().toString());
+            writer.write(',');
+            writer.write(row.createdAt().toString());
+            writer.write(',');
+            writeCsvField(writer, row.description());
+            writer.write(',');
+            writeCsvField(writer, row.memo());
+            writer.write('\n');
+            count++;
+        }
+        return count;
+    }
+
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    // fromPrimary: 스트리밍 직전에 LAZY 초기 내역을 저장한 계좌
+    public record AccountExport(Long accountId, boolean fromPrimary) {
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.mockbank.application.service;
+
+import com.example.mockbank.common.enums.HistoryMode;
+import com.example.mockbank.domain.account.enums.HistoryStatus;
+import com.example.mockbank.domain.account.repository.AccountRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LAZY 모드 백그라운드 filler - 아무도 조회하지 않은 PENDING 계좌의 초기 내역도 한가할 때 채워 둔다.
+ * 조회 경로와 동시에 돌아도 claim 으로 한 번만 저장된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransactionHistoryFillJob {
+
+    private final AccountRepository accountRepository;
+    private final TransactionHistoryMaterializer transactionHistoryMaterializer;
+
+    @Value("${mockbank.history.mode:EAGER}")
+    private HistoryMode historyMode;
+
+    @Value("${mockbank.history.filler.enabled:true}")
+    private boolean enabled;
+
+    @Value("${mockbank.history.filler.interval-ms:1000}")
+    private long intervalMillis;
+
+    @Value("${mockbank.history.filler.batch-size:100}")
+    private int batchSize;
+
+    private ScheduledExecutorService scheduler;
+
+    @PostConstruct
+    void start() {
+        if (historyMode != HistoryMode.LAZY || !enabled) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("history-filler").daemon(true).factory());
+        scheduler.scheduleWithFixedDelay(this::fillSafely, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void fillSafely() {
+        try {
+            fill();
+        } catch (Exception e) {
+            log.warn("[TransactionHistoryFillJob] filler 실패: {}", e.getMessage());
+        }
+    }
+
+    // 한 번에 batch-size 개 계좌까지 (다 채울 때까지 다음 주기에 이어서)
+    public int fill() {
+        List<Long> ids = accountRepository.findIdsByHistoryStatus(HistoryStatus.PENDING, PageRequest.of(0, batchSize));
+        int saved = 0;
+        for (Long accountId : ids) {
+            if (transactionHistoryMaterializer.materialize(accountId)) saved++;
+        }
+        if (saved > 0) {
+            log.debug("[TransactionHistoryFillJob] 초기 내역 {}개 계좌 저장", saved);
+        }
+        return saved;
+    }
+
+    @PreDestroy
+    void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+}
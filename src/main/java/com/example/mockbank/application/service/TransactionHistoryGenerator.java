@@ -0,0 +1,131 @@
+package com.example.mockbank.application.service;
+
+import com.example.mockbank.domain.account.entity.Account;
+import com.example.mockbank.domain.account.entity.Transaction;
+import com.example.mockbank.domain.account.enums.TransactionType;
+import com.example.mockbank.domain.account.vo.Money;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 신규 계좌의 초기 거래 내역(10~36개월) 생성기.
+ * 매달 10~20건의 랜덤 입출금 + 말일 월급/수입, 잔액이 음수가 되는 출금은 건너뛴다.
+ * <p>
+ * 월 순서대로, 월 안에서는 일자 오름차순으로 만들기 때문에 결과는 이미 시간순이고
+ * 최종 잔액과 거래별 잔액(balanceAfter)도 생성하면서 같이 계산한다 (정렬/재계산 불필요).
+ * 금액은 Money(long) 라 누적/비교에 BigDecimal 할당이 없고, 거래의 balanceAfter 가 곧 누적 잔액 객체다.
+ * 같은 seed + 같은 기준 시각이면 항상 같은 내역이 나온다.
+ */
+@Component
+public class TransactionHistoryGenerator {
+
+    private static final int MAX_DAYS = 31;
+    private static final int MAX_TX_PER_MONTH = 21; // 랜덤 거래 최대 20 + 월급 1
+
+    public record GeneratedHistory(List<Transaction> transactions, Money finalBalance) {
+    }
+
+    // salary 가 null 이면 매달 200~500만 랜덤 수입
+    public GeneratedHistory generate(Account account, Money salary) {
+        return generate(account, salary, new SplittableRandom(), LocalDateTime.now());
+    }
+
+    public GeneratedHistory generate(Account account, Money salary, long seed, LocalDateTime now) {
+        return generate(account, salary, new SplittableRandom(seed), now);
+    }
+
+    GeneratedHistory generate(Account account, Money salary, SplittableRandom rand, LocalDateTime now) {
+        boolean isSalaryRandom = (salary == null);
+        int currentDay = now.getDayOfMonth();
+        int monthCount = rand.nextInt(27) + 10; // 10~36개월
+        List<Transaction> all = new ArrayList<>(monthCount * MAX_TX_PER_MONTH);
+        int[] days = new int[MAX_DAYS];
+        // 고정 월급의 소수점 이하도 최소 단위(0.01원)로 그대로 누적
+        Money balance = Money.ZERO;
+
+        for (int i = monthCount - 1; i >= 0; i--) {
+            LocalDate month = now.toLocalDate().minusMonths(i);
+            int lastDay = month.lengthOfMonth();
+            boolean isCurrentMonth = (i == 0);
+            int txCount = isCurrentMonth ? Math.max(1, currentDay / 2) : rand.nextInt(11) + 10;
+
+            // 말일(월급일)을 제외한 1..lastDay-1 중 k개를 부분 Fisher–Yates 로 뽑고 그 k개만 정렬
+            int poolSize = lastDay - 1;
+            for (int d = 0; d < poolSize; d++) days[d] = d + 1;
+            int k = Math.min(txCount - 1, poolSize);
+            for (int j = 0; j < k; j++) {
+                int r = j + rand.nextInt(poolSize - j);
+                int tmp = days[j];
+                days[j] = days[r];
+                days[r] = tmp;
+            }
+            Arrays.sort(days, 0, k);
+
+            // 거래 생성
+            for (int j = 0; j < k; j++) {
+                int day = days[j];
+                int hour = rand.nextInt(10) + 8;
+                if (isCurrentMonth && day >= currentDay) continue;
+                boolean deposit = rand.nextBoolean();
+                long won = rand.nextInt(700_001);
+                if (won == 0) won = 1000;
+                Money amount = new Money(won * Money.MINOR_PER_WON);
+                if (!deposit && balance.isLessThan(amount)) continue;
+
+                balance = deposit ? balance.plus(amount) : balance.minus(amount);
+                String label = deposit ? "입금" : "출금";
+                all.add(Transaction.builder()
+                        .account(account)
+                        .amount(amount)
+                        .type(deposit ? TransactionType.DEPOSIT : TransactionType.WITHDRAWAL)
+                        .memo(label)
+                        .description(label)
+                        .createdAt(month.withDayOfMonth(day).atTime(hour, now.getMinute(), now.getSecond(), now.getNano()))
+                        .balanceAfter(balance)
+                        .build());
+            }
+
+            // 월급/수입 (월 말일)
+            int salaryHour = rand.nextInt(10) + 8;
+            boolean shouldAddSalary = !(isCurrentMonth && lastDay > currentDay);
+            if (shouldAddSalary) {
+                Money monthSalary = salary;
+                String memo = "월급";
+                if (isSalaryRandom) {
+                    // 매달 200~500만 랜덤
+                    monthSalary = new Money((rand.nextInt(301) + 200) * 10_000L * Money.MINOR_PER_WON);
+                    memo = "수입";
+                }
+                balance = balance.plus(monthSalary);
+                all.add(Transaction.builder()
+                        .account(account)
+                        .amount(monthSalary)
+                        .type(TransactionType.DEPOSIT)
+                        .memo(memo)
+                        .description("입금")
+                        .createdAt(month.withDayOfMonth(lastDay).atTime(salaryHour, now.getMinute(), now.getSecond(), now.getNano()))
+                        .balanceAfter(balance)
+                        .build());
+            }
+        }
+        return new GeneratedHistory(all, balance);
+    }
+
+    // 거래를 시간순으로 적용한 최종 잔액 (음수는 0으로 보정) - 생성 결과 검증/복구용
+    public static Money replayBalance(List<Transaction> transactions) {
+        Money balance = Money.ZERO;
+        for (Transaction tx : transactions.stream().sorted(Comparator.comparing(Transaction::getCreatedAt)).toList()) {
+            if (tx.getType() == TransactionType.DEPOSIT) balance = balance.plus(tx.getAmount());
+            else balance = balance.minus(tx.getAmount());
+            if (balance.isNegative()) balance = Money.ZERO;
+        }
+        return balance;
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.mockbank.application.service;
+
+import com.example.mockbank.common.enums.ErrorCode;
+import com.example.mockbank.common.enums.HistoryMode;
+import com.example.mockbank.common.exception.CustomException;
+import com.example.mockbank.config.ReplicaRoutingDataSource;
+import com.example.mockbank.domain.account.entity.Account;
+import com.example.mockbank.domain.account.entity.Transaction;
+import com.example.mockbank.domain.account.enums.HistoryStatus;
+import com.example.mockbank.domain.account.repository.AccountRepository;
+import com.example.mockbank.domain.account.repository.TransactionRepository;
+import com.example.mockbank.domain.account.repository.projection.AccountHistoryView;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * LAZY 모드 계좌의 초기 거래 내역 저장.
+ * 계좌에 저장된 seed + 기준 시각으로 생성 시점과 똑같은 내역을 다시 만들어 넣는다 (잔액은 생성 시 이미 반영됨).
+ * 여러 요청/filler 가 동시에 들어와도 claim UPDATE 로 한 트랜잭션만 저장한다.
+ * <p>
+ * 조회 경로에서는 읽기 전용 트랜잭션이 열리기 전에 {@link #readAfterMaterialize} 로 감싸 호출한다
+ * (조회 트랜잭션 안에서 저장하면 커넥션을 하나 더 잡고, 복제본 라우팅 시 방금 저장한 내역을 못 읽음).
+ */
+@Slf4j
+@Component
+public class TransactionHistoryMaterializer {
+
+    private final AccountRepository accountRepository;
+    private final TransactionRepository transactionRepository;
+    private final TransactionSummaryService transactionSummaryService;
+    private final TransactionHistoryGenerator transactionHistoryGenerator;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${mockbank.history.mode:EAGER}")
+    private HistoryMode historyMode;
+
+    // LAZY 가 아니면 새 PENDING 계좌는 생기지 않는다 - 예전에 LAZY 로 만든 계좌가 남아 있을 때만 조회마다 확인
+    private volatile boolean pendingMayExist = true;
+
+    public TransactionHistoryMaterializer(AccountRepository accountRepository,
+                                          TransactionRepository transactionRepository,
+                                          TransactionSummaryService transactionSummaryService,
+                                          TransactionHistoryGenerator transactionHistoryGenerator,
+                                          PlatformTransactionManager transactionManager) {
+        this.accountRepository = accountRepository;
+        this.transactionRepository = transactionRepository;
+        this.transactionSummaryService = transactionSummaryService;
+        this.transactionHistoryGenerator = transactionHistoryGenerator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    void init() {
+        pendingMayExist = historyMode == HistoryMode.LAZY || accountRepository.existsByHistoryStatus(HistoryStatus.PENDING);
+    }
+
+    // 거래 내역 조회 서비스 호출을 감싸는 진입점 (트랜잭션 밖에서) - PENDING 이면 먼저 저장하고,
+    // 방금 저장한 내역은 복제본에 아직 없을 수 있으므로 이어지는 조회는 primary 에서 읽는다
+    public <T> T readAfterMaterialize(Long userId, Supplier<T> read) {
+        return materializeIfPending(userId) ? ReplicaRoutingDataSource.onPrimary(read) : read.get();
+    }
+
+    // true: PENDING 이었음 (이번 호출 또는 먼저 claim 한 트랜잭션이 저장 완료) / 없는 계좌면 ACCOUNT_NOT_FOUND
+    // PENDING 계좌가 있을 수 없으면 조회 없이 false (없는 계좌는 이어지는 조회에서 ACCOUNT_NOT_FOUND)
+    public boolean materializeIfPending(Long userId) {
+        if (!pendingMayExist) {
+            return false;
+        }
+        AccountHistoryView account = accountRepository.findHistoryViewByUserId(userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.ACCOUNT_NOT_FOUND));
+        if (account.historyStatus() != HistoryStatus.PENDING) {
+            return false;
+        }
+        materialize(account.id());
+        return true;
+    }
+
+    // true: 이번 호출이 저장함 / false: 이미 저장됐거나 다른 트랜잭션이 저장 중 (그 커밋까지 claim 에서 대기)
+    // 조회 트랜잭션 밖에서 호출해야 한다 (자체 쓰기 트랜잭션을 연다)
+    public boolean materialize(Long accountId) {
+        long started = System.nanoTime();
+        Boolean saved = transactionTemplate.execute(status -> {
+            if (accountRepository.claimHistoryMaterialization(accountId) == 0) {
+                return false;
+            }
+            Account account = accountRepository.findById(accountId).orElseThrow();
+            List<Transaction> transactions = transactionHistoryGenerator
+                    .generate(account, account.getSalary(), account.getHistorySeed(), account.getHistoryBaseTime())
+                    .transactions();
+            transactionRepository.bulkInsert(accountId, transactions);
+            transactionSummaryService.applyAll(accountId, transactions);
+            log.debug("[TransactionHistoryMaterializer] 초기 거래 {}건 저장 {}ms (accountId={})",
+                    transactions.size(), (System.nanoTime() - started) / 1_000_000, accountId);
+            return true;
+        });
+        return Boolean.TRUE.equals(saved);
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.mockbank.application.service;
+
+import com.example.mockbank.domain.account.repository.AccountRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * balance_after 컬럼 추가 이전 거래의 원장 백필.
+ * 계좌 단위 트랜잭션이라 중간에 실패해도 이미 처리한 계좌는 유지되고, 다시 돌리면 바뀐 행만 갱신한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransactionLedgerBackfillJob implements ApplicationRunner {
+
+    private static final int PAGE_SIZE = 500;
+
+    private final AccountRepository accountRepository;
+    private final TransactionLedgerService transactionLedgerService;
+
+    @Value("${mockbank.ledger.backfill-on-startup:false}")
+    private boolean backfillOnStartup;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (backfillOnStartup) {
+            backfillAll();
+        }
+    }
+
+    public int backfillAll() {
+        log.info("[TransactionLedgerBackfillJob] 원장 백필 시작");
+        int processed = 0;
+        long updatedRows = 0;
+        long lastId = 0L;
+        List<Long> ids;
+        do {
+            ids = accountRepository.findIdsAfter(lastId, PageRequest.of(0, PAGE_SIZE));
+            for (Long accountId : ids) {
+                try {
+                    updatedRows += transactionLedgerService.rebuild(accountId);
+                    processed++;
+                } catch (Exception e) {
+                    log.error("원장 백필 실패 accountId={}: {}", accountId, e.getMessage(), e);
+                }
+                lastId = accountId;
+            }
+        } while (ids.size() == PAGE_SIZE);
+        log.info("[TransactionLedgerBackfillJob] 원장 백필 완료: 계좌 {}건, 거래 {}행 갱신", processed, updatedRows);
+        return processed;
+    }
+}
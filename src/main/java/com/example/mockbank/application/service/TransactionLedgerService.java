@@ -0,0 +1,158 @@
+package com.example.mockbank.application.service;
+
+import com.example.mockbank.application.dto.BalanceAtResponse;
+import com.example.mockbank.application.dto.LedgerCheckResponse;
+import com.example.mockbank.common.enums.ErrorCode;
+import com.example.mockbank.common.exception.CustomException;
+import com.example.mockbank.domain.account.entity.Account;
+import com.example.mockbank.domain.account.entity.Transaction;
+import com.example.mockbank.domain.account.enums.HistoryStatus;
+import com.example.mockbank.domain.account.enums.TransactionType;
+import com.example.mockbank.domain.account.repository.AccountRepository;
+import com.example.mockbank.domain.account.repository.TransactionRepository;
+import com.example.mockbank.domain.account.repository.projection.AccountLedgerView;
+import com.example.mockbank.domain.account.vo.Money;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 거래 원장(Transaction.balanceAfter) 조회/검증/백필.
+ * 거래마다 반영 직후 잔액을 같이 저장하므로 시점 잔액은 인덱스 역순 1행 조회로 끝난다.
+ */
+@Slf4j
+@Service
+public class TransactionLedgerService {
+
+    private static final Pageable FIRST = PageRequest.of(0, 1);
+    private static final int PAGE_SIZE = 500;
+
+    private final AccountRepository accountRepository;
+    private final TransactionRepository transactionRepository;
+    private final VirtualTransactionHistory virtualTransactionHistory;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public TransactionLedgerService(AccountRepository accountRepository,
+                                    TransactionRepository transactionRepository,
+                                    VirtualTransactionHistory virtualTransactionHistory,
+                                    PlatformTransactionManager transactionManager) {
+        this.accountRepository = accountRepository;
+        this.transactionRepository = transactionRepository;
+        this.virtualTransactionHistory = virtualTransactionHistory;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Transactional(readOnly = true)
+    public BalanceAtResponse getBalanceAt(Long userId, LocalDateTime at) {
+        if (at == null) {
+            throw new CustomException(ErrorCode.INVALID_DATE_REQUEST);
+        }
+        Account account = accountRepository.getOrThrowByUserId(userId);
+        Long accountId = account.getId();
+
+        List<Money> rows = transactionRepository.findBalanceAfterAt(accountId, at, FIRST);
+        Money balance;
+        if (rows.isEmpty()) {
+            // VIRTUAL 계좌는 실제 입출금 이전 시점이면 가상 내역에서
+            balance = virtualTransactionHistory.balanceAt(account, at).orElse(Money.ZERO);
+        } else if (rows.get(0) != null) {
+            balance = rows.get(0);
+        } else {
+            // 백필 전 과거 행 → 합산으로 대체 (잔액은 음수가 될 수 없으므로 rebuild 와 같이 0 으로 보정)
+            log.debug("[TransactionLedgerService] balance_after 없음, 합산 조회 accountId={}", accountId);
+            balance = Money.of(transactionRepository.sumSignedAmountUntil(accountId, at));
+            if (balance.isNegative()) balance = Money.ZERO;
+        }
+        return new BalanceAtResponse(userId, at, balance.toBigDecimal());
+    }
+
+    @Transactional(readOnly = true)
+    public LedgerCheckResponse verify(Long userId) {
+        Account account = accountRepository.getOrThrowByUserId(userId);
+        return check(account);
+    }
+
+    // 전체 계좌 검사 (불일치/백필 필요 계좌만 반환) - 계좌당 인덱스 1행 조회
+    // 페이지마다 읽기 전용 트랜잭션 하나, 계좌는 비교에 필요한 컬럼만 프로젝션으로 (영속성 컨텍스트가 계좌 수만큼 커지지 않음)
+    public List<LedgerCheckResponse> verifyAll() {
+        List<LedgerCheckResponse> mismatches = new ArrayList<>();
+        long lastId = 0L;
+        int size;
+        do {
+            long afterId = lastId;
+            List<AccountLedgerView> page = readOnlyTransaction.execute(status -> {
+                List<AccountLedgerView> accounts = accountRepository.findLedgerViewsAfter(afterId, PageRequest.of(0, PAGE_SIZE));
+                for (AccountLedgerView account : accounts) {
+                    // 초기 내역을 아직 저장하지 않은 LAZY 계좌는 원장이 비어 있어 불일치로 보이므로 건너뜀 (filler 가 채운 뒤 검사)
+                    if (account.historyStatus() == HistoryStatus.PENDING) continue;
+                    LedgerCheckResponse result = check(account);
+                    if (!result.isMatched()) mismatches.add(result);
+                }
+                return accounts;
+            });
+            size = page == null ? 0 : page.size();
+            if (size > 0) lastId = page.get(size - 1).id();
+        } while (size == PAGE_SIZE);
+        return mismatches;
+    }
+
+    private LedgerCheckResponse check(Account account) {
+        List<Money> latest = transactionRepository.findLatestBalanceAfter(account.getId(), FIRST);
+        Money ledger = latest.isEmpty() ? virtualTransactionHistory.finalBalance(account) : latest.get(0);
+        return result(account.getUserId(), account.getBalance(), ledger);
+    }
+
+    // 실제 입출금이 없는 VIRTUAL 계좌만 엔티티를 읽어 seed 로 내역을 다시 생성한다 (계좌마다 생성 비용, 조회용 캐시에는 넣지 않음)
+    private LedgerCheckResponse check(AccountLedgerView account) {
+        List<Money> latest = transactionRepository.findLatestBalanceAfter(account.id(), FIRST);
+        Money ledger;
+        if (!latest.isEmpty()) {
+            ledger = latest.get(0);
+        } else if (account.historyStatus() == HistoryStatus.VIRTUAL) {
+            ledger = accountRepository.findById(account.id())
+                    .map(virtualTransactionHistory::finalBalanceUncached)
+                    .orElse(Money.ZERO);
+        } else {
+            ledger = Money.ZERO;
+        }
+        return result(account.userId(), account.balance(), ledger);
+    }
+
+    private static LedgerCheckResponse result(Long userId, Money balance, Money ledger) {
+        boolean matched = ledger != null && ledger.equals(balance);
+        return new LedgerCheckResponse(userId, balance.toBigDecimal(), ledger == null ? null : ledger.toBigDecimal(), matched);
+    }
+
+    // 원본 거래를 시간순으로 다시 쌓아 balance_after 재계산 (값이 다른 행만 갱신), 갱신 행 수 반환
+    @Transactional
+    public int rebuild(Long accountId) {
+        Map<Long, Money> changed = new LinkedHashMap<>();
+        // VIRTUAL 계좌의 실제 행은 가상 내역 최종 잔액 위에 쌓인다
+        Money balance = accountRepository.findById(accountId)
+                .map(virtualTransactionHistory::finalBalance)
+                .orElse(Money.ZERO);
+        for (Transaction tx : transactionRepository.findByAccountIdOrderByCreatedAtAscIdAsc(accountId)) {
+            balance = tx.getType() == TransactionType.DEPOSIT
+                    ? balance.plus(tx.getAmount())
+                    : balance.minus(tx.getAmount());
+            // TransactionHistoryGenerator.replayBalance 와 같은 보정 (음수는 0)
+            if (balance.isNegative()) balance = Money.ZERO;
+            if (!balance.equals(tx.getBalanceAfter())) {
+                changed.put(tx.getId(), balance);
+            }
+        }
+        transactionRepository.bulkUpdateBalanceAfter(changed);
+        return changed.size();
+    }
+}
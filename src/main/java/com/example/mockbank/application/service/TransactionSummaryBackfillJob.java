@@ -0,0 +1,58 @@
+package com.example.mockbank.application.service;
+
+import com.example.mockbank.domain.account.repository.AccountRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 기존 계좌의 월간 롤업 백필.
+ * 계좌 단위로 트랜잭션을 나눠서(rebuild) 중간에 실패해도 이미 처리한 계좌는 유지된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransactionSummaryBackfillJob implements ApplicationRunner {
+
+    private static final int PAGE_SIZE = 500;
+
+    private final AccountRepository accountRepository;
+    private final TransactionSummaryService transactionSummaryService;
+
+    @Value("${mockbank.summary.backfill-on-startup:false}")
+    private boolean backfillOnStartup;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (backfillOnStartup) {
+            backfillAll();
+        }
+    }
+
+    public int backfillAll() {
+        log.info("[TransactionSummaryBackfillJob] 월간 롤업 백필 시작");
+        int processed = 0;
+        long lastId = 0L;
+        List<Long> ids;
+        do {
+            ids = accountRepository.findIdsAfter(lastId, PageRequest.of(0, PAGE_SIZE));
+            for (Long accountId : ids) {
+                try {
+                    transactionSummaryService.rebuild(accountId);
+                    processed++;
+                } catch (Exception e) {
+                    log.error("롤업 백필 실패 accountId={}: {}", accountId, e.getMessage(), e);
+                }
+                lastId = accountId;
+            }
+        } while (ids.size() == PAGE_SIZE);
+        log.info("[TransactionSummaryBackfillJob] 월간 롤업 백필 완료: {}건", processed);
+        return processed;
+    }
+}
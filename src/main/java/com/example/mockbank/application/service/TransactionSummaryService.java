@@ -0,0 +1,145 @@
+package com.example.mockbank.application.service;
+
+import com.example.mockbank.application.dto.SummaryMismatchResponse;
+import com.example.mockbank.domain.account.entity.MonthlyTransactionSummary;
+import com.example.mockbank.domain.account.entity.Transaction;
+import com.example.mockbank.domain.account.enums.TransactionType;
+import com.example.mockbank.domain.account.repository.AccountRepository;
+import com.example.mockbank.domain.account.repository.MonthlyTransactionSummaryRepository;
+import com.example.mockbank.domain.account.repository.TransactionRepository;
+import com.example.mockbank.domain.account.vo.Money;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.util.*;
+
+/**
+ * 월간 입출금 롤업(MonthlyTransactionSummary) 관리.
+ * 통계 조회는 롤업만 읽고, 원본 Transaction 과의 정합성은 rebuild/verify 로 맞춘다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TransactionSummaryService {
+
+    private final AccountRepository accountRepository;
+    private final TransactionRepository transactionRepository;
+    private final MonthlyTransactionSummaryRepository summaryRepository;
+
+    // 거래 1건 반영 (입금/출금)
+    @Transactional
+    public void apply(Long accountId, Transaction tx) {
+        applyAll(accountId, List.of(tx));
+    }
+
+    // 여러 거래 반영 - 월 단위로 먼저 합산해서 월당 1번만 upsert
+    @Transactional
+    public void applyAll(Long accountId, Collection<Transaction> txs) {
+        for (Map.Entry<YearMonth, MonthlyTotals> e : aggregate(txs).entrySet()) {
+            MonthlyTotals totals = e.getValue();
+            summaryRepository.upsertAdd(accountId, e.getKey().toString(),
+                    totals.income.toBigDecimal(), totals.expense.toBigDecimal(), totals.count);
+        }
+    }
+
+    // 여러 계좌의 거래를 한 번에 반영 (대량 프로비저닝용, 계좌×월 행을 JDBC 배치 upsert)
+    @Transactional
+    public void applyAll(Map<Long, ? extends Collection<Transaction>> txsByAccountId) {
+        List<MonthlyTransactionSummary> rows = new ArrayList<>();
+        txsByAccountId.forEach((accountId, txs) -> aggregate(txs)
+                .forEach((ym, totals) -> rows.add(MonthlyTransactionSummary.builder()
+                        .accountId(accountId)
+                        .statMonth(ym)
+                        .incomeSum(totals.income)
+                        .expenseSum(totals.expense)
+                        .txCount(totals.count)
+                        .build())));
+        summaryRepository.bulkUpsertAdd(rows);
+    }
+
+    @Transactional(readOnly = true)
+    public List<MonthlyTransactionSummary> findRange(Long accountId, YearMonth startYm, YearMonth endYm) {
+        return summaryRepository.findByAccountIdAndStatMonthBetweenOrderByStatMonth(accountId, startYm, endYm);
+    }
+
+    // 원본 거래로부터 롤업 재생성 (백필/복구용)
+    @Transactional
+    public void rebuild(Long accountId) {
+        summaryRepository.deleteByAccountId(accountId);
+        List<MonthlyTransactionSummary> rows = new ArrayList<>();
+        aggregate(transactionRepository.findByAccountIdOrderByCreatedAtAscIdAsc(accountId))
+                .forEach((ym, totals) -> rows.add(MonthlyTransactionSummary.builder()
+                        .accountId(accountId)
+                        .statMonth(ym)
+                        .incomeSum(totals.income)
+                        .expenseSum(totals.expense)
+                        .txCount(totals.count)
+                        .build()));
+        summaryRepository.saveAll(rows);
+    }
+
+    // 롤업 ↔ 원본 거래 정합성 검사 (불일치 월만 반환)
+    @Transactional(readOnly = true)
+    public List<SummaryMismatchResponse> verify(Long userId) {
+        Long accountId = accountRepository.getOrThrowByUserId(userId).getId();
+
+        Map<YearMonth, MonthlyTotals> expected =
+                aggregate(transactionRepository.findByAccountIdOrderByCreatedAtAscIdAsc(accountId));
+        Map<YearMonth, MonthlyTotals> actual = new TreeMap<>();
+        for (MonthlyTransactionSummary s : summaryRepository.findByAccountIdOrderByStatMonth(accountId)) {
+            actual.put(s.getStatMonth(), new MonthlyTotals(s.getIncomeSum(), s.getExpenseSum(), s.getTxCount()));
+        }
+
+        Set<YearMonth> months = new TreeSet<>(expected.keySet());
+        months.addAll(actual.keySet());
+
+        List<SummaryMismatchResponse> mismatches = new ArrayList<>();
+        for (YearMonth ym : months) {
+            MonthlyTotals exp = expected.getOrDefault(ym, new MonthlyTotals());
+            MonthlyTotals act = actual.getOrDefault(ym, new MonthlyTotals());
+            if (!exp.sameAs(act)) {
+                mismatches.add(new SummaryMismatchResponse(
+                        ym, exp.income.toBigDecimal(), act.income.toBigDecimal(),
+                        exp.expense.toBigDecimal(), act.expense.toBigDecimal(), exp.count, act.count));
+            }
+        }
+        return mismatches;
+    }
+
+    static Map<YearMonth, MonthlyTotals> aggregate(Collection<Transaction> txs) {
+        Map<YearMonth, MonthlyTotals> byMonth = new TreeMap<>();
+        for (Transaction tx : txs) {
+            byMonth.computeIfAbsent(YearMonth.from(tx.getCreatedAt()), ym -> new MonthlyTotals())
+                    .add(tx.getType(), tx.getAmount());
+        }
+        return byMonth;
+    }
+
+    static class MonthlyTotals {
+        Money income = Money.ZERO;
+        Money expense = Money.ZERO;
+        long count;
+
+        MonthlyTotals() {
+        }
+
+        MonthlyTotals(Money income, Money expense, long count) {
+            this.income = income;
+            this.expense = expense;
+            this.count = count;
+        }
+
+        void add(TransactionType type, Money amount) {
+            if (type == TransactionType.DEPOSIT) income = income.plus(amount);
+            else expense = expense.plus(amount);
+            count++;
+        }
+
+        boolean sameAs(MonthlyTotals other) {
+            return income.equals(other.income)
+                    && expense.equals(other.expense)
+                    && count == other.count;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.mockbank.application.service;
+
+import com.example.mockbank.domain.account.entity.Account;
+import com.example.mockbank.domain.account.entity.Transaction;
+import com.example.mockbank.domain.account.enums.HistoryStatus;
+import com.example.mockbank.domain.account.repository.projection.TransactionExportRow;
+import com.example.mockbank.domain.account.repository.projection.TransactionView;
+import com.example.mockbank.domain.account.vo.Money;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * VIRTUAL 모드 계좌의 초기 거래 내역 - 저장하지 않고 seed + 기준 시각으로 조회 때마다 다시 만든다.
+ * <p>
+ * 생성 규칙은 {@link TransactionHistoryGenerator} 그대로라 EAGER/LAZY 로 저장한 내역과 같은 행이 나온다.
+ * 가상 행 id 는 시간순으로 -n..-1 (음수) 이라 실제 행(양수 id)과 (createdAt, id) 키셋 정렬/커서를 같이 쓸 수 있다.
+ * 최근 조회 계좌의 생성 결과만 작은 로컬 캐시에 둔다 (계좌당 최대 ~760행).
+ */
+@Component
+public class VirtualTransactionHistory {
+
+    private final TransactionHistoryGenerator transactionHistoryGenerator;
+    // account id → 생성 내역 (시간순)
+    private final Cache<Long, List<Transaction>> cache;
+
+    public VirtualTransactionHistory(TransactionHistoryGenerator transactionHistoryGenerator,
+                                     @Value("${mockbank.history.virtual.cache-size:200}") long cacheSize) {
+        this.transactionHistoryGenerator = transactionHistoryGenerator;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+    }
+
+    public boolean isVirtual(Account account) {
+        return account.getHistoryStatus() == HistoryStatus.VIRTUAL;
+    }
+
+    // 시간순 (과거 → 최신), VIRTUAL 이 아니면 빈 목록
+    public List<Transaction> transactions(Account account) {
+        if (!isVirtual(account)) {
+            return List.of();
+        }
+        return cache.get(account.getId(), id -> generate(account));
+    }
+
+    // 캐시에 엔티티(영속성 컨텍스트)를 붙잡지 않도록 account 없이 생성
+    private List<Transaction> generate(Account account) {
+        return List.copyOf(transactionHistoryGenerator
+                .generate(null, account.getSalary(), account.getHistorySeed(), account.getHistoryBaseTime())
+                .transactions());
+    }
+
+    // 최신순, (createdAt, id) 커서보다 앞선 행만 최대 limit 건 (커서가 null 이면 처음부터)
+    public List<TransactionView> viewsBefore(Account account, LocalDateTime createdAt, Long id, int limit) {
+        List<Transaction> txs = transactions(account);
+        List<TransactionView> views = new ArrayList<>(Math.min(limit, txs.size()));
+        for (int i = txs.size() - 1; i >= 0 && views.size() < limit; i--) {
+            Transaction tx = txs.get(i);
+            long virtualId = virtualId(i, txs.size());
+            if (createdAt != null && !isBefore(tx.getCreatedAt(), virtualId, createdAt, id)) {
+                continue;
+            }
+            views.add(new TransactionView(virtualId, tx.getAmount(), tx.getType(), tx.getCreatedAt(),
+                    tx.getDescription(), tx.getMemo()));
+        }
+        return views;
+    }
+
+    public List<TransactionView> views(Account account) {
+        return viewsBefore(account, null, null, Integer.MAX_VALUE);
+    }
+
+    // at 시점(포함)의 가상 내역 잔액 - 그 이전 가상 행이 없으면 empty
+    public Optional<Money> balanceAt(Account account, LocalDateTime at) {
+        List<Transaction> txs = transactions(account);
+        for (int i = txs.size() - 1; i >= 0; i--) {
+            if (!txs.get(i).getCreatedAt().isAfter(at)) {
+                return Optional.of(txs.get(i).getBalanceAfter());
+            }
+        }
+        return Optional.empty();
+    }
+
+    // 가상 내역을 모두 반영한 잔액 (= 실제 입출금 전 시작 잔액)
+    public Money finalBalance(Account account) {
+        List<Transaction> txs = transactions(account);
+        return txs.isEmpty() ? Money.ZERO : txs.get(txs.size() - 1).getBalanceAfter();
+    }
+
+    // 전체 원장 검사처럼 계좌마다 한 번씩만 보는 경우 - 캐시에 없으면 생성만 하고 넣지 않는다 (조회용 항목을 밀어내지 않도록)
+    public Money finalBalanceUncached(Account account) {
+        if (!isVirtual(account)) {
+            return Money.ZERO;
+        }
+        List<Transaction> txs = cache.getIfPresent(account.getId());
+        if (txs == null) {
+            txs = generate(account);
+        }
+        return txs.isEmpty() ? Money.ZERO : txs.get(txs.size() - 1).getBalanceAfter();
+    }
+
+    // 내보내기용 (시간순)
+    public Stream<TransactionExportRow> exportRows(Account account) {
+        List<Transaction> txs = transactions(account);
+        return IntStream.range(0, txs.size()).mapToObj(i -> {
+            Transaction tx = txs.get(i);
+            return new TransactionExportRow(virtualId(i, txs.size()), account.getId(), account.getUserId(),
+                    tx.getAmount(), tx.getType(), tx.getCreatedAt(), tx.getDescription(), tx.getMemo());
+        });
+    }
+
+    private static long virtualId(int chronoIndex, int size) {
+        return (long) chronoIndex - size;
+    }
+
+    private static boolean isBefore(LocalDateTime createdAt, long id, LocalDateTime cursorCreatedAt, Long cursorId) {
+        return createdAt.isBefore(cursorCreatedAt) || (createdAt.isEqual(cursorCreatedAt) && id < cursorId);
+    }
+}
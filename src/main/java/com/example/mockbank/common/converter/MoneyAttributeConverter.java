@@ -0,0 +1,24 @@
+package com.example.mockbank.common.converter;
+
+import com.example.mockbank.domain.account.vo.Money;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+
+// Money <-> decimal(38,2) (컬럼 타입은 그대로, 엔티티 안에서만 long). Money 는 불변이라 스냅샷 복사 없이 비교만
+@Converter
+@Immutable
+public class MoneyAttributeConverter implements AttributeConverter<Money, BigDecimal> {
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(Money attribute) {
+        return attribute == null ? null : attribute.toBigDecimal();
+    }
+
+    @Override
+    public Money convertToEntityAttribute(BigDecimal dbData) {
+        return dbData == null ? null : Money.of(dbData);
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.mockbank.common.converter;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.time.YearMonth;
+
+// YearMonth <-> "yyyy-MM" 문자열 (사전순 == 시간순이라 between 조회 가능)
+@Converter
+public class YearMonthAttributeConverter implements AttributeConverter<YearMonth, String> {
+
+    @Override
+    public String convertToDatabaseColumn(YearMonth attribute) {
+        return attribute == null ? null : attribute.toString();
+    }
+
+    @Override
+    public YearMonth convertToEntityAttribute(String dbData) {
+        return dbData == null ? null : YearMonth.parse(dbData);
+    }
+}
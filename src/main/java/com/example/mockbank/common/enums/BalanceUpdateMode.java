@@ -0,0 +1,8 @@
+package com.example.mockbank.common.enums;
+
+// 입출금 잔액 갱신 방식 (mockbank.balance.update-mode)
+public enum BalanceUpdateMode {
+    OPTIMISTIC, // @Version 낙관적 락 + 충돌 시 재시도
+    ATOMIC,     // UPDATE ... SET balance = balance ± ? 단일 문장 (조건부 차감)
+    WRITE_BEHIND // 로컬 저널 append + 메모리 잔액, DB 는 배치 그룹 커밋 (WriteBehindBalanceService)
+}
@@ -15,7 +15,13 @@ public enum ErrorCode {
     UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "인증이 필요합니다."),
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "예상치 못한 예외입니다."),
     INVALID_DATE_REQUEST(HttpStatus.UNAUTHORIZED, "시작 월, 종료 월 을 입력해주세요."),
-    INVALID_DATE_RANGE(HttpStatus.UNAUTHORIZED, "시작 월이 종료 월 이후이입니다.");
+    INVALID_DATE_RANGE(HttpStatus.UNAUTHORIZED, "시작 월이 종료 월 이후이입니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "잘못된 페이지 커서입니다."),
+    INVALID_MEMO(HttpStatus.BAD_REQUEST, "메모는 255자 이하여야 합니다."),
+    UNPAGED_NOT_ALLOWED(HttpStatus.BAD_REQUEST, "전체 거래 내역 조회가 비활성화되어 있습니다."),
+    CONCURRENT_UPDATE_CONFLICT(HttpStatus.CONFLICT, "동시 요청이 많아 처리하지 못했습니다. 다시 시도해주세요."),
+    INVALID_BULK_REQUEST(HttpStatus.BAD_REQUEST, "대량 생성 요청이 올바르지 않습니다. (accounts 또는 count+startUserId 중 하나, 최대 개수 확인)"),
+    STATS_RANGE_TOO_LARGE(HttpStatus.BAD_REQUEST, "통계 조회 구간이 너무 깁니다. 기간을 줄이거나 더 큰 구간 단위(bucket)를 사용해주세요.");
     private final HttpStatus status;
     private final String message;
 }
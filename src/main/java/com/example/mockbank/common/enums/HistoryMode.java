@@ -0,0 +1,8 @@
+package com.example.mockbank.common.enums;
+
+// 신규 계좌 초기 거래 내역 생성 방식 (mockbank.history.mode)
+public enum HistoryMode {
+    EAGER,  // 계좌 생성 트랜잭션에서 바로 생성/저장
+    LAZY,   // seed 만 저장하고 첫 조회 또는 백그라운드 filler 가 같은 seed 로 생성/저장
+    VIRTUAL // 저장하지 않음 (부하 테스트 테넌트용) - 조회 시 seed 로 계산, 실제 입출금 행만 저장
+}
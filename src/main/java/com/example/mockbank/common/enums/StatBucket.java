@@ -0,0 +1,8 @@
+package com.example.mockbank.common.enums;
+
+// 거래 통계 시계열 구간 단위
+public enum StatBucket {
+    DAY,
+    WEEK,  // ISO 주 (월요일 시작)
+    MONTH
+}
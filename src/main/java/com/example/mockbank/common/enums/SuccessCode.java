@@ -15,8 +15,14 @@ public enum SuccessCode {
     GET_ACCOUNT_SUCCESS(HttpStatus.OK, "계좌 잔액 조회를 성공했습니다."),
     GET_TRANSACTIONS_SUCCESS(HttpStatus.OK, "거래 내역 조회를 성공했습니다."),
     GET_TRANSACTIONS_STATS_SUCCESS(HttpStatus.OK, "거래 내역 통계 조회를 성공했습니다."),
+    GET_TRANSACTIONS_SERIES_SUCCESS(HttpStatus.OK, "거래 내역 기간별 통계 조회를 성공했습니다."),
+    GET_BALANCE_AT_SUCCESS(HttpStatus.OK, "시점 잔액 조회를 성공했습니다."),
     DEPOSIT_SUCCESS(HttpStatus.OK, "입금이 완료되었습니다."),
-    WITHDRAW_SUCCESS(HttpStatus.OK, "출금이 완료되었습니다.");
+    WITHDRAW_SUCCESS(HttpStatus.OK, "출금이 완료되었습니다."),
+    BACKFILL_SUMMARY_SUCCESS(HttpStatus.OK, "월간 집계 백필이 완료되었습니다."),
+    VERIFY_SUMMARY_SUCCESS(HttpStatus.OK, "월간 집계 정합성 검사를 완료했습니다."),
+    BACKFILL_LEDGER_SUCCESS(HttpStatus.OK, "거래 원장 백필이 완료되었습니다."),
+    VERIFY_LEDGER_SUCCESS(HttpStatus.OK, "거래 원장 정합성 검사를 완료했습니다.");
 
     private final HttpStatus status;
     private final String message;
@@ -2,6 +2,7 @@ package com.example.mockbank.common.exception;
 
 import com.example.mockbank.common.enums.ErrorCode;
 import com.example.mockbank.common.response.ApiResponse;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -26,6 +27,15 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.onError(errorCode));
     }
 
+    // 낙관적 락 재시도 소진
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponse<Object>> handleOptimisticLock(OptimisticLockingFailureException ex) {
+        ErrorCode errorCode = ErrorCode.CONCURRENT_UPDATE_CONFLICT;
+        return ResponseEntity
+                .status(errorCode.getStatus())
+                .body(ApiResponse.onError(errorCode));
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponse<Object>> handleAll(Exception ex) {
         ErrorCode errorCode = ErrorCode.INTERNAL_SERVER_ERROR;
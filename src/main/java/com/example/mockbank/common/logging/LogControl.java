@@ -0,0 +1,86 @@
+package com.example.mockbank.common.logging;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 런타임 로그 제어 상태 (logback TurboFilter 와 actuator 엔드포인트가 공유).
+ * logback 은 스프링 컨텍스트 밖에서 먼저 초기화되므로 static 으로 둔다.
+ * - verbose userId: MDC userId 가 일치하면 DEBUG 로그까지 남김 (TTL 후 자동 해제)
+ * - 샘플링: 로거별 비율만큼만 남김 (0 = 끔, 1 = 전부)
+ */
+public final class LogControl {
+
+    public static final String MDC_USER_ID = "userId";
+
+    private static final Map<String, Long> VERBOSE_USERS = new ConcurrentHashMap<>(); // userId → 만료 시각(ms)
+    private static final Map<String, Double> SAMPLE_RATES = new ConcurrentHashMap<>();
+
+    private LogControl() {
+    }
+
+    public static void enableVerbose(String userId, Duration ttl) {
+        VERBOSE_USERS.put(userId, System.currentTimeMillis() + ttl.toMillis());
+    }
+
+    public static void disableVerbose(String userId) {
+        VERBOSE_USERS.remove(userId);
+    }
+
+    public static Map<String, Instant> verboseUsers() {
+        long now = System.currentTimeMillis();
+        VERBOSE_USERS.values().removeIf(expiresAt -> expiresAt <= now);
+        Map<String, Instant> snapshot = new TreeMap<>();
+        VERBOSE_USERS.forEach((userId, expiresAt) -> snapshot.put(userId, Instant.ofEpochMilli(expiresAt)));
+        return snapshot;
+    }
+
+    static boolean hasVerboseUsers() {
+        return !VERBOSE_USERS.isEmpty();
+    }
+
+    static boolean isVerbose(String userId) {
+        Long expiresAt = VERBOSE_USERS.get(userId);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (expiresAt <= System.currentTimeMillis()) {
+            VERBOSE_USERS.remove(userId, expiresAt);
+            return false;
+        }
+        return true;
+    }
+
+    public static void setSampleRate(String loggerName, double rate) {
+        SAMPLE_RATES.put(loggerName, Math.max(0d, Math.min(1d, rate)));
+    }
+
+    public static Map<String, Double> sampleRates() {
+        return new TreeMap<>(SAMPLE_RATES);
+    }
+
+    static boolean hasSampling() {
+        return !SAMPLE_RATES.isEmpty();
+    }
+
+    // 테스트용 - static 상태 초기화
+    static void clear() {
+        VERBOSE_USERS.clear();
+        SAMPLE_RATES.clear();
+    }
+
+    // null = 샘플링 대상 아님
+    static Boolean sampled(String loggerName) {
+        Double rate = SAMPLE_RATES.get(loggerName);
+        if (rate == null) {
+            return null;
+        }
+        if (rate <= 0d) return false;
+        if (rate >= 1d) return true;
+        return ThreadLocalRandom.current().nextDouble() < rate;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.mockbank.common.logging;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+// 경로의 {userId} 를 MDC 에 올림 (verbose 로그 대상 판별 + 로그 패턴 출력용)
+public class UserMdcInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Object vars = request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (vars instanceof Map<?, ?> map && map.get("userId") != null) {
+            MDC.put(LogControl.MDC_USER_ID, map.get("userId").toString());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        MDC.remove(LogControl.MDC_USER_ID);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.mockbank.common.logging;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.*;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggerConfiguration;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * /actuator/verboselog - 재시작 없이 특정 userId 상세 로그 / 샘플링 비율 조정.
+ * <pre>
+ * GET    /actuator/verboselog
+ * POST   /actuator/verboselog          {"userId":"42","minutes":30}
+ * POST   /actuator/verboselog          {"logger":"org.hibernate.SQL","sampleRate":0.1}
+ * DELETE /actuator/verboselog/42
+ * </pre>
+ * 샘플링 비율이 0 보다 크면 해당 로거를 DEBUG 로 올리고, 0 이면 상위 로거 레벨(INFO)로 되돌린다
+ * (org.hibernate.SQL 은 평소 INFO - DEBUG 로 열어 두면 비율 0 이어도 SQL 문자열을 만든다).
+ */
+@Component
+@Endpoint(id = "verboselog")
+@RequiredArgsConstructor
+public class VerboseLogEndpoint {
+
+    private static final int DEFAULT_MINUTES = 30;
+    private static final int MAX_MINUTES = 24 * 60;
+
+    private final LoggingSystem loggingSystem;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("verboseUsers", LogControl.verboseUsers());
+        status.put("sampleRates", LogControl.sampleRates());
+        Map<String, String> levels = new LinkedHashMap<>();
+        for (String logger : LogControl.sampleRates().keySet()) {
+            LoggerConfiguration configuration = loggingSystem.getLoggerConfiguration(logger);
+            levels.put(logger, configuration == null ? null : String.valueOf(configuration.getEffectiveLevel()));
+        }
+        status.put("levels", levels);
+        return status;
+    }
+
+    @WriteOperation
+    public Map<String, Object> update(@Nullable String userId, @Nullable Integer minutes,
+                                      @Nullable String logger, @Nullable Double sampleRate) {
+        if (userId != null && !userId.isBlank()) {
+            int ttl = Math.min(MAX_MINUTES, minutes == null || minutes <= 0 ? DEFAULT_MINUTES : minutes);
+            LogControl.enableVerbose(userId.trim(), Duration.ofMinutes(ttl));
+        }
+        if (logger != null && !logger.isBlank() && sampleRate != null) {
+            LogControl.setSampleRate(logger.trim(), sampleRate);
+            // null = 상위 로거 레벨 상속 (root INFO)
+            loggingSystem.setLogLevel(logger.trim(), sampleRate > 0 ? LogLevel.DEBUG : null);
+        }
+        return status();
+    }
+
+    @DeleteOperation
+    public Map<String, Object> disable(@Selector String userId) {
+        LogControl.disableVerbose(userId);
+        return status();
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.mockbank.common.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+/**
+ * 1) MDC userId 가 verbose 대상이면 verbosePrefixes 로거의 DEBUG 이상을 레벨 설정과 무관하게 남긴다.
+ * 2) 샘플링 대상 로거(sampleRates)는 비율만큼만 남긴다.
+ * 아무 설정도 없으면 바로 NEUTRAL (로그 호출 비용 거의 없음).
+ * <p>
+ * isDebugEnabled() 같은 레벨 확인(format == null)에는 샘플링을 적용하지 않는다.
+ * 확인 + 실제 호출에서 두 번 뽑으면 비율이 제곱이 되기 때문.
+ */
+public class VerboseSamplingTurboFilter extends TurboFilter {
+
+    private String[] verbosePrefixes = {"com.example.mockbank", "mockbank", "org.hibernate.SQL"};
+
+    // logback-spring.xml: <verbosePrefixes>a,b</verbosePrefixes>
+    public void setVerbosePrefixes(String prefixes) {
+        this.verbosePrefixes = prefixes.split("\\s*,\\s*");
+    }
+
+    // logback-spring.xml: <sampleRates>org.hibernate.SQL=0.01,mockbank.sqs.body=0.05</sampleRates>
+    public void setSampleRates(String rates) {
+        for (String entry : rates.split("\\s*,\\s*")) {
+            int eq = entry.indexOf('=');
+            if (eq > 0) {
+                LogControl.setSampleRate(entry.substring(0, eq).trim(), Double.parseDouble(entry.substring(eq + 1).trim()));
+            }
+        }
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (!isStarted() || level == null) {
+            return FilterReply.NEUTRAL;
+        }
+        String name = logger.getName();
+        if (LogControl.hasVerboseUsers() && level.isGreaterOrEqual(Level.DEBUG) && matchesVerbosePrefix(name)) {
+            String userId = MDC.get(LogControl.MDC_USER_ID);
+            if (userId != null && LogControl.isVerbose(userId)) {
+                return FilterReply.ACCEPT;
+            }
+        }
+        if (format != null && LogControl.hasSampling() && !level.isGreaterOrEqual(Level.WARN)) {
+            Boolean sampled = LogControl.sampled(name);
+            if (sampled != null && !sampled) {
+                return FilterReply.DENY;
+            }
+        }
+        return FilterReply.NEUTRAL;
+    }
+
+    private boolean matchesVerbosePrefix(String name) {
+        for (String prefix : verbosePrefixes) {
+            if (name.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.mockbank.common.metrics;
+
+/**
+ * 현재 스레드(요청)에서 실행한 SQL 문/ JDBC 왕복 수.
+ * statements = prepareStatement/createStatement 호출 수, roundTrips = execute* 호출 수 (배치는 1회).
+ * RoundTripCountingDataSource 가 올리고, 요청 단위 집계는 SqlMetricsInterceptor 가 한다.
+ */
+public final class JdbcRequestStats {
+
+    private static final ThreadLocal<long[]> COUNTS = new ThreadLocal<>();
+
+    private JdbcRequestStats() {
+    }
+
+    public static void begin() {
+        COUNTS.set(new long[2]);
+    }
+
+    // [statements, roundTrips], 집계 중이 아니면 null
+    public static long[] end() {
+        long[] counts = COUNTS.get();
+        COUNTS.remove();
+        return counts;
+    }
+
+    static void statementPrepared() {
+        long[] counts = COUNTS.get();
+        if (counts != null) counts[0]++;
+    }
+
+    static void roundTrip() {
+        long[] counts = COUNTS.get();
+        if (counts != null) counts[1]++;
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.mockbank.common.metrics;
+
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * JDBC 문 준비/실행 횟수를 JdbcRequestStats 에 기록하는 DataSource 래퍼.
+ * Hibernate 뿐 아니라 JdbcTemplate 배치 경로까지 같이 센다.
+ */
+public class RoundTripCountingDataSource extends DelegatingDataSource {
+
+    public RoundTripCountingDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return counting(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return counting(super.getConnection(username, password));
+    }
+
+    private static Connection counting(Connection target) {
+        return (Connection) Proxy.newProxyInstance(
+                ConnectionProxy.class.getClassLoader(),
+                new Class<?>[]{ConnectionProxy.class},
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    switch (name) {
+                        case "getTargetConnection":
+                            return target;
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        default:
+                            break;
+                    }
+                    Object result = invoke(method, target, args);
+                    if (result instanceof Statement statement
+                            && (name.equals("createStatement") || name.startsWith("prepare"))) {
+                        JdbcRequestStats.statementPrepared();
+                        return counting(statement, method.getReturnType());
+                    }
+                    return result;
+                });
+    }
+
+    // 반환 타입(Statement/PreparedStatement/CallableStatement) 그대로 감싸서 execute* 만 센다
+    private static Object counting(Statement target, Class<?> type) {
+        return Proxy.newProxyInstance(
+                type.getClassLoader(),
+                new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    if (method.getName().startsWith("execute")) {
+                        JdbcRequestStats.roundTrip();
+                    }
+                    return invoke(method, target, args);
+                });
+    }
+
+    private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.mockbank.common.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 요청 1건당 SQL 문 수 / JDBC 왕복 수 분포 (엔드포인트별).
+ * N+1 이나 배치가 깨진 경로를 http.server.requests 지연과 같이 볼 수 있다.
+ * <p>
+ * 비동기 요청(StreamingResponseBody 등)은 afterCompletion 이 다른 스레드의 async 디스패치에서 불리므로,
+ * 처음 스레드의 집계는 비동기 시작 시점에 ThreadLocal 에서 떼어 요청 속성으로 넘긴다 (풀 스레드에 남지 않도록).
+ * 비동기 작업 스레드에서 실행한 SQL 은 집계하지 않는다.
+ */
+@RequiredArgsConstructor
+public class SqlMetricsInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String PENDING_COUNTS = SqlMetricsInterceptor.class.getName() + ".pendingCounts";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        JdbcRequestStats.begin();
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        long[] counts = JdbcRequestStats.end();
+        if (counts != null) {
+            request.setAttribute(PENDING_COUNTS, counts);
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        long[] counts = merge(request, JdbcRequestStats.end());
+        if (counts == null) {
+            return;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        record("mockbank.http.sql.statements", "요청당 SQL 문 수", uri, request.getMethod(), counts[0]);
+        record("mockbank.http.jdbc.roundtrips", "요청당 JDBC 왕복 수", uri, request.getMethod(), counts[1]);
+    }
+
+    // async 디스패치면 비동기 시작 전 스레드에서 센 값을 더한다
+    private static long[] merge(HttpServletRequest request, long[] counts) {
+        if (!(request.getAttribute(PENDING_COUNTS) instanceof long[] pending)) {
+            return counts;
+        }
+        request.removeAttribute(PENDING_COUNTS);
+        if (counts == null) {
+            return pending;
+        }
+        return new long[]{pending[0] + counts[0], pending[1] + counts[1]};
+    }
+
+    private void record(String name, String description, String uri, String method, long value) {
+        DistributionSummary.builder(name)
+                .description(description)
+                .tag("uri", uri)
+                .tag("method", method)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(value);
+    }
+}
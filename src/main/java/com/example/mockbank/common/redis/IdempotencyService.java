@@ -0,0 +1,137 @@
+package com.example.mockbank.common.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Redis 기반 멱등성 선점.
+ * SET NX PX 로 키를 원자적으로 선점(IN_PROGRESS)하고, 성공하면 DONE 으로 바꾸고, 실패하면 해제한다.
+ * 최근 DONE 키는 프로세스 내 near-cache 에 두어 재전달된 중복은 Redis 까지 가지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class IdempotencyService {
+
+    private static final String DONE = "DONE";
+    private static final String IN_PROGRESS_PREFIX = "IN_PROGRESS:";
+
+    private final RedisService redisService;
+
+    @Value("${mockbank.idempotency.lease-seconds:300}")
+    private long leaseSeconds; // IN_PROGRESS 유지 시간 (처리 중 프로세스가 죽으면 이후 재선점 가능)
+
+    @Value("${mockbank.idempotency.done-ttl-hours:24}")
+    private long doneTtlHours;
+
+    @Value("${mockbank.idempotency.near-cache-size:10000}")
+    private int nearCacheSize;
+
+    @Value("${mockbank.idempotency.near-cache-ttl-seconds:300}")
+    private long nearCacheTtlSeconds;
+
+    // key -> 만료 시각(ms), 접근 순서 LRU
+    private final Map<String, Long> nearCache = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+            return size() > nearCacheSize;
+        }
+    };
+
+    public enum Status {
+        CLAIMED,     // 이번 호출이 선점 → 처리 후 complete/release 필수
+        IN_PROGRESS, // 다른 컨슈머가 처리 중 → 나중에 재시도
+        DONE         // 이미 처리 완료 → 중복
+    }
+
+    public record Claim(String key, String token, Status status) {
+        public boolean claimed() {
+            return status == Status.CLAIMED;
+        }
+    }
+
+    public Claim claim(String key) {
+        return claimAll(List.of(key)).get(0);
+    }
+
+    // 여러 키 선점: near-cache → SET NX 파이프라인 1회 → (충돌한 키만) MGET 1회
+    public List<Claim> claimAll(List<String> keys) {
+        Claim[] claims = new Claim[keys.size()];
+        List<Integer> pending = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i++) {
+            if (isRecentlyCompleted(keys.get(i))) {
+                claims[i] = new Claim(keys.get(i), null, Status.DONE);
+            } else {
+                pending.add(i);
+            }
+        }
+
+        if (!pending.isEmpty()) {
+            List<String> pendingKeys = pending.stream().map(keys::get).toList();
+            List<String> tokens = pendingKeys.stream().map(k -> UUID.randomUUID().toString()).toList();
+            List<Boolean> acquired = redisService.setIfAbsentAll(
+                    pendingKeys,
+                    tokens.stream().map(t -> IN_PROGRESS_PREFIX + t).toList(),
+                    Duration.ofSeconds(leaseSeconds));
+
+            List<Integer> conflicted = new ArrayList<>();
+            for (int j = 0; j < pending.size(); j++) {
+                if (acquired.get(j)) {
+                    claims[pending.get(j)] = new Claim(pendingKeys.get(j), tokens.get(j), Status.CLAIMED);
+                } else {
+                    conflicted.add(j);
+                }
+            }
+
+            if (!conflicted.isEmpty()) {
+                List<String> values = redisService.getAll(conflicted.stream().map(pendingKeys::get).toList());
+                for (int c = 0; c < conflicted.size(); c++) {
+                    String key = pendingKeys.get(conflicted.get(c));
+                    boolean done = DONE.equals(values.get(c));
+                    if (done) {
+                        rememberCompleted(key);
+                    }
+                    claims[pending.get(conflicted.get(c))] = new Claim(key, null, done ? Status.DONE : Status.IN_PROGRESS);
+                }
+            }
+        }
+        return Arrays.asList(claims);
+    }
+
+    // 처리 완료 표시 (파이프라인 1회)
+    public void complete(Collection<Claim> claims) {
+        List<String> keys = claims.stream().map(Claim::key).toList();
+        redisService.setAll(keys, DONE, Duration.ofHours(doneTtlHours));
+        keys.forEach(this::rememberCompleted);
+    }
+
+    // 처리 실패 시 선점 해제 (내 토큰일 때만 삭제 → 만료 후 다른 컨슈머가 잡은 선점은 건드리지 않음)
+    public void release(Claim claim) {
+        if (claim.claimed()) {
+            redisService.deleteIfEquals(claim.key(), IN_PROGRESS_PREFIX + claim.token());
+        }
+    }
+
+    private boolean isRecentlyCompleted(String key) {
+        synchronized (nearCache) {
+            Long expiresAt = nearCache.get(key);
+            if (expiresAt == null) {
+                return false;
+            }
+            if (expiresAt < System.currentTimeMillis()) {
+                nearCache.remove(key);
+                return false;
+            }
+            return true;
+        }
+    }
+
+    private void rememberCompleted(String key) {
+        synchronized (nearCache) {
+            nearCache.put(key, System.currentTimeMillis() + nearCacheTtlSeconds * 1000);
+        }
+    }
+}
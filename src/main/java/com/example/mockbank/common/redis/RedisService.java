@@ -1,9 +1,19 @@
 package com.example.mockbank.common.redis;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
 import org.springframework.data.redis.core.StringRedisTemplate;
 
@@ -12,6 +22,10 @@ import org.springframework.data.redis.core.StringRedisTemplate;
 @RequiredArgsConstructor
 public class RedisService {
 
+    private static final RedisScript<Long> DELETE_IF_EQUALS = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
     private final StringRedisTemplate redisTemplate;
 
     public boolean exists(String key) {
@@ -21,4 +35,62 @@ public class RedisService {
     public void set(String key, String value, Duration ttl) {
         redisTemplate.opsForValue().set(key, value, ttl);
     }
-}
\ No newline at end of file
+
+    // 여러 키를 같은 값/TTL 로 파이프라인 한 번에 저장
+    public void setAll(Collection<String> keys, String value, Duration ttl) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        byte[] rawValue = bytes(value);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String key : keys) {
+                setEx(connection, key, rawValue, ttl);
+            }
+            return null;
+        });
+    }
+
+    // 여러 키에 SET NX PX 를 파이프라인 한 번으로 (keys 와 values 는 같은 순서)
+    public List<Boolean> setIfAbsentAll(List<String> keys, List<String> values, Duration ttl) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        Expiration expiration = Expiration.milliseconds(ttl.toMillis());
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (int i = 0; i < keys.size(); i++) {
+                connection.stringCommands().set(bytes(keys.get(i)), bytes(values.get(i)), expiration, SetOption.ifAbsent());
+            }
+            return null;
+        });
+        return results.stream().map(RedisService::isTrue).toList();
+    }
+
+    // MGET (없는 키는 null)
+    public List<String> getAll(List<String> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+        return values == null ? Collections.nCopies(keys.size(), null) : values;
+    }
+
+    // 값이 expected 일 때만 삭제 (내가 잡은 락/선점만 해제)
+    public boolean deleteIfEquals(String key, String expected) {
+        Long deleted = redisTemplate.execute(DELETE_IF_EQUALS, List.of(key), expected);
+        return deleted != null && deleted > 0;
+    }
+
+    private static void setEx(RedisConnection connection, String key, byte[] value, Duration ttl) {
+        connection.stringCommands().setEx(bytes(key), ttl.toSeconds(), value);
+    }
+
+    private static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static boolean isTrue(Object result) {
+        if (result instanceof Boolean b) return b;
+        if (result instanceof Number n) return n.longValue() > 0;
+        return false;
+    }
+}
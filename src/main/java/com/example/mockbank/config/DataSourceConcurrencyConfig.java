@@ -0,0 +1,59 @@
+package com.example.mockbank.config;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * mockbank.datasource.concurrency-limit.enabled=true 이면 dataSource 빈을 ConcurrencyLimitingDataSource 로 감싼다.
+ * permit 수 기본값은 Hikari maximum-pool-size (풀보다 많이 풀어주면 의미 없음).
+ */
+@Configuration
+@ConditionalOnProperty(name = "mockbank.datasource.concurrency-limit.enabled", havingValue = "true")
+public class DataSourceConcurrencyConfig {
+
+    @Bean
+    public static BeanPostProcessor concurrencyLimitingDataSourcePostProcessor(Environment env) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource)
+                        || isWrapperFor(dataSource)) {
+                    return bean;
+                }
+                int poolSize = env.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+                int maxConcurrency = env.getProperty("mockbank.datasource.concurrency-limit.max-concurrency", Integer.class, poolSize);
+                long timeout = env.getProperty("mockbank.datasource.concurrency-limit.acquire-timeout-ms", Long.class, 30_000L);
+                return new ConcurrencyLimitingDataSource(dataSource, maxConcurrency, timeout);
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder dataSourceConcurrencyMetrics(DataSource dataSource) {
+        // 다른 래퍼(RoundTripCountingDataSource 등) 안쪽에 있을 수 있어서 unwrap 으로 찾는다
+        return registry -> {
+            if (isWrapperFor(dataSource)) {
+                try {
+                    dataSource.unwrap(ConcurrencyLimitingDataSource.class).bindTo(registry);
+                } catch (SQLException ignored) {
+                    // isWrapperFor 가 true 면 발생하지 않음
+                }
+            }
+        };
+    }
+
+    private static boolean isWrapperFor(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(ConcurrencyLimitingDataSource.class);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+}
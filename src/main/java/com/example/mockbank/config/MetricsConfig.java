@@ -0,0 +1,56 @@
+package com.example.mockbank.config;
+
+import com.example.mockbank.common.metrics.RoundTripCountingDataSource;
+import com.example.mockbank.common.metrics.SqlMetricsInterceptor;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class MetricsConfig {
+
+    // 서비스 메서드 @Timed
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    // 요청당 SQL 문/JDBC 왕복 수 (mockbank.metrics.jdbc.enabled=false 면 끔)
+    @Configuration
+    @ConditionalOnProperty(name = "mockbank.metrics.jdbc.enabled", havingValue = "true", matchIfMissing = true)
+    static class JdbcMetricsConfig implements WebMvcConfigurer {
+
+        private final ObjectProvider<MeterRegistry> meterRegistry;
+
+        JdbcMetricsConfig(ObjectProvider<MeterRegistry> meterRegistry) {
+            this.meterRegistry = meterRegistry;
+        }
+
+        @Bean
+        public static BeanPostProcessor roundTripCountingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource)
+                            || bean instanceof RoundTripCountingDataSource) {
+                        return bean;
+                    }
+                    return new RoundTripCountingDataSource(dataSource);
+                }
+            };
+        }
+
+        @Override
+        public void addInterceptors(InterceptorRegistry registry) {
+            registry.addInterceptor(new SqlMetricsInterceptor(meterRegistry.getObject()));
+        }
+    }
+}
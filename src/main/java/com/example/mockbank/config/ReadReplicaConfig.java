@@ -0,0 +1,76 @@
+package com.example.mockbank.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * mockbank.datasource.replica.enabled=true 이면 @Transactional(readOnly = true) 를 복제본으로 보낸다.
+ * <p>
+ * dataSource = LazyConnectionDataSourceProxy(ReplicaRoutingDataSource(primary, replica-0..n)).
+ * 빈 이름이 그대로 dataSource 라서 동시성 제한/JDBC 왕복 계측 래퍼는 이 바깥을 감싼다.
+ * primary 는 기존과 같이 spring.datasource.* / spring.datasource.hikari.* 설정을 쓴다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "mockbank.datasource.replica.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        if (!StringUtils.hasText(dataSource.getPoolName())) {
+            dataSource.setPoolName("primary");
+        }
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             DataSourceProperties properties,
+                                                             Environment env) {
+        String[] urls = StringUtils.commaDelimitedListToStringArray(
+                env.getProperty("mockbank.datasource.replica.urls", ""));
+        String username = env.getProperty("mockbank.datasource.replica.username", properties.determineUsername());
+        String password = env.getProperty("mockbank.datasource.replica.password", properties.determinePassword());
+        int poolSize = env.getProperty("mockbank.datasource.replica.pool-size", Integer.class, 10);
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (String url : urls) {
+            if (!StringUtils.hasText(url)) continue;
+            HikariDataSource replica = new HikariDataSource();
+            String name = "replica-" + replicas.size();
+            replica.setPoolName(name);
+            replica.setJdbcUrl(url.trim());
+            replica.setUsername(username);
+            replica.setPassword(password);
+            replica.setMaximumPoolSize(poolSize);
+            replica.setReadOnly(true);
+            replica.setConnectionTimeout(primaryDataSource.getConnectionTimeout());
+            replicas.put(name, replica);
+        }
+
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas,
+                env.getProperty("mockbank.datasource.replica.max-lag-seconds", Long.class, 5L),
+                env.getProperty("mockbank.datasource.replica.check-interval-ms", Long.class, 2_000L),
+                env.getProperty("mockbank.datasource.replica.lag-query", "SHOW REPLICA STATUS"));
+    }
+
+    // 트랜잭션의 readOnly 가 정해진 뒤(첫 SQL) 라우팅되도록 실제 커넥션 획득을 미룬다
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
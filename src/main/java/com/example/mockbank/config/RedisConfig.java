@@ -0,0 +1,22 @@
+package com.example.mockbank.config;
+
+import com.example.mockbank.application.cache.AccountSnapshotCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+public class RedisConfig {
+
+    // 계좌 스냅샷 로컬 캐시 무효화 구독 (인스턴스 간)
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       AccountSnapshotCache accountSnapshotCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(accountSnapshotCache, new ChannelTopic(AccountSnapshotCache.INVALIDATION_CHANNEL));
+        return container;
+    }
+}
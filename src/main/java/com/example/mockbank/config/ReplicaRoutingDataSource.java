@@ -0,0 +1,222 @@
+package com.example.mockbank.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 읽기 전용 트랜잭션을 복제본으로 보내는 라우팅 DataSource.
+ * <p>
+ * 트랜잭션 시작 시점에는 readOnly 플래그가 아직 동기화되지 않으므로 반드시 LazyConnectionDataSourceProxy 안쪽에 둔다
+ * (첫 SQL 실행 때 실제 커넥션을 고르게 됨).
+ * 복제본 지연은 check-interval 마다 lag-query 로 확인하고, max-lag 를 넘거나 확인에 실패한 복제본은 건너뛴다.
+ * 쓸 수 있는 복제본이 없으면 primary 로 보낸다 (fallback 카운터 증가).
+ * 캐시 채우기처럼 지연된 값을 오래 들고 있게 되는 읽기는 {@link #onPrimary} 로 감싸 primary 에서 읽는다.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements MeterBinder, DisposableBean {
+
+    static final String PRIMARY = "primary";
+
+    private static final int LAG_QUERY_TIMEOUT_SECONDS = 2;
+
+    private static final ThreadLocal<Boolean> PRIMARY_PINNED = new ThreadLocal<>();
+
+    private final List<Replica> replicas;
+    private final long maxLagSeconds;
+    private final long checkIntervalMillis;
+    private final String lagQuery;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Map<String, Counter> routeCounters = new ConcurrentHashMap<>();
+    private ScheduledExecutorService lagChecker;
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+                                    long maxLagSeconds, long checkIntervalMillis, String lagQuery) {
+        this.replicas = replicas.entrySet().stream()
+                .map(e -> new Replica(e.getKey(), e.getValue()))
+                .toList();
+        this.maxLagSeconds = maxLagSeconds;
+        this.checkIntervalMillis = checkIntervalMillis;
+        this.lagQuery = lagQuery;
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        // 첫 확인이 끝나기 전에는 모든 복제본이 unhealthy → primary
+        refreshLag();
+        lagChecker = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("replica-lag-check").daemon(true).factory());
+        lagChecker.scheduleWithFixedDelay(this::refreshLag, checkIntervalMillis, checkIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            count(PRIMARY, "write");
+            return PRIMARY;
+        }
+        if (Boolean.TRUE.equals(PRIMARY_PINNED.get())) {
+            count(PRIMARY, "pinned");
+            return PRIMARY;
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(1, size));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                count(replica.name, "read");
+                return replica.name;
+            }
+        }
+        count(PRIMARY, "fallback");
+        return PRIMARY;
+    }
+
+    // 읽기 전용 트랜잭션이어도 action 안에서 잡는 커넥션은 primary (중첩 호출 시 바깥 상태 복원)
+    public static <T> T onPrimary(Supplier<T> action) {
+        Boolean previous = PRIMARY_PINNED.get();
+        PRIMARY_PINNED.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY_PINNED.remove();
+            } else {
+                PRIMARY_PINNED.set(previous);
+            }
+        }
+    }
+
+    // 복제본마다 지연(초) 확인 - 실패하거나 복제가 멈춘 경우(null) unhealthy
+    void refreshLag() {
+        for (Replica replica : replicas) {
+            long lag;
+            try {
+                lag = queryLag(replica.dataSource);
+            } catch (Exception e) {
+                lag = -1;
+                log.debug("[ReplicaRoutingDataSource] {} 지연 확인 실패: {}", replica.name, e.getMessage());
+            }
+            boolean healthy = lag >= 0 && lag <= maxLagSeconds;
+            if (healthy != replica.healthy) {
+                log.warn("[ReplicaRoutingDataSource] {} {} (lag={}s, max={}s)",
+                        replica.name, healthy ? "읽기 라우팅 재개" : "읽기 라우팅 제외", lag, maxLagSeconds);
+            }
+            replica.lagSeconds = lag;
+            replica.healthy = healthy;
+        }
+    }
+
+    private long queryLag(DataSource dataSource) throws SQLException {
+        try (Connection con = dataSource.getConnection();
+             Statement st = con.createStatement()) {
+            st.setQueryTimeout(LAG_QUERY_TIMEOUT_SECONDS);
+            try (ResultSet rs = st.executeQuery(lagQuery)) {
+                if (!rs.next()) {
+                    return 0L; // 복제 상태 없음 (단독 인스턴스 / 테스트 stand-in)
+                }
+                int column = lagColumn(rs.getMetaData());
+                long lag = rs.getLong(column);
+                return rs.wasNull() ? -1L : lag;
+            }
+        }
+    }
+
+    // SHOW REPLICA STATUS (8.0.22+) / SHOW SLAVE STATUS 둘 다 지원, 그 외 쿼리는 첫 컬럼
+    private static int lagColumn(ResultSetMetaData meta) throws SQLException {
+        for (int i = 1; i <= meta.getColumnCount(); i++) {
+            String label = meta.getColumnLabel(i);
+            if ("Seconds_Behind_Source".equalsIgnoreCase(label) || "Seconds_Behind_Master".equalsIgnoreCase(label)) {
+                return i;
+            }
+        }
+        return 1;
+    }
+
+    private void count(String route, String reason) {
+        Counter counter = routeCounters.get(route + ':' + reason);
+        if (counter != null) counter.increment();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        registerRoute(registry, PRIMARY, "write");
+        registerRoute(registry, PRIMARY, "fallback");
+        registerRoute(registry, PRIMARY, "pinned");
+        for (Replica replica : replicas) {
+            registerRoute(registry, replica.name, "read");
+            Gauge.builder("mockbank.datasource.replica.lag", replica, r -> r.lagSeconds)
+                    .description("복제본 지연 (초, 확인 실패 시 -1)")
+                    .baseUnit("seconds")
+                    .tag("replica", replica.name)
+                    .register(registry);
+            Gauge.builder("mockbank.datasource.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+                    .description("복제본 읽기 라우팅 대상 여부")
+                    .tag("replica", replica.name)
+                    .register(registry);
+        }
+    }
+
+    private void registerRoute(MeterRegistry registry, String route, String reason) {
+        routeCounters.put(route + ':' + reason, Counter.builder("mockbank.datasource.route")
+                .description("DataSource 라우팅 횟수 (write/read/fallback/pinned)")
+                .tag("route", route)
+                .tag("reason", reason)
+                .register(registry));
+    }
+
+    @Override
+    public void destroy() {
+        if (lagChecker != null) {
+            lagChecker.shutdownNow();
+        }
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("[ReplicaRoutingDataSource] {} 종료 실패: {}", replica.name, e.getMessage());
+                }
+            }
+        }
+    }
+
+    private static final class Replica {
+        final String name;
+        final DataSource dataSource;
+        volatile long lagSeconds = -1;
+        volatile boolean healthy;
+
+        Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.mockbank.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.retry.annotation.EnableRetry;
+
+// @Retryable 은 @Transactional 보다 바깥에서 동작 (재시도마다 새 트랜잭션)
+@Configuration
+@EnableRetry
+public class RetryConfig {
+}
@@ -1,14 +1,29 @@
 package com.example.mockbank.domain.account.entity;
 
+import com.example.mockbank.common.converter.MoneyAttributeConverter;
+import com.example.mockbank.domain.account.enums.HistoryStatus;
+import com.example.mockbank.domain.account.vo.Money;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+// 2차 캐시 (JCache/Caffeine, 리전 설정은 application.conf) - Hibernate 를 거친 갱신은 커밋 시 캐시도 갱신,
+// native/JDBC 잔액 갱신은 AccountUpdateRepositoryImpl / AccountBulkRepositoryImpl 에서 해당 계좌만 evict
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "account")
+@NaturalIdCache(region = "account-natural-id")
+@Table(indexes = {
+        // LAZY 초기 내역 filler 가 PENDING 계좌를 찾을 때
+        @Index(name = "idx_account_history_status", columnList = "history_status")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -23,17 +38,20 @@ public class Account {
     @Column(nullable = false, unique = true)
     private String accountNumber; // 고유 계좌 번호
 
+    @NaturalId // 변경 불가 - userId → id 매핑은 만료 전까지 그대로 캐시
     @Column(name = "user_id", unique = true, nullable = false)
     private Long userId;
 
     @Column(nullable = false)
     private String userName;
 
+    @Convert(converter = MoneyAttributeConverter.class)
     @Column(nullable = false)
-    private BigDecimal balance;
+    private Money balance;
 
+    @Convert(converter = MoneyAttributeConverter.class)
     @Column(nullable = true)
-    private BigDecimal salary;
+    private Money salary;
 
     @Column(nullable = false)
     private LocalDateTime createdAt;
@@ -41,22 +59,37 @@ public class Account {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    @Version
+    @Column(nullable = false)
+    private Long version; // 낙관적 락 (동시 입출금 충돌 감지)
+
+    // 초기 거래 내역 seed / 생성 기준 시각 - 같은 값이면 TransactionHistoryGenerator 가 항상 같은 내역을 만든다
+    @Column(nullable = true)
+    private Long historySeed;
+
+    @Column(nullable = true)
+    private LocalDateTime historyBaseTime;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "history_status", length = 20, nullable = true)
+    private HistoryStatus historyStatus;
+
     @Builder.Default
     @OneToMany(mappedBy = "account", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<Transaction> transactions = new ArrayList<>();
 
 
-    public void deposit(BigDecimal amount) {
-        this.balance = this.balance.add(amount);
+    public void deposit(Money amount) {
+        this.balance = this.balance.plus(amount);
         this.updatedAt = LocalDateTime.now();
     }
 
-    public void withdraw(BigDecimal amount) {
-        this.balance = this.balance.subtract(amount);
+    public void withdraw(Money amount) {
+        this.balance = this.balance.minus(amount);
         this.updatedAt = LocalDateTime.now();
     }
 
-    public void updateBalance(BigDecimal newBalance) {
+    public void updateBalance(Money newBalance) {
         this.balance = newBalance;
         this.updatedAt = LocalDateTime.now();
     }
@@ -0,0 +1,31 @@
+package com.example.mockbank.domain.account.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 계좌번호 카운터 블록 예약용 시퀀스.
+ * 인스턴스마다 block-size 만큼씩 카운터를 가져가고, 카운터 → 계좌번호 변환은 AccountNumberAllocator 가 한다.
+ */
+@Entity
+@Table(name = "account_number_sequence")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class AccountNumberSequence {
+
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    @Column(nullable = false)
+    private Long nextValue; // 아직 아무도 예약하지 않은 첫 카운터
+
+    // [nextValue, nextValue + size) 예약 후 시작값 반환
+    public long reserve(int size) {
+        long start = this.nextValue;
+        this.nextValue = start + size;
+        return start;
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.mockbank.domain.account.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * WRITE_BEHIND 저널의 DB 반영 위치 (인스턴스별 1행).
+ * 거래/잔액 반영과 같은 DB 트랜잭션에서 갱신되므로, 재시작 시 lastSeq 이후 레코드만 다시 적용하면 된다.
+ */
+@Entity
+@Table(name = "journal_checkpoint")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class JournalCheckpoint {
+
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    @Column(nullable = false)
+    private Long lastSeq; // DB 에 반영된 마지막 저널 seq
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public void advance(long seq) {
+        if (seq > this.lastSeq) {
+            this.lastSeq = seq;
+        }
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.mockbank.domain.account.entity;
+
+import com.example.mockbank.common.converter.MoneyAttributeConverter;
+import com.example.mockbank.domain.account.enums.TransactionType;
+import com.example.mockbank.domain.account.vo.Money;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * WRITE_BEHIND 저널에서 DB 에 반영하지 못하고 격리한 레코드 (수동 보정용).
+ * checkpoint 를 넘기는 것과 같은 DB 트랜잭션에 저장되므로 저널이 잘려도 남는다.
+ * 같은 인스턴스에서 seq 다음부터 correctedThroughSeq 까지의 같은 계좌 레코드는 이 금액을 뺀 잔액으로 반영된다.
+ */
+@Entity
+@Table(
+        name = "journal_dead_letter",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_journal_dead_letter_instance_seq",
+                columnNames = {"instance_name", "seq"}
+        )
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class JournalDeadLetter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(nullable = false)
+    private Long id;
+
+    @Column(name = "instance_name", nullable = false, length = 100)
+    private String instanceName; // JournalCheckpoint.name
+
+    @Column(nullable = false)
+    private Long seq;
+
+    @Column(nullable = false)
+    private Long accountId;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TransactionType type;
+
+    @Convert(converter = MoneyAttributeConverter.class)
+    @Column(nullable = false)
+    private Money amount;
+
+    @Convert(converter = MoneyAttributeConverter.class)
+    @Column(nullable = false)
+    private Money balanceAfter; // 저널에 기록된 값 (격리 전 메모리 잔액 기준)
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = true)
+    private String memo;
+
+    @Column(nullable = true, length = 1000)
+    private String error;
+
+    @Column(nullable = false)
+    private Long correctedThroughSeq; // 이 seq 까지 append 된 레코드의 balanceAfter 에는 amount 가 들어 있음
+
+    @Column(nullable = false)
+    private LocalDateTime quarantinedAt;
+}
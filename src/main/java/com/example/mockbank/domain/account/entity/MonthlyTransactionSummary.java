@@ -0,0 +1,51 @@
+package com.example.mockbank.domain.account.entity;
+
+import com.example.mockbank.common.converter.MoneyAttributeConverter;
+import com.example.mockbank.common.converter.YearMonthAttributeConverter;
+import com.example.mockbank.domain.account.vo.Money;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.YearMonth;
+
+/**
+ * 계좌별 월간 입출금 집계 (통계 조회용 롤업 테이블).
+ * 입금/출금/계좌 생성 시 함께 갱신되며, 원본은 항상 Transaction 이다.
+ */
+@Entity
+@Table(
+        name = "monthly_transaction_summary",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_monthly_summary_account_month",
+                columnNames = {"account_id", "stat_month"}
+        )
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class MonthlyTransactionSummary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(nullable = false)
+    private Long id;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Convert(converter = YearMonthAttributeConverter.class)
+    @Column(name = "stat_month", nullable = false, length = 7)
+    private YearMonth statMonth; // ex: 2025-06
+
+    @Convert(converter = MoneyAttributeConverter.class)
+    @Column(nullable = false)
+    private Money incomeSum;
+
+    @Convert(converter = MoneyAttributeConverter.class)
+    @Column(nullable = false)
+    private Money expenseSum;
+
+    @Column(nullable = false)
+    private long txCount;
+}
@@ -1,13 +1,20 @@
 package com.example.mockbank.domain.account.entity;
 
+import com.example.mockbank.common.converter.MoneyAttributeConverter;
 import com.example.mockbank.domain.account.enums.TransactionType;
+import com.example.mockbank.domain.account.vo.Money;
 import jakarta.persistence.*;
 import lombok.*;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = {
+        // 거래 내역 키셋 페이징 (account_id, created_at, id)
+        @Index(name = "idx_transaction_account_created_id", columnList = "account_id, created_at, id"),
+        // 기간 집계 커버링 인덱스 (account_id, created_at 범위 + type/amount 를 인덱스에서 바로 읽음)
+        @Index(name = "idx_transaction_account_created_type_amount", columnList = "account_id, created_at, type, amount")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -19,8 +26,9 @@ public class Transaction {
     @Column(nullable = false)
     private Long id;
 
+    @Convert(converter = MoneyAttributeConverter.class)
     @Column(nullable = false)
-    private BigDecimal amount;
+    private Money amount;
 
     @Column(nullable = false)
     private LocalDateTime createdAt;
@@ -37,4 +45,9 @@ public class Transaction {
 
     @Enumerated(EnumType.STRING)
     private TransactionType type;
+
+    // 이 거래 반영 직후 잔액 (원장 running total). 컬럼 추가 이전 행은 백필 전까지 null
+    @Convert(converter = MoneyAttributeConverter.class)
+    @Column(name = "balance_after")
+    private Money balanceAfter;
 }
@@ -0,0 +1,8 @@
+package com.example.mockbank.domain.account.enums;
+
+// 초기(합성) 거래 내역 저장 상태 - null 이면 예전 방식으로 생성 시점에 저장된 계좌 (MATERIALIZED 와 같음)
+public enum HistoryStatus {
+    PENDING,      // seed 만 있고 행은 아직 없음 (첫 조회 또는 filler 가 생성)
+    MATERIALIZED, // 행 저장 완료
+    VIRTUAL       // 행을 저장하지 않음 - 조회 때마다 seed 로 계산해서 실제 입출금 행과 합침
+}
@@ -0,0 +1,24 @@
+package com.example.mockbank.domain.account.repository;
+
+import com.example.mockbank.domain.account.entity.Account;
+import com.example.mockbank.domain.account.vo.Money;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 대량 계좌 프로비저닝 전용 (IDENTITY 키라 Hibernate 배치가 안 되는 경로를 JDBC 배치로 우회)
+public interface AccountBulkRepository {
+    void bulkInsert(List<Account> accounts);
+
+    // userId → account id
+    Map<Long, Long> findIdsByUserIds(Collection<Long> userIds);
+
+    Set<Long> findExistingUserIds(Collection<Long> userIds);
+
+    Set<String> findExistingAccountNumbers(Collection<String> accountNumbers);
+
+    // WRITE_BEHIND 그룹 커밋: account id → 최종 잔액 (version 도 같이 올려 낙관적 락 경로와 섞여도 충돌 감지)
+    void bulkUpdateBalances(Map<Long, Money> balanceByAccountId);
+}
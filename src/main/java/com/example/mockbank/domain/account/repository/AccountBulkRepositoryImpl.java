@@ -0,0 +1,108 @@
+package com.example.mockbank.domain.account.repository;
+
+import com.example.mockbank.domain.account.entity.Account;
+import com.example.mockbank.domain.account.vo.Money;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * AccountRepository 의 대량 INSERT/조회 구현 (Spring Data 커스텀 프래그먼트).
+ * id 는 INSERT 후 user_id 로 다시 조회한다 (배치 INSERT 는 생성 키를 돌려주지 않음).
+ */
+@RequiredArgsConstructor
+public class AccountBulkRepositoryImpl implements AccountBulkRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL =
+            "insert into account (account_number, user_id, user_name, balance, salary, created_at, updated_at, "
+                    + "history_seed, history_base_time, history_status, version) "
+                    + "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    private static final String UPDATE_BALANCE_SQL =
+            "update account set balance = ?, version = version + 1, updated_at = ? where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void bulkInsert(List<Account> accounts) {
+        if (accounts.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, accounts, BATCH_SIZE, (ps, a) -> {
+            ps.setString(1, a.getAccountNumber());
+            ps.setLong(2, a.getUserId());
+            ps.setString(3, a.getUserName());
+            ps.setBigDecimal(4, a.getBalance().toBigDecimal());
+            if (a.getSalary() != null) ps.setBigDecimal(5, a.getSalary().toBigDecimal());
+            else ps.setNull(5, Types.DECIMAL);
+            ps.setTimestamp(6, Timestamp.valueOf(a.getCreatedAt()));
+            ps.setTimestamp(7, Timestamp.valueOf(a.getUpdatedAt()));
+            if (a.getHistorySeed() != null) ps.setLong(8, a.getHistorySeed());
+            else ps.setNull(8, Types.BIGINT);
+            if (a.getHistoryBaseTime() != null) ps.setTimestamp(9, Timestamp.valueOf(a.getHistoryBaseTime()));
+            else ps.setNull(9, Types.TIMESTAMP);
+            if (a.getHistoryStatus() != null) ps.setString(10, a.getHistoryStatus().name());
+            else ps.setNull(10, Types.VARCHAR);
+        });
+    }
+
+    @Override
+    public void bulkUpdateBalances(Map<Long, Money> balanceByAccountId) {
+        if (balanceByAccountId.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPDATE_BALANCE_SQL, new ArrayList<>(balanceByAccountId.entrySet()), BATCH_SIZE, (ps, e) -> {
+            ps.setBigDecimal(1, e.getValue().toBigDecimal());
+            ps.setTimestamp(2, now);
+            ps.setLong(3, e.getKey());
+        });
+        // JDBC 갱신은 Hibernate 가 모르므로 2차 캐시의 해당 계좌를 직접 비운다
+        AccountCacheEviction.evictAroundCompletion(entityManagerFactory.getCache(), balanceByAccountId.keySet());
+    }
+
+    @Override
+    public Map<Long, Long> findIdsByUserIds(Collection<Long> userIds) {
+        Map<Long, Long> ids = new HashMap<>(userIds.size() * 2);
+        if (userIds.isEmpty()) {
+            return ids;
+        }
+        namedParameterJdbcTemplate.query("select id, user_id from account where user_id in (:userIds)",
+                new MapSqlParameterSource("userIds", userIds),
+                rs -> {
+                    ids.put(rs.getLong("user_id"), rs.getLong("id"));
+                });
+        return ids;
+    }
+
+    @Override
+    public Set<Long> findExistingUserIds(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(namedParameterJdbcTemplate.queryForList(
+                "select user_id from account where user_id in (:userIds)",
+                new MapSqlParameterSource("userIds", userIds), Long.class));
+    }
+
+    @Override
+    public Set<String> findExistingAccountNumbers(Collection<String> accountNumbers) {
+        if (accountNumbers.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(namedParameterJdbcTemplate.queryForList(
+                "select account_number from account where account_number in (:accountNumbers)",
+                new MapSqlParameterSource("accountNumbers", accountNumbers), String.class));
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.mockbank.domain.account.repository;
+
+import com.example.mockbank.domain.account.entity.Account;
+import jakarta.persistence.Cache;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Hibernate 엔티티 갱신을 거치지 않는 계좌 UPDATE (native/JDBC) 후 2차 캐시의 해당 계좌만 비운다.
+ * 바로 한 번, 트랜잭션이 끝난 뒤 (커밋/롤백) 한 번 더 - 그 사이 다른 트랜잭션이 옛 행을 다시 채울 수 있으므로.
+ * natural id 리전 (userId → id) 은 변경 불가라 건드리지 않는다.
+ */
+final class AccountCacheEviction {
+
+    private AccountCacheEviction() {
+    }
+
+    static void evictAroundCompletion(Cache cache, Collection<Long> accountIds) {
+        List<Long> ids = List.copyOf(accountIds);
+        ids.forEach(id -> cache.evict(Account.class, id));
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                ids.forEach(id -> cache.evict(Account.class, id));
+            }
+        });
+    }
+}
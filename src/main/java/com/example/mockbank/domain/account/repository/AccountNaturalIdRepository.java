@@ -0,0 +1,10 @@
+package com.example.mockbank.domain.account.repository;
+
+import com.example.mockbank.domain.account.entity.Account;
+
+import java.util.Optional;
+
+// userId(@NaturalId) 조회 - 영속성 컨텍스트 → 2차 캐시(natural id → id → 엔티티) → DB 순으로 찾는다
+public interface AccountNaturalIdRepository {
+    Optional<Account> findByNaturalUserId(Long userId);
+}
@@ -0,0 +1,29 @@
+package com.example.mockbank.domain.account.repository;
+
+import com.example.mockbank.domain.account.entity.Account;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * AccountRepository 의 natural id 조회 구현 (Spring Data 커스텀 프래그먼트).
+ * 파생 쿼리(findByUserId)는 항상 SQL 을 실행하지만 bySimpleNaturalId 는 2차 캐시에서 끝날 수 있다.
+ */
+@RequiredArgsConstructor
+public class AccountNaturalIdRepositoryImpl implements AccountNaturalIdRepository {
+
+    private final EntityManager entityManager;
+
+    // 커스텀 프래그먼트는 SimpleJpaRepository 의 트랜잭션 설정을 물려받지 않으므로 직접 지정
+    // (트랜잭션 밖에서 불리면 공유 EntityManager 가 unwrap 직후 닫힌다)
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Account> findByNaturalUserId(Long userId) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Account.class)
+                .loadOptional(userId);
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.mockbank.domain.account.repository;
+
+import com.example.mockbank.domain.account.entity.AccountNumberSequence;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface AccountNumberSequenceRepository extends JpaRepository<AccountNumberSequence, String> {
+
+    // 블록 예약 (여러 인스턴스가 동시에 예약해도 행 락으로 직렬화)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from AccountNumberSequence s where s.name = :name")
+    Optional<AccountNumberSequence> findForUpdate(@Param("name") String name);
+}
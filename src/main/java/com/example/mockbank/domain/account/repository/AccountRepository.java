@@ -3,15 +3,69 @@ package com.example.mockbank.domain.account.repository;
 import com.example.mockbank.common.enums.ErrorCode;
 import com.example.mockbank.common.exception.CustomException;
 import com.example.mockbank.domain.account.entity.Account;
+import com.example.mockbank.domain.account.enums.HistoryStatus;
+import com.example.mockbank.domain.account.repository.projection.AccountHistoryView;
+import com.example.mockbank.domain.account.repository.projection.AccountLedgerView;
+import com.example.mockbank.domain.account.repository.projection.AccountView;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
-public interface AccountRepository extends JpaRepository<Account, Long> {
+public interface AccountRepository extends JpaRepository<Account, Long>, AccountBulkRepository, AccountNaturalIdRepository,
+        AccountUpdateRepository {
+    // 항상 SQL (2차 캐시를 거치지 않음)
     Optional<Account> findByUserId(Long userId);
+    boolean existsByUserId(Long userId);
     boolean existsByAccountNumber(String accountNumber);
+
+    // 조회 경로용 - natural id 캐시로 id, 엔티티 캐시로 행 (둘 다 맞으면 SQL 없음)
     default Account getOrThrowByUserId(Long userId) {
+        return findByNaturalUserId(userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.ACCOUNT_NOT_FOUND));
+    }
+
+    // 잔액 조회 응답용 - 필요한 컬럼만 (항상 SQL, 엔티티 생성 없음)
+    @Query("""
+            select new com.example.mockbank.domain.account.repository.projection.AccountView(
+                a.id, a.userId, a.accountNumber, a.balance)
+            from Account a
+            where a.userId = :userId
+            """)
+    Optional<AccountView> findViewByUserId(@Param("userId") Long userId);
+
+    // 조회 전 LAZY 초기 내역 확인용 - id 와 상태만
+    @Query("""
+            select new com.example.mockbank.domain.account.repository.projection.AccountHistoryView(a.id, a.historyStatus)
+            from Account a
+            where a.userId = :userId
+            """)
+    Optional<AccountHistoryView> findHistoryViewByUserId(@Param("userId") Long userId);
+
+    boolean existsByHistoryStatus(HistoryStatus historyStatus);
+
+    // 잔액을 읽고 바로 쓰는 경로용 - 항상 DB 최신 행
+    default Account getLatestOrThrowByUserId(Long userId) {
         return findByUserId(userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.ACCOUNT_NOT_FOUND));
     }
+
+    // 배치 작업용 id 키셋 페이징
+    @Query("select a.id from Account a where a.id > :afterId order by a.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("""
+            select new com.example.mockbank.domain.account.repository.projection.AccountLedgerView(
+                a.id, a.userId, a.balance, a.historyStatus)
+            from Account a
+            where a.id > :afterId
+            order by a.id
+            """)
+    List<AccountLedgerView> findLedgerViewsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select a.id from Account a where a.historyStatus = :status order by a.id")
+    List<Long> findIdsByHistoryStatus(@Param("status") HistoryStatus status, Pageable pageable);
 }
@@ -0,0 +1,18 @@
+package com.example.mockbank.domain.account.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// 계좌 행을 한 문장으로 바꾸는 native UPDATE (2차 캐시는 해당 계좌 엔티티만 비우고 natural id 리전은 유지)
+public interface AccountUpdateRepository {
+
+    // 입금: 행 락 한 번으로 잔액 증가 (0 이면 계좌 없음)
+    int increaseBalance(Long userId, BigDecimal amount, LocalDateTime now);
+
+    // 출금: 잔액이 충분할 때만 차감 (0 이면 잔액 부족 또는 계좌 없음)
+    int decreaseBalanceIfSufficient(Long userId, BigDecimal amount, LocalDateTime now);
+
+    // LAZY 초기 내역 생성 선점 (PENDING → MATERIALIZED, 1 이면 이 트랜잭션이 생성 담당)
+    // version 도 올려서 동시에 PENDING 상태로 읽어 둔 엔티티가 덮어쓰지 못하게 한다
+    int claimHistoryMaterialization(Long id);
+}
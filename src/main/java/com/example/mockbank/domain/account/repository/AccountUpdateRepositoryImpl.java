@@ -0,0 +1,84 @@
+package com.example.mockbank.domain.account.repository;
+
+import com.example.mockbank.domain.account.entity.Account;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.hibernate.query.NativeQuery;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * AccountRepository 의 계좌 native UPDATE 구현 (Spring Data 커스텀 프래그먼트).
+ * balance 는 Money(컨버터) 라 HQL 산술 대신 컬럼(decimal) 그대로 native 로 계산한다.
+ * Account 로 동기화하면 Hibernate 가 엔티티 리전과 natural id 리전을 통째로 비우므로,
+ * 어떤 엔티티와도 겹치지 않는 query space 를 주고 바뀐 계좌 하나만 직접 evict 한다.
+ */
+@RequiredArgsConstructor
+public class AccountUpdateRepositoryImpl implements AccountUpdateRepository {
+
+    // 엔티티 테이블이 아니라 어떤 2차 캐시 리전도 무효화되지 않음 (빈 space 는 "전부" 로 취급된다)
+    static final String UNCACHED_QUERY_SPACE = "account_row_update";
+
+    private static final String INCREASE_SQL =
+            "update account set balance = balance + :amount, version = version + 1, updated_at = :now where id = :id";
+
+    private static final String DECREASE_SQL =
+            "update account set balance = balance - :amount, version = version + 1, updated_at = :now "
+                    + "where id = :id and balance >= :amount";
+
+    private static final String CLAIM_SQL =
+            "update account set history_status = 'MATERIALIZED', version = version + 1 "
+                    + "where id = :id and history_status = 'PENDING'";
+
+    private final EntityManager entityManager;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public int increaseBalance(Long userId, BigDecimal amount, LocalDateTime now) {
+        return updateBalance(INCREASE_SQL, userId, amount, now);
+    }
+
+    @Override
+    public int decreaseBalanceIfSufficient(Long userId, BigDecimal amount, LocalDateTime now) {
+        return updateBalance(DECREASE_SQL, userId, amount, now);
+    }
+
+    @Override
+    public int claimHistoryMaterialization(Long id) {
+        return execute(CLAIM_SQL, id, Map.of());
+    }
+
+    // userId → id 는 natural id 캐시로 (계좌 행은 읽지 않음), UPDATE 는 PK 로
+    private int updateBalance(String sql, Long userId, BigDecimal amount, LocalDateTime now) {
+        Session session = entityManager.unwrap(Session.class);
+        Account reference = session.bySimpleNaturalId(Account.class).getReference(userId);
+        if (reference == null) {
+            return 0;
+        }
+        return execute(sql, (Long) session.getIdentifier(reference), Map.of("amount", amount, "now", now));
+    }
+
+    // @Modifying(flushAutomatically, clearAutomatically) 와 같게 - 앞선 변경은 먼저 내보내고, 갱신 후 영속성 컨텍스트의 옛 값은 버린다
+    private int execute(String sql, Long id, Map<String, Object> parameters) {
+        entityManager.flush();
+        NativeQuery<?> query = entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(UNCACHED_QUERY_SPACE)
+                .setParameter("id", id);
+        parameters.forEach(query::setParameter);
+        int updated = query.executeUpdate();
+        entityManager.clear();
+        if (updated > 0) {
+            // 이 트랜잭션에서 다시 읽는 행은 아직 커밋 전 값 - 다른 트랜잭션에 보이지 않게 캐시에는 넣지 않는다
+            entityManager.unwrap(Session.class).setCacheMode(CacheMode.GET);
+            AccountCacheEviction.evictAroundCompletion(entityManagerFactory.getCache(), List.of(id));
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.mockbank.domain.account.repository;
+
+import com.example.mockbank.domain.account.entity.JournalDeadLetter;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface JournalDeadLetterRepository extends JpaRepository<JournalDeadLetter, Long> {
+
+    // 기동 복구 시 아직 반영 안 된 레코드에 걸린 잔액 보정
+    List<JournalDeadLetter> findByInstanceNameAndCorrectedThroughSeqGreaterThan(String instanceName, Long seq);
+}
@@ -0,0 +1,10 @@
+package com.example.mockbank.domain.account.repository;
+
+import com.example.mockbank.domain.account.entity.MonthlyTransactionSummary;
+
+import java.util.List;
+
+// 월간 롤업 대량 upsert (대량 프로비저닝용, upsertAdd 를 JDBC 배치로)
+public interface MonthlyTransactionSummaryBulkRepository {
+    void bulkUpsertAdd(List<MonthlyTransactionSummary> rows);
+}
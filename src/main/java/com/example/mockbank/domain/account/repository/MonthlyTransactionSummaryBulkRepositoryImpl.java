@@ -0,0 +1,38 @@
+package com.example.mockbank.domain.account.repository;
+
+import com.example.mockbank.domain.account.entity.MonthlyTransactionSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class MonthlyTransactionSummaryBulkRepositoryImpl implements MonthlyTransactionSummaryBulkRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String UPSERT_SQL = """
+            insert into monthly_transaction_summary (account_id, stat_month, income_sum, expense_sum, tx_count)
+            values (?, ?, ?, ?, ?)
+            on duplicate key update
+                income_sum = income_sum + values(income_sum),
+                expense_sum = expense_sum + values(expense_sum),
+                tx_count = tx_count + values(tx_count)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void bulkUpsertAdd(List<MonthlyTransactionSummary> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows, BATCH_SIZE, (ps, row) -> {
+            ps.setLong(1, row.getAccountId());
+            ps.setString(2, row.getStatMonth().toString());
+            ps.setBigDecimal(3, row.getIncomeSum().toBigDecimal());
+            ps.setBigDecimal(4, row.getExpenseSum().toBigDecimal());
+            ps.setLong(5, row.getTxCount());
+        });
+    }
+}
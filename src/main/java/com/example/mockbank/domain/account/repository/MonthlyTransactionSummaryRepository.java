@@ -0,0 +1,45 @@
+package com.example.mockbank.domain.account.repository;
+
+import com.example.mockbank.domain.account.entity.MonthlyTransactionSummary;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+
+public interface MonthlyTransactionSummaryRepository extends JpaRepository<MonthlyTransactionSummary, Long>,
+        MonthlyTransactionSummaryBulkRepository {
+
+    List<MonthlyTransactionSummary> findByAccountIdAndStatMonthBetweenOrderByStatMonth(
+            Long accountId, YearMonth startYm, YearMonth endYm);
+
+    List<MonthlyTransactionSummary> findByAccountIdOrderByStatMonth(Long accountId);
+
+    // (account_id, stat_month) 유니크 키 기준 upsert → 동시 입출금에도 한 문장으로 누적
+    // native 라 바뀌는 테이블을 알려 주지 않으면 Hibernate 가 2차 캐시 리전을 전부 비운다 (이 테이블은 캐시 대상 아님)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "monthly_transaction_summary"))
+    @Query(value = """
+            insert into monthly_transaction_summary (account_id, stat_month, income_sum, expense_sum, tx_count)
+            values (:accountId, :statMonth, :income, :expense, :txCount)
+            on duplicate key update
+                income_sum = income_sum + values(income_sum),
+                expense_sum = expense_sum + values(expense_sum),
+                tx_count = tx_count + values(tx_count)
+            """, nativeQuery = true)
+    int upsertAdd(@Param("accountId") Long accountId,
+                  @Param("statMonth") String statMonth,
+                  @Param("income") BigDecimal income,
+                  @Param("expense") BigDecimal expense,
+                  @Param("txCount") long txCount);
+
+    @Modifying
+    @Query("delete from MonthlyTransactionSummary s where s.accountId = :accountId")
+    int deleteByAccountId(@Param("accountId") Long accountId);
+}
@@ -0,0 +1,18 @@
+package com.example.mockbank.domain.account.repository;
+
+import com.example.mockbank.domain.account.entity.Transaction;
+import com.example.mockbank.domain.account.vo.Money;
+
+import java.util.List;
+import java.util.Map;
+
+// 대량 거래 INSERT/UPDATE 전용 (IDENTITY 키라 Hibernate 배치가 안 되는 경로를 JDBC 배치로 우회)
+public interface TransactionBulkRepository {
+    void bulkInsert(Long accountId, List<Transaction> transactions);
+
+    // 여러 계좌의 거래를 한 배치로 (accountId → 거래 목록)
+    void bulkInsert(Map<Long, List<Transaction>> transactionsByAccountId);
+
+    // 원장 백필: 거래 id → balance_after 일괄 갱신
+    void bulkUpdateBalanceAfter(Map<Long, Money> balanceAfterById);
+}
@@ -0,0 +1,76 @@
+package com.example.mockbank.domain.account.repository;
+
+import com.example.mockbank.domain.account.entity.Transaction;
+import com.example.mockbank.domain.account.vo.Money;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * TransactionRepository 의 bulkInsert 구현 (Spring Data 커스텀 프래그먼트).
+ * JPA 트랜잭션과 같은 커넥션을 사용하고, MySQL 은 rewriteBatchedStatements=true 일 때
+ * 배치가 multi-row INSERT 한 문장으로 합쳐진다.
+ */
+@RequiredArgsConstructor
+public class TransactionBulkRepositoryImpl implements TransactionBulkRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL =
+            "insert into transaction (account_id, amount, type, created_at, description, memo, balance_after) values (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_BALANCE_AFTER_SQL = "update transaction set balance_after = ? where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void bulkInsert(Long accountId, List<Transaction> transactions) {
+        if (transactions.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, transactions, BATCH_SIZE, (ps, tx) -> bind(ps, accountId, tx));
+    }
+
+    @Override
+    public void bulkInsert(Map<Long, List<Transaction>> transactionsByAccountId) {
+        List<Row> rows = new ArrayList<>();
+        transactionsByAccountId.forEach((accountId, txs) -> {
+            for (Transaction tx : txs) rows.add(new Row(accountId, tx));
+        });
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, BATCH_SIZE, (ps, row) -> bind(ps, row.accountId(), row.tx()));
+    }
+
+    @Override
+    public void bulkUpdateBalanceAfter(Map<Long, Money> balanceAfterById) {
+        if (balanceAfterById.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPDATE_BALANCE_AFTER_SQL, new ArrayList<>(balanceAfterById.entrySet()), BATCH_SIZE,
+                (ps, e) -> {
+                    ps.setBigDecimal(1, e.getValue().toBigDecimal());
+                    ps.setLong(2, e.getKey());
+                });
+    }
+
+    private static void bind(PreparedStatement ps, Long accountId, Transaction tx) throws SQLException {
+        ps.setLong(1, accountId);
+        ps.setBigDecimal(2, tx.getAmount().toBigDecimal());
+        ps.setString(3, tx.getType().name());
+        ps.setTimestamp(4, Timestamp.valueOf(tx.getCreatedAt()));
+        ps.setString(5, tx.getDescription());
+        ps.setString(6, tx.getMemo());
+        ps.setBigDecimal(7, tx.getBalanceAfter() == null ? null : tx.getBalanceAfter().toBigDecimal());
+    }
+
+    private record Row(Long accountId, Transaction tx) {
+    }
+}
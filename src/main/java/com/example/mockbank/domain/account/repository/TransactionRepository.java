@@ -1,7 +1,150 @@
 package com.example.mockbank.domain.account.repository;
 
 import com.example.mockbank.domain.account.entity.Transaction;
+import com.example.mockbank.domain.account.repository.projection.TransactionExportRow;
+import com.example.mockbank.domain.account.repository.projection.TransactionPeriodStat;
+import com.example.mockbank.domain.account.repository.projection.TransactionView;
+import com.example.mockbank.domain.account.vo.Money;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
-public interface TransactionRepository extends JpaRepository<Transaction, Long> {
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface TransactionRepository extends JpaRepository<Transaction, Long>, TransactionBulkRepository {
+
+    // 내보내기 스트림 fetch size (MySQL 은 URL 에 useCursorFetch=true 여야 서버 커서로 나눠 받음)
+    String EXPORT_FETCH_SIZE = "1000";
+
+    List<Transaction> findByAccountIdOrderByCreatedAtAscIdAsc(Long accountId);
+
+    // 시점 잔액: at 이전 마지막 거래의 balance_after (idx_transaction_account_created_id 역순 1행)
+    @Query("""
+            select t.balanceAfter from Transaction t
+            where t.account.id = :accountId and t.createdAt <= :at
+            order by t.createdAt desc, t.id desc
+            """)
+    List<Money> findBalanceAfterAt(@Param("accountId") Long accountId,
+                                   @Param("at") LocalDateTime at,
+                                   Pageable pageable);
+
+    // 원장 최신 행 (정합성 검사용)
+    @Query("""
+            select t.balanceAfter from Transaction t
+            where t.account.id = :accountId
+            order by t.createdAt desc, t.id desc
+            """)
+    List<Money> findLatestBalanceAfter(@Param("accountId") Long accountId, Pageable pageable);
+
+    // balance_after 가 비어 있는 과거 행용 fallback (at 이전 전체 합산)
+    // amount 는 Money(컨버터) 라 집계/산술은 컬럼 타입(decimal)으로 cast 해서 DB 에서 계산
+    @Query("""
+            select coalesce(sum(case when t.type = com.example.mockbank.domain.account.enums.TransactionType.DEPOSIT
+                                     then cast(t.amount as BigDecimal) else -cast(t.amount as BigDecimal) end), 0)
+            from Transaction t
+            where t.account.id = :accountId and t.createdAt <= :at
+            """)
+    BigDecimal sumSignedAmountUntil(@Param("accountId") Long accountId, @Param("at") LocalDateTime at);
+
+    // 최신순 첫 페이지 (idx_transaction_account_created_id 역순 스캔)
+    @Query("""
+            select new com.example.mockbank.domain.account.repository.projection.TransactionView(
+                t.id, t.amount, t.type, t.createdAt, t.description, t.memo)
+            from Transaction t
+            where t.account.id = :accountId
+            order by t.createdAt desc, t.id desc
+            """)
+    List<TransactionView> findLatestViews(@Param("accountId") Long accountId, Pageable pageable);
+
+    // 키셋 페이지: 커서 (createdAt, id) 보다 오래된 거래
+    @Query("""
+            select new com.example.mockbank.domain.account.repository.projection.TransactionView(
+                t.id, t.amount, t.type, t.createdAt, t.description, t.memo)
+            from Transaction t
+            where t.account.id = :accountId
+              and (t.createdAt < :createdAt or (t.createdAt = :createdAt and t.id < :id))
+            order by t.createdAt desc, t.id desc
+            """)
+    List<TransactionView> findViewsBefore(@Param("accountId") Long accountId,
+                                          @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("id") Long id,
+                                          Pageable pageable);
+
+    // 전체 조회 (호환용, 무제한)
+    @Query("""
+            select new com.example.mockbank.domain.account.repository.projection.TransactionView(
+                t.id, t.amount, t.type, t.createdAt, t.description, t.memo)
+            from Transaction t
+            where t.account.id = :accountId
+            order by t.createdAt desc, t.id desc
+            """)
+    List<TransactionView> findAllViews(@Param("accountId") Long accountId);
+
+    // 내보내기: 한 계좌 전체 (오래된 순). 트랜잭션 안에서 소비하고 반드시 close
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            select new com.example.mockbank.domain.account.repository.projection.TransactionExportRow(
+                t.id, a.id, a.userId, t.amount, t.type, t.createdAt, t.description, t.memo)
+            from Transaction t join t.account a
+            where a.id = :accountId
+            order by t.createdAt, t.id
+            """)
+    Stream<TransactionExportRow> streamExportRows(@Param("accountId") Long accountId);
+
+    // 내보내기: 기간 [from, to) 전체 계좌 (계좌 → 시간순, idx_transaction_account_created_id 순서 그대로)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            select new com.example.mockbank.domain.account.repository.projection.TransactionExportRow(
+                t.id, a.id, a.userId, t.amount, t.type, t.createdAt, t.description, t.memo)
+            from Transaction t join t.account a
+            where t.createdAt >= :from and t.createdAt < :to
+            order by a.id, t.createdAt, t.id
+            """)
+    Stream<TransactionExportRow> streamExportRowsBetween(@Param("from") LocalDateTime from,
+                                                         @Param("to") LocalDateTime to);
+
+    // 일별 집계 [from, to) - idx_transaction_account_created_type_amount 만으로 처리 (테이블 접근 없음)
+    @Query("""
+            select new com.example.mockbank.domain.account.repository.projection.TransactionPeriodStat(
+                year(t.createdAt), month(t.createdAt), day(t.createdAt),
+                sum(case when t.type = com.example.mockbank.domain.account.enums.TransactionType.DEPOSIT then cast(t.amount as BigDecimal) end),
+                sum(case when t.type = com.example.mockbank.domain.account.enums.TransactionType.WITHDRAWAL then cast(t.amount as BigDecimal) end),
+                count(t))
+            from Transaction t
+            where t.account.id = :accountId and t.createdAt >= :from and t.createdAt < :to
+            group by year(t.createdAt), month(t.createdAt), day(t.createdAt)
+            order by year(t.createdAt), month(t.createdAt), day(t.createdAt)
+            """)
+    List<TransactionPeriodStat> sumByDay(@Param("accountId") Long accountId,
+                                         @Param("from") LocalDateTime from,
+                                         @Param("to") LocalDateTime to);
+
+    // 월별 집계 [from, to) - 월 중간에서 시작/끝나는 구간도 그대로 처리 (롤업은 월 전체 단위라 사용 불가)
+    @Query("""
+            select new com.example.mockbank.domain.account.repository.projection.TransactionPeriodStat(
+                year(t.createdAt), month(t.createdAt), cast(null as Integer),
+                sum(case when t.type = com.example.mockbank.domain.account.enums.TransactionType.DEPOSIT then cast(t.amount as BigDecimal) end),
+                sum(case when t.type = com.example.mockbank.domain.account.enums.TransactionType.WITHDRAWAL then cast(t.amount as BigDecimal) end),
+                count(t))
+            from Transaction t
+            where t.account.id = :accountId and t.createdAt >= :from and t.createdAt < :to
+            group by year(t.createdAt), month(t.createdAt)
+            order by year(t.createdAt), month(t.createdAt)
+            """)
+    List<TransactionPeriodStat> sumByMonth(@Param("accountId") Long accountId,
+                                           @Param("from") LocalDateTime from,
+                                           @Param("to") LocalDateTime to);
 }
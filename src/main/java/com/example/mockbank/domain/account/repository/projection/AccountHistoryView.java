@@ -0,0 +1,10 @@
+package com.example.mockbank.domain.account.repository.projection;
+
+import com.example.mockbank.domain.account.enums.HistoryStatus;
+
+// LAZY 초기 내역 저장 여부 확인 전용 프로젝션 (id + 상태만)
+public record AccountHistoryView(
+        Long id,
+        HistoryStatus historyStatus
+) {
+}
@@ -0,0 +1,13 @@
+package com.example.mockbank.domain.account.repository.projection;
+
+import com.example.mockbank.domain.account.enums.HistoryStatus;
+import com.example.mockbank.domain.account.vo.Money;
+
+// 전체 원장 검사 전용 프로젝션 (잔액 비교에 필요한 컬럼만, 영속성 컨텍스트에 쌓이지 않음)
+public record AccountLedgerView(
+        Long id,
+        Long userId,
+        Money balance,
+        HistoryStatus historyStatus
+) {
+}
@@ -0,0 +1,12 @@
+package com.example.mockbank.domain.account.repository.projection;
+
+import com.example.mockbank.domain.account.vo.Money;
+
+// 계좌 조회 전용 프로젝션 (AccountResponse 4개 필드만, 엔티티 하이드레이션/더티체킹 없음)
+public record AccountView(
+        Long id,
+        Long userId,
+        String accountNumber,
+        Money balance
+) {
+}
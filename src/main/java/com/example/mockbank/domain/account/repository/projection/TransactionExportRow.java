@@ -0,0 +1,19 @@
+package com.example.mockbank.domain.account.repository.projection;
+
+import com.example.mockbank.domain.account.enums.TransactionType;
+import com.example.mockbank.domain.account.vo.Money;
+
+import java.time.LocalDateTime;
+
+// 거래 내역 내보내기(대사용) 행 - 여러 계좌를 한 스트림으로 내보낼 때를 위해 계좌/유저 id 포함
+public record TransactionExportRow(
+        Long id,
+        Long accountId,
+        Long userId,
+        Money amount,
+        TransactionType type,
+        LocalDateTime createdAt,
+        String description,
+        String memo
+) {
+}
@@ -0,0 +1,14 @@
+package com.example.mockbank.domain.account.repository.projection;
+
+import java.math.BigDecimal;
+
+// 기간(일/월) 단위 집계 행 - day 는 월 집계일 때 null, 해당 유형 거래가 없으면 income/expense 는 null
+public record TransactionPeriodStat(
+        Integer year,
+        Integer month,
+        Integer day,
+        BigDecimal income,
+        BigDecimal expense,
+        Long count
+) {
+}
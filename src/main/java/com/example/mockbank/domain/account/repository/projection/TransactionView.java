@@ -0,0 +1,17 @@
+package com.example.mockbank.domain.account.repository.projection;
+
+import com.example.mockbank.domain.account.enums.TransactionType;
+import com.example.mockbank.domain.account.vo.Money;
+
+import java.time.LocalDateTime;
+
+// 거래 내역 조회 전용 프로젝션 (엔티티 하이드레이션/더티체킹 없음)
+public record TransactionView(
+        Long id,
+        Money amount,
+        TransactionType type,
+        LocalDateTime createdAt,
+        String description,
+        String memo
+) {
+}
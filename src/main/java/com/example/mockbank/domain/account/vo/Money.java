@@ -0,0 +1,94 @@
+package com.example.mockbank.domain.account.vo;
+
+import com.example.mockbank.common.enums.ErrorCode;
+import com.example.mockbank.common.exception.CustomException;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 금액 (원화) - long 최소 단위(0.01원) 고정 소수점.
+ * <p>
+ * 잔액/거래 금액/집계를 BigDecimal 대신 long 덧셈으로 처리하고, BigDecimal 은 JSON/JDBC 경계에서만 만든다.
+ * 컬럼이 decimal(38,2) 라 최소 단위를 0.01원으로 두면 DB 값과 1:1 (소수점 월급도 그대로 표현).
+ * 범위를 넘는 연산/입력은 조용히 잘리지 않고 INVALID_AMOUNT 로 거절한다.
+ */
+public record Money(long minor) implements Comparable<Money>, Serializable {
+
+    public static final int SCALE = 2;
+    public static final long MINOR_PER_WON = 100L;
+    public static final Money ZERO = new Money(0L);
+
+    public static Money won(long won) {
+        try {
+            return new Money(Math.multiplyExact(won, MINOR_PER_WON));
+        } catch (ArithmeticException e) {
+            throw new CustomException(ErrorCode.INVALID_AMOUNT);
+        }
+    }
+
+    // 소수점 셋째 자리 이하가 있거나 long 범위를 넘으면 INVALID_AMOUNT
+    public static Money of(BigDecimal value) {
+        try {
+            return new Money(value.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact());
+        } catch (ArithmeticException e) {
+            throw new CustomException(ErrorCode.INVALID_AMOUNT);
+        }
+    }
+
+    public static Money ofNullable(BigDecimal value) {
+        return value == null ? null : of(value);
+    }
+
+    public Money plus(Money other) {
+        try {
+            return new Money(Math.addExact(minor, other.minor));
+        } catch (ArithmeticException e) {
+            throw new CustomException(ErrorCode.INVALID_AMOUNT);
+        }
+    }
+
+    public Money minus(Money other) {
+        try {
+            return new Money(Math.subtractExact(minor, other.minor));
+        } catch (ArithmeticException e) {
+            throw new CustomException(ErrorCode.INVALID_AMOUNT);
+        }
+    }
+
+    // 원 단위 미만 버림 (평균 계산용)
+    public Money divideDown(long divisor) {
+        long won = minor / MINOR_PER_WON / divisor;
+        return new Money(won * MINOR_PER_WON);
+    }
+
+    public int signum() {
+        return Long.signum(minor);
+    }
+
+    public boolean isNegative() {
+        return minor < 0;
+    }
+
+    public boolean isLessThan(Money other) {
+        return minor < other.minor;
+    }
+
+    // 항상 scale 2 (컬럼 decimal(38,2) 와 같은 표현, 10000 → 10000.00) - 내보내기 행처럼 Money 를 그대로 직렬화해도 숫자
+    @JsonValue
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minor, SCALE);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minor, other.minor);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.mockbank.adapter.in.messaging;
+
+import com.example.mockbank.application.dto.AccountCreateRequest;
+import com.example.mockbank.application.service.AccountNumberAllocator;
+import com.example.mockbank.application.service.AccountService;
+import com.example.mockbank.common.redis.IdempotencyService;
+import com.example.mockbank.common.redis.IdempotencyService.Claim;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchResultEntry;
+import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageResponse;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+// poller → worker → 배치 ack 전체 흐름 (SQS/Redis 는 mock, visibility 연장 주기 1초)
+class AccountSqsListenerDispatchTest {
+
+    private final SqsClient sqsClient = mock(SqsClient.class);
+    private final AccountService accountService = mock(AccountService.class);
+    private final AccountNumberAllocator accountNumberAllocator = mock(AccountNumberAllocator.class);
+    private final IdempotencyService idempotencyService = mock(IdempotencyService.class);
+    private final CountDownLatch releaseSlow = new CountDownLatch(1);
+    private AccountSqsListener listener;
+
+    @AfterEach
+    void tearDown() {
+        releaseSlow.countDown();
+        if (listener != null) {
+            listener.stopPolling();
+        }
+    }
+
+    @Test
+    @DisplayName("먼저 끝난 메시지도 배치가 ack 될 때까지 visibility 를 계속 연장")
+    void finishedMessage_keepsHeartbeatUntilAcked() throws Exception {
+        start(false);
+
+        // 느린 메시지가 붙잡혀 있는 동안 빠른 메시지(rh-1)도 연장되어야 재노출되지 않는다
+        verify(sqsClient, timeout(3_000).atLeastOnce()).changeMessageVisibility(
+                argThat((ChangeMessageVisibilityRequest r) -> "rh-1".equals(r.receiptHandle())));
+
+        releaseSlow.countDown();
+        verify(sqsClient, timeout(3_000)).deleteMessageBatch(argThat((DeleteMessageBatchRequest r) ->
+                r.entries().stream().map(DeleteMessageBatchRequestEntry::receiptHandle).toList()
+                        .containsAll(List.of("rh-1", "rh-2"))));
+    }
+
+    @Test
+    @DisplayName("가상 스레드 worker 로도 메시지를 처리하고 배치 ack")
+    void virtualWorkers_processAndAckBatch() throws Exception {
+        AtomicBoolean virtual = new AtomicBoolean();
+        given(accountService.createAccount(any(AccountCreateRequest.class))).willAnswer(inv -> {
+            virtual.set(Thread.currentThread().isVirtual());
+            return null;
+        });
+        start(true);
+
+        verify(sqsClient, timeout(3_000)).deleteMessageBatch(any(DeleteMessageBatchRequest.class));
+        assertThat(virtual).isTrue();
+    }
+
+    private void start(boolean virtualWorkers) throws Exception {
+        Message fast = message("m-1", "rh-1", 1L);
+        Message slow = message("m-2", "rh-2", 2L);
+        AtomicBoolean delivered = new AtomicBoolean();
+        given(sqsClient.receiveMessage(any(ReceiveMessageRequest.class))).willAnswer(inv -> {
+            if (delivered.compareAndSet(false, true)) {
+                return ReceiveMessageResponse.builder().messages(fast, slow).build();
+            }
+            Thread.sleep(100);
+            return ReceiveMessageResponse.builder().build();
+        });
+        given(sqsClient.deleteMessageBatch(any(DeleteMessageBatchRequest.class))).willAnswer(inv -> {
+            DeleteMessageBatchRequest request = inv.getArgument(0);
+            return DeleteMessageBatchResponse.builder()
+                    .successful(request.entries().stream()
+                            .map(e -> DeleteMessageBatchResultEntry.builder().id(e.id()).build())
+                            .toList())
+                    .build();
+        });
+        given(idempotencyService.claimAll(anyList())).willAnswer(inv -> {
+            List<String> keys = inv.getArgument(0);
+            return keys.stream().map(k -> new Claim(k, "token", IdempotencyService.Status.CLAIMED)).toList();
+        });
+        given(idempotencyService.claim(anyString()))
+                .willAnswer(inv -> new Claim(inv.getArgument(0), "token", IdempotencyService.Status.CLAIMED));
+        given(accountNumberAllocator.next()).willReturn("1000000018");
+        if (!virtualWorkers) {
+            given(accountService.createAccount(any(AccountCreateRequest.class))).willAnswer(inv -> {
+                AccountCreateRequest request = inv.getArgument(0);
+                if (request.getUserId() == 2L) {
+                    releaseSlow.await(10, TimeUnit.SECONDS);
+                }
+                return null;
+            });
+        }
+
+        listener = new AccountSqsListener(sqsClient, new ObjectMapper(), accountService, accountNumberAllocator,
+                idempotencyService, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(listener, "queueUrl", "http://localhost/queue");
+        ReflectionTestUtils.setField(listener, "pollerCount", 1);
+        ReflectionTestUtils.setField(listener, "workerCount", 2);
+        ReflectionTestUtils.setField(listener, "maxMessages", 10);
+        ReflectionTestUtils.setField(listener, "maxInFlight", 10);
+        ReflectionTestUtils.setField(listener, "visibilityTimeoutSeconds", 2);
+        ReflectionTestUtils.setField(listener, "virtualWorkers", virtualWorkers);
+        listener.startPolling();
+    }
+
+    private static Message message(String id, String receiptHandle, long userId) {
+        return Message.builder()
+                .messageId(id)
+                .receiptHandle(receiptHandle)
+                .body("{\"userId\":" + userId + "}")
+                .build();
+    }
+}
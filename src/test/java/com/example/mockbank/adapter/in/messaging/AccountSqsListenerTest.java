@@ -1,7 +1,10 @@
 package com.example.mockbank.adapter.in.messaging;
 
 import com.example.mockbank.application.dto.AccountCreateRequest;
+import com.example.mockbank.application.service.AccountNumberAllocator;
 import com.example.mockbank.application.service.AccountService;
+import com.example.mockbank.common.redis.IdempotencyService;
+import com.example.mockbank.common.redis.IdempotencyService.Claim;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,7 +24,9 @@ import static org.mockito.Mockito.*;
 class AccountSqsListenerTest {
 
     @Mock private AccountService accountService;
+    @Mock private AccountNumberAllocator accountNumberAllocator;
     @Mock private ObjectMapper objectMapper;
+    @Mock private IdempotencyService idempotencyService;
     @InjectMocks private AccountSqsListener listener;
 
     @Test
@@ -32,7 +37,8 @@ class AccountSqsListenerTest {
 
         var jsonNode = new ObjectMapper().readTree(json);
         given(objectMapper.readTree(json)).willReturn(jsonNode);
-        given(accountService.existsByAccountNumber(anyString())).willReturn(false);
+        given(accountNumberAllocator.next()).willReturn("1000000018");
+        given(idempotencyService.claim(anyString())).willReturn(claimed());
 
         listener.handleMessage(message);
 
@@ -41,7 +47,7 @@ class AccountSqsListenerTest {
         assertEquals(10L, captor.getValue().getUserId());
         assertEquals("테스터10", captor.getValue().getUserName());
         assertNull(captor.getValue().getSalary());
-        assertNotNull(captor.getValue().getAccountNumber());
+        assertEquals("1000000018", captor.getValue().getAccountNumber());
     }
 
     @Test
@@ -52,7 +58,8 @@ class AccountSqsListenerTest {
 
         var jsonNode = new ObjectMapper().readTree(json);
         given(objectMapper.readTree(json)).willReturn(jsonNode);
-        given(accountService.existsByAccountNumber(anyString())).willReturn(false);
+        given(accountNumberAllocator.next()).willReturn("1000000018");
+        given(idempotencyService.claim(anyString())).willReturn(claimed());
 
         listener.handleMessage(message);
 
@@ -73,7 +80,8 @@ class AccountSqsListenerTest {
 
         given(objectMapper.readTree(wrapped)).willReturn(outerNode);
         given(objectMapper.readTree(innerJson)).willReturn(innerNode);
-        given(accountService.existsByAccountNumber(anyString())).willReturn(false);
+        given(accountNumberAllocator.next()).willReturn("1000000018");
+        given(idempotencyService.claim(anyString())).willReturn(claimed());
 
         listener.handleMessage(message);
 
@@ -88,7 +96,8 @@ class AccountSqsListenerTest {
         var jsonNode = new ObjectMapper().readTree(json);
 
         given(objectMapper.readTree(json)).willReturn(jsonNode);
-        given(accountService.existsByAccountNumber(anyString())).willReturn(false);
+        given(accountNumberAllocator.next()).willReturn("1000000018");
+        given(idempotencyService.claim(anyString())).willReturn(claimed());
 
         listener.handleMessage(message);
 
@@ -106,5 +115,42 @@ class AccountSqsListenerTest {
         assertThrows(RuntimeException.class, () -> listener.handleMessage(message));
         verify(accountService, never()).createAccount(any());
     }
-}
 
+    @Test
+    @DisplayName("이미 계좌가 생성된 userId - 생성하지 않고 DONE 반환")
+    void handleMessage_userAlreadyDone() throws Exception {
+        String json = "{\"userId\":30,\"userName\":\"테스터30\"}";
+        Message message = Message.builder().body(json).build();
+        var jsonNode = new ObjectMapper().readTree(json);
+
+        given(objectMapper.readTree(json)).willReturn(jsonNode);
+        given(idempotencyService.claim("idem:account-create:user:30"))
+                .willReturn(new Claim("idem:account-create:user:30", null, IdempotencyService.Status.DONE));
+
+        Claim result = listener.handleMessage(message);
+
+        assertEquals(IdempotencyService.Status.DONE, result.status());
+        verify(accountService, never()).createAccount(any());
+    }
+
+    @Test
+    @DisplayName("계좌 생성 실패 시 userId 선점 해제")
+    void handleMessage_createFails_releasesClaim() throws Exception {
+        String json = "{\"userId\":31}";
+        Message message = Message.builder().body(json).build();
+        var jsonNode = new ObjectMapper().readTree(json);
+        Claim claim = claimed();
+
+        given(objectMapper.readTree(json)).willReturn(jsonNode);
+        given(idempotencyService.claim(anyString())).willReturn(claim);
+        given(accountNumberAllocator.next()).willReturn("1000000018");
+        given(accountService.createAccount(any())).willThrow(new RuntimeException("DB 오류"));
+
+        assertThrows(RuntimeException.class, () -> listener.handleMessage(message));
+        verify(idempotencyService).release(claim);
+    }
+
+    private Claim claimed() {
+        return new Claim("idem:account-create:user:test", "token", IdempotencyService.Status.CLAIMED);
+    }
+}
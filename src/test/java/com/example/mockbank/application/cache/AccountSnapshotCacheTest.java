@@ -0,0 +1,113 @@
+package com.example.mockbank.application.cache;
+
+import com.example.mockbank.application.dto.AccountResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class AccountSnapshotCacheTest {
+
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOps = mock(ValueOperations.class);
+    private AccountSnapshotCache cache;
+
+    @BeforeEach
+    void setUp() {
+        given(redisTemplate.opsForValue()).willReturn(valueOps);
+        cache = new AccountSnapshotCache(redisTemplate, new ObjectMapper(), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "localMaxSize", 100L);
+        ReflectionTestUtils.setField(cache, "localTtlSeconds", 30L);
+        ReflectionTestUtils.setField(cache, "redisTtlSeconds", 600L);
+        cache.init();
+    }
+
+    @Test
+    @DisplayName("미스 → 로더 결과를 로컬에 두고, 읽은 버전을 조건으로 Redis 에 기록")
+    void miss_loadsAndWritesWithCapturedVersion() {
+        given(valueOps.multiGet(anyList())).willReturn(Arrays.asList(null, "7"));
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(1L, () -> snapshot(loads, "10000"));
+        AccountResponse second = cache.get(1L, () -> snapshot(loads, "99999"));
+
+        assertThat(loads).hasValue(1);
+        assertThat(second.getBalance()).isEqualByComparingTo("10000");
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("account-snapshot:{1}", "account-snapshot-version:{1}")),
+                eq("7"), anyString(), eq("600"));
+    }
+
+    @Test
+    @DisplayName("로딩 중 무효화되면 읽은 옛 값을 로컬 캐시에 남기지 않음")
+    void evictDuringLoad_discardsStaleFill() {
+        given(valueOps.multiGet(anyList())).willReturn(Arrays.asList(null, null));
+        AtomicInteger loads = new AtomicInteger();
+
+        // 커밋 전 잔액을 읽은 직후 입금 커밋 → evict 가 끼어든 상황
+        cache.get(1L, () -> {
+            AccountResponse stale = snapshot(loads, "10000");
+            cache.evict(1L);
+            return stale;
+        });
+        AccountResponse fresh = cache.get(1L, () -> snapshot(loads, "15000"));
+
+        assertThat(loads).hasValue(2);
+        assertThat(fresh.getBalance()).isEqualByComparingTo("15000");
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 무효화 메시지도 진행 중인 로컬 채우기를 막음")
+    void remoteInvalidationDuringLoad_discardsStaleFill() {
+        given(valueOps.multiGet(anyList())).willReturn(Arrays.asList(null, null));
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(1L, () -> {
+            AccountResponse stale = snapshot(loads, "10000");
+            cache.onMessage(new DefaultMessage(
+                    AccountSnapshotCache.INVALIDATION_CHANNEL.getBytes(), "1".getBytes()), null);
+            return stale;
+        });
+        cache.get(1L, () -> snapshot(loads, "15000"));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Redis 조회 실패 시 버전을 모르므로 Redis 에 쓰지 않음")
+    void redisReadError_skipsRedisWrite() {
+        given(valueOps.multiGet(anyList())).willThrow(new IllegalStateException("down"));
+
+        AccountResponse loaded = cache.get(1L, () -> snapshot(new AtomicInteger(), "10000"));
+
+        assertThat(loaded.getBalance()).isEqualByComparingTo("10000");
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), anyString(), anyString(), anyString());
+    }
+
+    private static AccountResponse snapshot(AtomicInteger loads, String balance) {
+        loads.incrementAndGet();
+        return new AccountResponse(1L, 1L, "1000000018", new BigDecimal(balance));
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.mockbank.application.journal;
+
+import com.example.mockbank.common.enums.ErrorCode;
+import com.example.mockbank.common.exception.CustomException;
+import com.example.mockbank.domain.account.enums.TransactionType;
+import com.example.mockbank.domain.account.vo.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TransactionJournalTest {
+
+    private static final int SEGMENT_BYTES = 4 * 1024;
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 25, 9, 0, 0, 123_456_789);
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("재시작 시 checkpoint 이후 레코드만 그대로 복구되고 seq 는 이어서 발급")
+    void reopen_replaysRecordsAfterCheckpoint() throws IOException {
+        List<JournalRecord> appended = new ArrayList<>();
+        TransactionJournal journal = TransactionJournal.open(dir, SEGMENT_BYTES, true, 0L, new ArrayList<>());
+        for (int i = 1; i <= 5; i++) {
+            journal.append(7L, 1L, i % 2 == 0 ? TransactionType.WITHDRAWAL : TransactionType.DEPOSIT,
+                    new Money(100_050L), Money.won(i * 1_000_000_000L), NOW.plusSeconds(i), i == 3 ? null : "메모" + i,
+                    appended::add);
+        }
+        journal.sync(5L);
+        journal.close();
+
+        List<JournalRecord> replay = new ArrayList<>();
+        TransactionJournal reopened = TransactionJournal.open(dir, SEGMENT_BYTES, true, 2L, replay);
+
+        assertThat(replay).containsExactlyElementsOf(appended.subList(2, 5));
+        assertThat(replay.get(0).memo()).isNull();
+        assertThat(replay.get(0).createdAt()).isEqualTo(NOW.plusSeconds(3));
+        JournalRecord next = reopened.append(7L, 1L, TransactionType.DEPOSIT, Money.won(1), Money.won(1), NOW, null, r -> { });
+        assertThat(next.seq()).isEqualTo(6L);
+    }
+
+    @Test
+    @DisplayName("쓰다 만 꼬리 레코드(CRC 불일치)는 무시")
+    void reopen_ignoresTornTail() throws IOException {
+        TransactionJournal journal = TransactionJournal.open(dir, SEGMENT_BYTES, true, 0L, new ArrayList<>());
+        journal.append(7L, 1L, TransactionType.DEPOSIT, Money.won(10), Money.won(10), NOW, "a", r -> { });
+        JournalRecord second = journal.append(7L, 1L, TransactionType.DEPOSIT, Money.won(10), Money.won(20), NOW, "b", r -> { });
+        journal.close();
+
+        // 두 번째 레코드 payload 마지막 바이트 손상
+        Path segment = segments().get(0);
+        assertThat(TransactionJournal.readSegment(segment)).hasSize(2);
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            long last = findEndOfRecords(segment) - 1;
+            file.seek(last);
+            int b = file.read();
+            file.seek(last);
+            file.write(b ^ 0xFF);
+        }
+
+        List<JournalRecord> replay = new ArrayList<>();
+        TransactionJournal.open(dir, SEGMENT_BYTES, true, 0L, replay);
+        assertThat(replay).hasSize(1);
+        assertThat(replay.get(0).seq()).isEqualTo(second.seq() - 1);
+    }
+
+    @Test
+    @DisplayName("세그먼트가 차면 새 파일로 넘어가고, checkpoint 이하 세그먼트는 truncate 로 삭제")
+    void roll_andTruncate() throws IOException {
+        TransactionJournal journal = TransactionJournal.open(dir, SEGMENT_BYTES, false, 0L, new ArrayList<>());
+        long last = 0;
+        for (int i = 0; i < 200; i++) {
+            last = journal.append(7L, 1L, TransactionType.DEPOSIT, Money.won(1), Money.won(i), NOW, "x".repeat(20), r -> { }).seq();
+        }
+        assertThat(segments().size()).isGreaterThan(1);
+
+        journal.truncate(last);
+        assertThat(segments()).hasSize(1); // 현재 세그먼트만 남음
+    }
+
+    @Test
+    @DisplayName("금액 인코딩은 음수/0/long 경계값까지 그대로 왕복")
+    void money_roundTrip() {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        for (long minor : new long[]{0L, 1L, -1L, 127L, 128L, -128L, -129L, 100_050L, -100_050L,
+                Long.MAX_VALUE, Long.MIN_VALUE}) {
+            TransactionJournal.putMoney(buffer.clear(), new Money(minor));
+            buffer.flip();
+
+            assertThat(buffer.getInt(0)).isEqualTo(Money.SCALE);
+            // 이전 decimal 포맷과 같은 unscaled 길이 (BigInteger.toByteArray)
+            assertThat(buffer.getShort(Integer.BYTES)).isEqualTo((short) BigInteger.valueOf(minor).toByteArray().length);
+            assertThat(TransactionJournal.getMoney(buffer)).isEqualTo(new Money(minor));
+            assertThat(buffer.hasRemaining()).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("이전 버전이 다른 scale 로 쓴 금액도 읽고, 0.01원 미만은 INVALID_AMOUNT")
+    void money_decodesLegacyScale() {
+        assertThat(TransactionJournal.getMoney(legacy(new BigInteger("-15000"), 0))).isEqualTo(Money.won(-15_000));
+        assertThat(TransactionJournal.getMoney(legacy(new BigInteger("1234500"), 3))).isEqualTo(new Money(123_450L));
+        // long 을 넘는 unscaled (9 바이트) 도 scale 을 맞추면 범위 안
+        assertThat(TransactionJournal.getMoney(legacy(BigInteger.valueOf(Long.MAX_VALUE).multiply(BigInteger.TEN), 3)))
+                .isEqualTo(new Money(Long.MAX_VALUE));
+
+        assertThatThrownBy(() -> TransactionJournal.getMoney(legacy(new BigInteger("12345"), 3)))
+                .isInstanceOf(CustomException.class)
+                .hasMessageContaining(ErrorCode.INVALID_AMOUNT.getMessage());
+    }
+
+    private static ByteBuffer legacy(BigInteger unscaled, int scale) {
+        byte[] bytes = unscaled.toByteArray();
+        return ByteBuffer.allocate(Integer.BYTES + Short.BYTES + bytes.length)
+                .putInt(scale)
+                .putShort((short) bytes.length)
+                .put(bytes)
+                .flip();
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.sorted().toList();
+        }
+    }
+
+    // [길이][CRC][payload] 를 따라가며 마지막 레코드 끝 위치
+    private static long findEndOfRecords(Path segment) throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "r")) {
+            long position = 0;
+            while (true) {
+                file.seek(position);
+                int length = file.readInt();
+                if (length <= 0) return position;
+                position += 8 + length;
+            }
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.example.mockbank.application.journal;
+
+import com.example.mockbank.application.cache.AccountSnapshotCache;
+import com.example.mockbank.application.service.TransactionSummaryService;
+import com.example.mockbank.common.enums.BalanceUpdateMode;
+import com.example.mockbank.common.enums.ErrorCode;
+import com.example.mockbank.common.exception.CustomException;
+import com.example.mockbank.domain.account.entity.JournalCheckpoint;
+import com.example.mockbank.domain.account.entity.JournalDeadLetter;
+import com.example.mockbank.domain.account.entity.Transaction;
+import com.example.mockbank.domain.account.enums.TransactionType;
+import com.example.mockbank.domain.account.repository.AccountRepository;
+import com.example.mockbank.domain.account.repository.JournalCheckpointRepository;
+import com.example.mockbank.domain.account.repository.JournalDeadLetterRepository;
+import com.example.mockbank.domain.account.repository.TransactionRepository;
+import com.example.mockbank.domain.account.repository.projection.AccountView;
+import com.example.mockbank.domain.account.vo.Money;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+// 저널은 실제 파일(TempDir), DB 쪽은 mock - 성공한 INSERT 의 seq 와 저장된 checkpoint 를 기록해서 확인
+class WriteBehindBalanceServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 25, 9, 0);
+    private static final String POISON = "poison";
+
+    @TempDir
+    Path dir;
+
+    private final AccountRepository accountRepository = mock(AccountRepository.class);
+    private final TransactionRepository transactionRepository = mock(TransactionRepository.class);
+    private final JournalCheckpointRepository checkpointRepository = mock(JournalCheckpointRepository.class);
+    private final JournalDeadLetterRepository deadLetterRepository = mock(JournalDeadLetterRepository.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final List<String> insertedMemos = new CopyOnWriteArrayList<>();
+    private final List<Long> checkpoints = new CopyOnWriteArrayList<>();
+    private final List<Money> committedBalances = new CopyOnWriteArrayList<>();
+    private WriteBehindBalanceService service;
+
+    @BeforeEach
+    void setUp() {
+        // memo 가 POISON 인 거래가 섞인 배치는 제약 위반
+        willAnswer(inv -> {
+            Map<Long, List<Transaction>> byAccount = inv.getArgument(0);
+            List<String> memos = byAccount.values().stream().flatMap(List::stream).map(Transaction::getMemo).toList();
+            if (memos.contains(POISON)) {
+                throw new DataIntegrityViolationException("Data too long for column 'memo'");
+            }
+            insertedMemos.addAll(memos);
+            return null;
+        }).given(transactionRepository).bulkInsert(anyMap());
+        given(checkpointRepository.findById("test")).willReturn(Optional.empty());
+        given(checkpointRepository.save(any(JournalCheckpoint.class))).willAnswer(inv -> {
+            checkpoints.add(inv.<JournalCheckpoint>getArgument(0).getLastSeq());
+            return inv.getArgument(0);
+        });
+        willAnswer(inv -> {
+            Map<Long, Money> balances = inv.getArgument(0);
+            committedBalances.add(balances.get(7L));
+            return null;
+        }).given(accountRepository).bulkUpdateBalances(anyMap());
+
+        service = new WriteBehindBalanceService(accountRepository, transactionRepository,
+                mock(TransactionSummaryService.class), checkpointRepository, deadLetterRepository, mock(AccountSnapshotCache.class),
+                registry, mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(service, "mode", BalanceUpdateMode.WRITE_BEHIND);
+        ReflectionTestUtils.setField(service, "directory", dir.toString());
+        ReflectionTestUtils.setField(service, "instanceId", "test");
+        ReflectionTestUtils.setField(service, "segmentSizeMb", 1);
+        ReflectionTestUtils.setField(service, "fsync", false);
+        ReflectionTestUtils.setField(service, "batchSize", 10);
+        ReflectionTestUtils.setField(service, "maxFlushLatencyMs", 50L);
+        ReflectionTestUtils.setField(service, "maxPending", 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.stop();
+    }
+
+    @Test
+    @DisplayName("기동 복구 - 제약 위반 레코드만 격리하고 나머지는 반영, checkpoint 는 끝까지 진행")
+    void start_replayIsolatesPoisonRecord() throws IOException {
+        TransactionJournal journal = TransactionJournal.open(dir, 1024 * 1024, false, 0L, new ArrayList<>());
+        for (String memo : List.of("m1", "m2", POISON, "m4")) {
+            journal.append(7L, 1L, TransactionType.DEPOSIT, Money.won(100), Money.won(100), NOW, memo, r -> { });
+        }
+        journal.close();
+
+        service.start(); // 멈추지 않고 돌아와야 한다
+
+        assertThat(insertedMemos).containsExactly("m1", "m2", "m4");
+        assertThat(checkpoints).last().isEqualTo(4L);
+        assertThat(registry.get("mockbank.journal.dead.letter").counter().count()).isEqualTo(1.0);
+
+        // 다시 열면 복구할 레코드 없음
+        service.stop();
+        insertedMemos.clear();
+        given(checkpointRepository.findById("test")).willReturn(Optional.of(JournalCheckpoint.builder()
+                .name("test").lastSeq(4L).updatedAt(NOW).build()));
+        service.start();
+        assertThat(insertedMemos).isEmpty();
+    }
+
+    @Test
+    @DisplayName("flusher - 제약 위반 레코드 격리 후 계속, 일시 장애는 재시도하되 이미 커밋된 레코드는 다시 쓰지 않음")
+    void flusher_isolatesPoisonAndRetriesTransientFailure() throws IOException {
+        // 정상 배치의 두 번째 INSERT 에서 한 번만 일시 장애
+        AtomicInteger successfulCalls = new AtomicInteger();
+        AtomicBoolean failed = new AtomicBoolean();
+        willAnswer(inv -> {
+            Map<Long, List<Transaction>> byAccount = inv.getArgument(0);
+            List<String> memos = byAccount.values().stream().flatMap(List::stream).map(Transaction::getMemo).toList();
+            if (memos.contains(POISON)) {
+                throw new DataIntegrityViolationException("Data too long for column 'memo'");
+            }
+            if (successfulCalls.get() == 1 && failed.compareAndSet(false, true)) {
+                throw new QueryTimeoutException("Lock wait timeout exceeded");
+            }
+            successfulCalls.incrementAndGet();
+            insertedMemos.addAll(memos);
+            return null;
+        }).given(transactionRepository).bulkInsert(anyMap());
+        given(accountRepository.findViewByUserId(1L))
+                .willReturn(Optional.of(new AccountView(7L, 1L, "1000000018", Money.ZERO)));
+        service.start();
+
+        service.deposit(1L, Money.won(100), "a");
+        service.deposit(1L, Money.won(100), POISON);
+        service.deposit(1L, Money.won(100), "c");
+
+        verify(checkpointRepository, timeout(5_000)).save(argThat(c -> c.getLastSeq() == 3L));
+        assertThat(failed).isTrue();
+        assertThat(insertedMemos).containsExactly("a", "c");
+        assertThat(registry.get("mockbank.journal.dead.letter").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("격리 - dead letter 를 테이블에 남기고 금액을 메모리 잔액과 이후 반영 잔액에서 되돌림")
+    void quarantine_reversesAmountAndPersistsDeadLetter() throws IOException {
+        given(accountRepository.findViewByUserId(1L))
+                .willReturn(Optional.of(new AccountView(7L, 1L, "1000000018", Money.ZERO)));
+        service.start();
+
+        service.deposit(1L, Money.won(100), "a");
+        service.deposit(1L, Money.won(100), POISON);
+        service.deposit(1L, Money.won(100), "c");
+
+        verify(checkpointRepository, timeout(5_000)).save(argThat(c -> c.getLastSeq() == 3L));
+        assertThat(committedBalances).last().isEqualTo(Money.won(200));
+        assertThat(service.find(1L).orElseThrow().getBalance()).isEqualTo(Money.won(200).toBigDecimal());
+        verify(deadLetterRepository).save(argThat((JournalDeadLetter d) -> d.getSeq() == 2L
+                && d.getInstanceName().equals("test")
+                && d.getAmount().equals(Money.won(100))
+                && d.getCorrectedThroughSeq() >= 2L));
+
+        // 이후 입금은 되돌린 잔액에서 시작
+        assertThat(service.deposit(1L, Money.won(100), "d").getBalance()).isEqualTo(Money.won(300).toBigDecimal());
+    }
+
+    @Test
+    @DisplayName("기동 복구 - 저장된 dead letter 보정 구간의 레코드는 격리 금액을 뺀 잔액으로 반영")
+    void start_appliesStoredDeadLetterCorrection() throws IOException {
+        TransactionJournal journal = TransactionJournal.open(dir, 1024 * 1024, false, 0L, new ArrayList<>());
+        journal.append(7L, 1L, TransactionType.DEPOSIT, Money.won(100), Money.won(100), NOW, "m1", r -> { });
+        journal.append(7L, 1L, TransactionType.DEPOSIT, Money.won(100), Money.won(200), NOW, POISON, r -> { });
+        journal.append(7L, 1L, TransactionType.DEPOSIT, Money.won(100), Money.won(300), NOW, "m3", r -> { });
+        journal.append(7L, 1L, TransactionType.DEPOSIT, Money.won(100), Money.won(200), NOW, "m4", r -> { });
+        journal.close();
+        // seq 2 는 이전 실행에서 격리, 그때 seq 3 까지 append 돼 있었음
+        given(checkpointRepository.findById("test")).willReturn(Optional.of(JournalCheckpoint.builder()
+                .name("test").lastSeq(2L).updatedAt(NOW).build()));
+        given(deadLetterRepository.findByInstanceNameAndCorrectedThroughSeqGreaterThan("test", 2L))
+                .willReturn(List.of(JournalDeadLetter.builder()
+                        .instanceName("test").seq(2L).accountId(7L).userId(1L).type(TransactionType.DEPOSIT)
+                        .amount(Money.won(100)).balanceAfter(Money.won(200)).createdAt(NOW)
+                        .correctedThroughSeq(3L).quarantinedAt(NOW).build()));
+
+        service.start();
+
+        assertThat(insertedMemos).containsExactly("m3", "m4");
+        assertThat(committedBalances).containsExactly(Money.won(200));
+    }
+
+    @Test
+    @DisplayName("255자를 넘는 메모는 저널에 쓰기 전에 거절")
+    void apply_rejectsTooLongMemo() throws IOException {
+        service.start();
+
+        assertThatThrownBy(() -> service.deposit(1L, Money.won(100), "x".repeat(256)))
+                .isInstanceOf(CustomException.class)
+                .hasMessageContaining(ErrorCode.INVALID_MEMO.getMessage());
+    }
+}
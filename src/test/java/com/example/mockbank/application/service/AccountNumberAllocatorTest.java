@@ -0,0 +1,106 @@
+package com.example.mockbank.application.service;
+
+import com.example.mockbank.domain.account.entity.AccountNumberSequence;
+import com.example.mockbank.domain.account.repository.AccountNumberSequenceRepository;
+import com.example.mockbank.domain.account.repository.AccountRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class AccountNumberAllocatorTest {
+
+    private static final long KEY = 7046029254386353131L;
+
+    @Test
+    @DisplayName("연속 카운터 → 중복 없는 10자리, Luhn 검증 통과")
+    void format_uniqueAndValid() {
+        Set<String> numbers = new HashSet<>();
+        for (long counter = 0; counter < 100_000; counter++) {
+            String number = AccountNumberAllocator.format(counter, KEY);
+            assertThat(number).hasSize(10).doesNotStartWith("0");
+            assertThat(AccountNumberAllocator.isValid(number)).isTrue();
+            numbers.add(number);
+        }
+        assertThat(numbers).hasSize(100_000);
+    }
+
+    @Test
+    @DisplayName("치환 결과는 공간 안에 있고 연속 카운터가 연속 번호가 되지 않음")
+    void permute_staysInRangeAndScatters() {
+        long a = AccountNumberAllocator.permute(0, KEY);
+        long b = AccountNumberAllocator.permute(1, KEY);
+        assertThat(a).isBetween(0L, AccountNumberAllocator.CAPACITY - 1);
+        assertThat(b).isBetween(0L, AccountNumberAllocator.CAPACITY - 1);
+        assertThat(Math.abs(a - b)).isGreaterThan(1L);
+        assertThat(AccountNumberAllocator.permute(AccountNumberAllocator.CAPACITY - 1, KEY))
+                .isBetween(0L, AccountNumberAllocator.CAPACITY - 1);
+    }
+
+    @Test
+    @DisplayName("가상 스레드 수천 개가 동시에 발급해도 중복 없이 블록 단위로만 예약")
+    void next_concurrentVirtualThreads() throws Exception {
+        AccountNumberSequenceRepository sequenceRepository = mock(AccountNumberSequenceRepository.class);
+        AccountNumberSequence sequence = AccountNumberSequence.builder()
+                .name(AccountNumberAllocator.SEQUENCE_NAME)
+                .nextValue(0L)
+                .build();
+        AtomicBoolean onVirtual = new AtomicBoolean(true);
+        given(sequenceRepository.findForUpdate(anyString())).willAnswer(inv -> {
+            // 블록 예약(DB I/O)도 호출한 가상 스레드에서 그대로 실행
+            if (!Thread.currentThread().isVirtual()) onVirtual.set(false);
+            return Optional.of(sequence);
+        });
+        AccountNumberAllocator allocator = new AccountNumberAllocator(sequenceRepository, mock(AccountRepository.class),
+                mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(allocator, "blockSize", 10);
+        ReflectionTestUtils.setField(allocator, "feistelKey", KEY);
+
+        Set<String> numbers = ConcurrentHashMap.newKeySet();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 2_000; i++) {
+                futures.add(executor.submit(() -> {
+                    numbers.add(allocator.next());
+                    numbers.addAll(allocator.next(4));
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        assertThat(numbers).hasSize(10_000);
+        assertThat(onVirtual).isTrue();
+        verify(sequenceRepository, times(1_000)).findForUpdate(AccountNumberAllocator.SEQUENCE_NAME);
+    }
+
+    @Test
+    @DisplayName("Luhn - 한 자리만 바뀌어도 검증 실패")
+    void isValid_detectsSingleDigitError() {
+        assertThat(AccountNumberAllocator.luhnCheckDigit(7992739871L)).isEqualTo(3);
+        String number = AccountNumberAllocator.format(42, KEY);
+        char wrong = number.charAt(3) == '9' ? '0' : (char) (number.charAt(3) + 1);
+        String tampered = number.substring(0, 3) + wrong + number.substring(4);
+        assertThat(AccountNumberAllocator.isValid(tampered)).isFalse();
+        assertThat(AccountNumberAllocator.isValid("12345")).isFalse();
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.mockbank.application.service;
+
+import com.example.mockbank.application.dto.AccountBulkCreateRequest;
+import com.example.mockbank.application.dto.AccountCreateRequest;
+import com.example.mockbank.application.dto.BulkProvisionProgress;
+import com.example.mockbank.common.enums.HistoryMode;
+import com.example.mockbank.domain.account.entity.Account;
+import com.example.mockbank.domain.account.enums.HistoryStatus;
+import com.example.mockbank.domain.account.repository.AccountRepository;
+import com.example.mockbank.domain.account.vo.Money;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// H2(MODE=MYSQL) 에 실제로 INSERT - writer 스레드가 chunk 마다 직접 커밋하므로 테스트 트랜잭션은 쓰지 않는다
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({AccountProvisioningService.class, AccountNumberAllocator.class, TransactionSummaryService.class,
+        TransactionHistoryGenerator.class})
+class AccountProvisioningServiceTest {
+
+    @Autowired
+    private AccountProvisioningService provisioningService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(provisioningService, "chunkSize", 4);
+        ReflectionTestUtils.setField(provisioningService, "generatorThreads", 2);
+        ReflectionTestUtils.setField(provisioningService, "writerThreads", 2);
+        ReflectionTestUtils.setField(provisioningService, "historyMode", HistoryMode.EAGER);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from monthly_transaction_summary");
+        jdbcTemplate.update("delete from transaction");
+        jdbcTemplate.update("delete from account");
+    }
+
+    @Test
+    @DisplayName("count 모드 - chunk-size 단위로 나눠 저장하고 chunk 마다 진행 상황, 마지막에 done")
+    void provision_chunksAndReportsProgress() {
+        List<BulkProvisionProgress> progress = new ArrayList<>();
+
+        BulkProvisionProgress result = provisioningService.provision(countRequest(1L, 10, 7L), progress::add);
+
+        // 10건 / chunk 4 → 3 chunk + 최종 1줄
+        assertThat(progress).hasSize(4);
+        assertThat(progress.subList(0, 3)).noneMatch(BulkProvisionProgress::isDone);
+        assertThat(progress.get(2).getProcessed()).isEqualTo(10);
+        assertThat(result.isDone()).isTrue();
+        assertThat(result.getTotal()).isEqualTo(10);
+        assertThat(result.getCreated()).isEqualTo(10);
+        assertThat(result.getSkipped()).isZero();
+        assertThat(result.getFailed()).isZero();
+        assertThat(count("account")).isEqualTo(10);
+        assertThat(count("transaction")).isEqualTo(result.getTransactions());
+        // 계좌번호는 발급기에서 중복 없이
+        assertThat(jdbcTemplate.queryForObject("select count(distinct account_number) from account", Long.class))
+                .isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("이미 있는 userId 는 건너뛰고 skip 으로 집계 (재실행해도 중복 생성 없음)")
+    void provision_skipsExistingUsers() {
+        provisioningService.provision(countRequest(1L, 3, 7L), p -> { });
+        long transactionsBefore = count("transaction");
+
+        BulkProvisionProgress result = provisioningService.provision(countRequest(1L, 10, 7L), p -> { });
+
+        assertThat(result.getProcessed()).isEqualTo(10);
+        assertThat(result.getCreated()).isEqualTo(7);
+        assertThat(result.getSkipped()).isEqualTo(3);
+        assertThat(count("account")).isEqualTo(10);
+        assertThat(count("transaction")).isEqualTo(transactionsBefore + result.getTransactions());
+    }
+
+    @Test
+    @DisplayName("목록 모드 - 지정한 계좌번호는 그대로, 빈 계좌번호만 발급")
+    void provision_listMode_keepsGivenAccountNumbers() {
+        AccountBulkCreateRequest request = new AccountBulkCreateRequest();
+        request.setAccounts(List.of(account(101L, "1234567897"), account(102L, null)));
+
+        BulkProvisionProgress result = provisioningService.provision(request, p -> { });
+
+        assertThat(result.getCreated()).isEqualTo(2);
+        assertThat(accountRepository.findByUserId(101L)).get()
+                .extracting(Account::getAccountNumber).isEqualTo("1234567897");
+        assertThat(accountRepository.findByUserId(102L)).get()
+                .extracting(Account::getAccountNumber).matches(n -> AccountNumberAllocator.isValid(n));
+    }
+
+    @Test
+    @DisplayName("LAZY 모드 - 계좌만 PENDING + seed 로 저장하고 거래/롤업은 INSERT 하지 않음")
+    void provision_lazy_savesSeedAndBalanceOnly() {
+        ReflectionTestUtils.setField(provisioningService, "historyMode", HistoryMode.LAZY);
+
+        BulkProvisionProgress result = provisioningService.provision(countRequest(1L, 5, 7L), p -> { });
+
+        assertThat(result.getCreated()).isEqualTo(5);
+        assertThat(result.getTransactions()).isZero();
+        assertThat(count("transaction")).isZero();
+        assertThat(count("monthly_transaction_summary")).isZero();
+        for (Account account : accountRepository.findAll()) {
+            assertThat(account.getHistoryStatus()).isEqualTo(HistoryStatus.PENDING);
+            assertThat(account.getHistorySeed()).isNotNull();
+            // 저장된 seed/기준 시각으로 다시 생성한 내역의 잔액과 같아야 filler 가 같은 내역을 채운다
+            Money expected = new TransactionHistoryGenerator()
+                    .generate(null, null, account.getHistorySeed(), account.getHistoryBaseTime())
+                    .finalBalance();
+            assertThat(account.getBalance()).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("VIRTUAL 모드 - VIRTUAL 상태로 저장, 거래 INSERT 없음")
+    void provision_virtual_marksVirtual() {
+        ReflectionTestUtils.setField(provisioningService, "historyMode", HistoryMode.VIRTUAL);
+
+        provisioningService.provision(countRequest(1L, 3, 7L), p -> { });
+
+        assertThat(count("transaction")).isZero();
+        assertThat(accountRepository.findAll())
+                .hasSize(3)
+                .allSatisfy(a -> assertThat(a.getHistoryStatus()).isEqualTo(HistoryStatus.VIRTUAL));
+    }
+
+    @Test
+    @DisplayName("EAGER 모드 - 거래를 함께 저장하고 MATERIALIZED + seed 기록")
+    void provision_eager_materializes() {
+        BulkProvisionProgress result = provisioningService.provision(countRequest(1L, 3, 7L), p -> { });
+
+        assertThat(count("transaction")).isEqualTo(result.getTransactions()).isPositive();
+        assertThat(accountRepository.findAll())
+                .allSatisfy(a -> {
+                    assertThat(a.getHistoryStatus()).isEqualTo(HistoryStatus.MATERIALIZED);
+                    assertThat(a.getHistorySeed()).isNotNull();
+                });
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("select count(*) from " + table, Long.class);
+    }
+
+    private static AccountCreateRequest account(long userId, String accountNumber) {
+        AccountCreateRequest request = new AccountCreateRequest();
+        request.setUserId(userId);
+        request.setUserName("목록" + userId);
+        request.setAccountNumber(accountNumber);
+        return request;
+    }
+
+    private static AccountBulkCreateRequest countRequest(long startUserId, int count, Long seed) {
+        AccountBulkCreateRequest request = new AccountBulkCreateRequest();
+        request.setStartUserId(startUserId);
+        request.setCount(count);
+        request.setSeed(seed);
+        return request;
+    }
+}
@@ -1,28 +1,48 @@
 package com.example.mockbank.application.service;
 
+import com.example.mockbank.application.cache.AccountSnapshotCache;
 import com.example.mockbank.application.dto.*;
+import com.example.mockbank.common.enums.BalanceUpdateMode;
 import com.example.mockbank.common.enums.ErrorCode;
+import com.example.mockbank.common.enums.HistoryMode;
+import com.example.mockbank.common.enums.StatBucket;
 import com.example.mockbank.common.exception.CustomException;
 import com.example.mockbank.domain.account.entity.Account;
+import com.example.mockbank.domain.account.entity.MonthlyTransactionSummary;
 import com.example.mockbank.domain.account.entity.Transaction;
 import com.example.mockbank.domain.account.repository.AccountRepository;
 import com.example.mockbank.domain.account.repository.TransactionRepository;
+import com.example.mockbank.domain.account.repository.projection.AccountView;
+import com.example.mockbank.domain.account.repository.projection.TransactionPeriodStat;
+import com.example.mockbank.domain.account.repository.projection.TransactionView;
+import com.example.mockbank.domain.account.enums.HistoryStatus;
+import com.example.mockbank.domain.account.enums.TransactionType;
+import com.example.mockbank.domain.account.vo.Money;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -35,9 +55,30 @@ class AccountServiceTest {
     @Mock
     private TransactionRepository transactionRepository;
 
+    @Mock
+    private TransactionSummaryService transactionSummaryService;
+
+    @Mock
+    private AccountSnapshotCache accountSnapshotCache;
+
+    @Spy
+    private TransactionHistoryGenerator transactionHistoryGenerator = new TransactionHistoryGenerator();
+
+    @Spy
+    private VirtualTransactionHistory virtualTransactionHistory =
+            new VirtualTransactionHistory(new TransactionHistoryGenerator(), 16);
+
     @InjectMocks
     private AccountService accountService;
 
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(accountService, "defaultPageSize", 20);
+        ReflectionTestUtils.setField(accountService, "maxPageSize", 100);
+        ReflectionTestUtils.setField(accountService, "maxSeriesPoints", 1000);
+        ReflectionTestUtils.setField(accountService, "historyMode", HistoryMode.EAGER);
+    }
+
     @Test
     @DisplayName("계좌 생성 성공 - salary null")
     void createAccount_salaryNull_generatesRandomTransactions() {
@@ -48,12 +89,14 @@ class AccountServiceTest {
         request.setSalary(null);
 
         given(accountRepository.save(any(Account.class))).willAnswer(invocation -> invocation.getArgument(0));
-        given(transactionRepository.save(any(Transaction.class))).willAnswer(invocation -> invocation.getArgument(0));
 
         AccountResponse response = accountService.createAccount(request);
 
         assertThat(response.getUserId()).isEqualTo(2L);
-        verify(transactionRepository, atLeast(10)).save(any(Transaction.class));
+        ArgumentCaptor<List<Transaction>> captor = ArgumentCaptor.forClass(List.class);
+        verify(transactionRepository).bulkInsert(any(), captor.capture());
+        assertThat(captor.getValue()).hasSizeGreaterThanOrEqualTo(10);
+        verify(transactionSummaryService).applyAll(any(), eq(captor.getValue()));
     }
 
     @Test
@@ -66,12 +109,75 @@ class AccountServiceTest {
         request.setSalary(new BigDecimal("5000000"));
 
         given(accountRepository.save(any(Account.class))).willAnswer(invocation -> invocation.getArgument(0));
-        given(transactionRepository.save(any(Transaction.class))).willAnswer(invocation -> invocation.getArgument(0));
 
         AccountResponse response = accountService.createAccount(request);
 
         assertThat(response.getUserId()).isEqualTo(3L);
-        verify(transactionRepository, atLeast(10)).save(any(Transaction.class));
+        ArgumentCaptor<List<Transaction>> captor = ArgumentCaptor.forClass(List.class);
+        verify(transactionRepository).bulkInsert(any(), captor.capture());
+        assertThat(captor.getValue()).hasSizeGreaterThanOrEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("계좌 생성 - 계좌번호 없으면 거절 (발급은 트랜잭션 밖에서 호출한 쪽이)")
+    void createAccount_noAccountNumber_rejected() {
+        AccountCreateRequest request = new AccountCreateRequest();
+        request.setUserId(4L);
+        request.setUserName("번호없음");
+
+        assertThatThrownBy(() -> accountService.createAccount(request))
+                .isInstanceOf(IllegalStateException.class);
+        verifyNoInteractions(accountRepository);
+    }
+
+    @Test
+    @DisplayName("계좌 생성 - LAZY 모드는 계좌 INSERT 만, 잔액은 seed 로 생성한 내역과 같음")
+    void createAccount_lazy_savesOnlyAccount() {
+        ReflectionTestUtils.setField(accountService, "historyMode", HistoryMode.LAZY);
+        AccountCreateRequest request = new AccountCreateRequest();
+        request.setAccountNumber("1000000018");
+        request.setUserId(5L);
+        request.setUserName("지연생성");
+
+        given(accountRepository.save(any(Account.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        AccountResponse response = accountService.createAccount(request);
+
+        ArgumentCaptor<Account> captor = ArgumentCaptor.forClass(Account.class);
+        verify(accountRepository, times(1)).save(captor.capture());
+        Account saved = captor.getValue();
+        assertThat(saved.getHistoryStatus()).isEqualTo(HistoryStatus.PENDING);
+        assertThat(saved.getHistorySeed()).isNotNull();
+        Money expected = new TransactionHistoryGenerator()
+                .generate(saved, null, saved.getHistorySeed(), saved.getHistoryBaseTime())
+                .finalBalance();
+        assertThat(response.getBalance()).isEqualByComparingTo(expected.toBigDecimal());
+        verifyNoInteractions(transactionRepository, transactionSummaryService);
+    }
+
+    @Test
+    @DisplayName("계좌 생성 - VIRTUAL 모드는 계좌 INSERT 만, 내역은 저장하지 않고 상태 VIRTUAL")
+    void createAccount_virtual_savesOnlyAccount() {
+        ReflectionTestUtils.setField(accountService, "historyMode", HistoryMode.VIRTUAL);
+        AccountCreateRequest request = new AccountCreateRequest();
+        request.setAccountNumber("1000000026");
+        request.setUserId(6L);
+        request.setUserName("가상내역");
+        request.setSalary(new BigDecimal("3000000"));
+
+        given(accountRepository.save(any(Account.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        AccountResponse response = accountService.createAccount(request);
+
+        ArgumentCaptor<Account> captor = ArgumentCaptor.forClass(Account.class);
+        verify(accountRepository, times(1)).save(captor.capture());
+        Account saved = captor.getValue();
+        assertThat(saved.getHistoryStatus()).isEqualTo(HistoryStatus.VIRTUAL);
+        Money expected = new TransactionHistoryGenerator()
+                .generate(saved, Money.won(3_000_000), saved.getHistorySeed(), saved.getHistoryBaseTime())
+                .finalBalance();
+        assertThat(response.getBalance()).isEqualByComparingTo(expected.toBigDecimal());
+        verifyNoInteractions(transactionRepository, transactionSummaryService);
     }
 
     @Test
@@ -85,19 +191,21 @@ class AccountServiceTest {
                 .userId(1L)
                 .userName("테스터")
                 .accountNumber("1234567890")
-                .balance(BigDecimal.ZERO)
+                .balance(Money.ZERO)
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
                 .build();
 
-        given(accountRepository.findByUserId(1L)).willReturn(Optional.of(account));
+        given(accountRepository.getLatestOrThrowByUserId(1L)).willReturn(account);
         given(accountRepository.save(any(Account.class))).willReturn(account);
         given(transactionRepository.save(any(Transaction.class))).willAnswer(invocation -> invocation.getArgument(0));
 
         AccountResponse response = accountService.deposit(1L, request);
 
-        assertThat(response.getBalance()).isEqualTo(new BigDecimal("10000"));
+        assertThat(response.getBalance()).isEqualByComparingTo(new BigDecimal("10000"));
         verify(transactionRepository, times(1)).save(any(Transaction.class));
+        verify(transactionSummaryService).apply(any(), any(Transaction.class));
+        verify(accountSnapshotCache).evictAfterCommit(1L);
     }
 
     @Test
@@ -111,18 +219,18 @@ class AccountServiceTest {
                 .userId(1L)
                 .userName("테스터")
                 .accountNumber("1234567890")
-                .balance(BigDecimal.valueOf(10000))
+                .balance(Money.won(10000))
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
                 .build();
 
-        given(accountRepository.findByUserId(1L)).willReturn(Optional.of(account));
+        given(accountRepository.getLatestOrThrowByUserId(1L)).willReturn(account);
         given(accountRepository.save(any(Account.class))).willReturn(account);
         given(transactionRepository.save(any(Transaction.class))).willAnswer(invocation -> invocation.getArgument(0));
 
         AccountResponse response = accountService.withdraw(1L, request);
 
-        assertThat(response.getBalance()).isEqualTo(new BigDecimal("5000"));
+        assertThat(response.getBalance()).isEqualByComparingTo(new BigDecimal("5000"));
         verify(transactionRepository, times(1)).save(any(Transaction.class));
     }
 
@@ -138,12 +246,12 @@ class AccountServiceTest {
                 .userId(1L)
                 .userName("테스터")
                 .accountNumber("1234567890")
-                .balance(BigDecimal.valueOf(5000))
+                .balance(Money.won(5000))
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
                 .build();
 
-        given(accountRepository.findByUserId(1L)).willReturn(Optional.of(account));
+        given(accountRepository.getLatestOrThrowByUserId(1L)).willReturn(account);
 
         // when & then
         assertThatThrownBy(() -> accountService.withdraw(1L, request))
@@ -154,12 +262,29 @@ class AccountServiceTest {
     @Test
     @DisplayName("계좌 조회 실패 - 계좌 없음")
     void getAccount_fail_not_found() {
-        given(accountRepository.findByUserId(1L)).willReturn(Optional.empty());
+        given(accountSnapshotCache.get(eq(1L), any())).willAnswer(invocation ->
+                invocation.<Supplier<AccountResponse>>getArgument(1).get());
+        given(accountRepository.findViewByUserId(1L)).willReturn(Optional.empty());
         assertThatThrownBy(() -> accountService.getAccount(1L))
                 .isInstanceOf(CustomException.class)
                 .hasMessageContaining(ErrorCode.ACCOUNT_NOT_FOUND.getMessage());
     }
 
+    @Test
+    @DisplayName("계좌 조회 성공 - 엔티티 대신 프로젝션으로 응답 생성")
+    void getAccount_success_usesProjection() {
+        given(accountSnapshotCache.get(eq(1L), any())).willAnswer(invocation ->
+                invocation.<Supplier<AccountResponse>>getArgument(1).get());
+        given(accountRepository.findViewByUserId(1L))
+                .willReturn(Optional.of(new AccountView(7L, 1L, "1234567890", Money.won(5000))));
+
+        AccountResponse response = accountService.getAccount(1L);
+
+        assertThat(response.getAccountId()).isEqualTo(7L);
+        assertThat(response.getBalance()).isEqualByComparingTo("5000");
+        verify(accountRepository, never()).getOrThrowByUserId(any());
+    }
+
     @Test
     @DisplayName("거래내역 조회 성공 - 비어있음")
     void getTransactions_success_empty() {
@@ -167,13 +292,13 @@ class AccountServiceTest {
                 .userId(1L)
                 .userName("테스터")
                 .accountNumber("1234567890")
-                .balance(BigDecimal.ZERO)
+                .balance(Money.ZERO)
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
                 .build();
 
         // 거래 내역 없는 케이스
-        given(accountRepository.findByUserId(1L)).willReturn(Optional.of(account));
+        given(accountRepository.getOrThrowByUserId(1L)).willReturn(account);
         // account.getTransactions()가 null 또는 비어있는 경우라면,
         // Account Entity에서 초기화(List.of() 또는 new ArrayList<>())가 되어있어야 함
 
@@ -181,4 +306,207 @@ class AccountServiceTest {
         assertThat(result).isNotNull();
         assertThat(result).isEmpty();
     }
+
+    @Test
+    @DisplayName("거래 통계 - 월간 롤업 합산")
+    void getTransactionStats_sumsMonthlySummaries() {
+        Account account = Account.builder()
+                .id(7L)
+                .userId(1L)
+                .userName("테스터")
+                .accountNumber("1234567890")
+                .balance(Money.ZERO)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        YearMonth start = YearMonth.of(2025, 5);
+        YearMonth end = YearMonth.of(2025, 6);
+
+        given(accountRepository.getOrThrowByUserId(1L)).willReturn(account);
+        given(transactionSummaryService.findRange(7L, start, end)).willReturn(List.of(
+                MonthlyTransactionSummary.builder().accountId(7L).statMonth(start)
+                        .incomeSum(Money.won(3_000_000)).expenseSum(Money.won(1_000_001)).txCount(12).build(),
+                MonthlyTransactionSummary.builder().accountId(7L).statMonth(end)
+                        .incomeSum(Money.won(3_000_000)).expenseSum(Money.won(500_000)).txCount(9).build()
+        ));
+
+        TransactionStatResponse stats = accountService.getTransactionStats(1L, start, end);
+
+        assertThat(stats.getTotalIncome()).isEqualByComparingTo("6000000");
+        assertThat(stats.getTotalExpense()).isEqualByComparingTo("1500001");
+        assertThat(stats.getAvgMonthlyIncome()).isEqualByComparingTo("3000000");
+        assertThat(stats.getAvgMonthlyExpense()).isEqualByComparingTo("750000");
+    }
+
+    @Test
+    @DisplayName("기간별 통계 - 일 집계를 주 단위로 접고 빈 주는 0 으로 채움")
+    void getTransactionSeries_weeklyFoldsDaysAndFillsGaps() {
+        Account account = Account.builder()
+                .id(7L)
+                .userId(1L)
+                .userName("테스터")
+                .accountNumber("1234567890")
+                .balance(Money.ZERO)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        LocalDate from = LocalDate.of(2025, 6, 4); // 수요일 → 첫 구간은 6/2(월)
+        LocalDate to = LocalDate.of(2025, 6, 22);  // 일요일
+
+        given(accountRepository.getOrThrowByUserId(1L)).willReturn(account);
+        given(transactionRepository.sumByDay(7L, from.atStartOfDay(), to.plusDays(1).atStartOfDay())).willReturn(List.of(
+                new TransactionPeriodStat(2025, 6, 4, new BigDecimal("100000"), null, 1L),
+                new TransactionPeriodStat(2025, 6, 8, null, new BigDecimal("30000"), 2L),
+                new TransactionPeriodStat(2025, 6, 20, new BigDecimal("50000"), new BigDecimal("10000"), 3L)
+        ));
+
+        TransactionSeriesResponse series = accountService.getTransactionSeries(1L, from, to, StatBucket.WEEK);
+
+        assertThat(series.getPoints()).extracting(TransactionSeriesPoint::getBucketStart)
+                .containsExactly(LocalDate.of(2025, 6, 2), LocalDate.of(2025, 6, 9), LocalDate.of(2025, 6, 16));
+        assertThat(series.getPoints().get(0).getNet()).isEqualByComparingTo("70000");
+        assertThat(series.getPoints().get(0).getCount()).isEqualTo(3);
+        assertThat(series.getPoints().get(1).getCount()).isZero();
+        assertThat(series.getPoints().get(1).getIncome()).isEqualByComparingTo("0");
+        assertThat(series.getTotalIncome()).isEqualByComparingTo("150000");
+        assertThat(series.getTotalExpense()).isEqualByComparingTo("40000");
+        assertThat(series.getCount()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("기간별 통계 - 최대 구간 수 초과 시 예외")
+    void getTransactionSeries_tooManyPoints() {
+        ReflectionTestUtils.setField(accountService, "maxSeriesPoints", 31);
+
+        assertThatThrownBy(() -> accountService.getTransactionSeries(1L,
+                LocalDate.of(2025, 1, 1), LocalDate.of(2025, 3, 1), StatBucket.DAY))
+                .isInstanceOf(CustomException.class)
+                .hasMessageContaining(ErrorCode.STATS_RANGE_TOO_LARGE.getMessage());
+        verifyNoInteractions(transactionRepository);
+    }
+
+    @Test
+    @DisplayName("거래내역 페이지 조회 - 다음 커서 생성 및 커서 이후 조회")
+    void getTransactionPage_keyset() {
+        Account account = Account.builder()
+                .id(7L)
+                .userId(1L)
+                .userName("테스터")
+                .accountNumber("1234567890")
+                .balance(Money.ZERO)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        LocalDateTime base = LocalDateTime.of(2025, 6, 30, 10, 0);
+        List<TransactionView> rows = List.of(
+                new TransactionView(30L, Money.won(10), TransactionType.DEPOSIT, base, "입금", null),
+                new TransactionView(29L, Money.won(1), TransactionType.WITHDRAWAL, base.minusDays(1), "출금", null),
+                new TransactionView(28L, Money.won(1), TransactionType.WITHDRAWAL, base.minusDays(2), "출금", null)
+        );
+
+        given(accountRepository.getOrThrowByUserId(1L)).willReturn(account);
+        given(transactionRepository.findLatestViews(eq(7L), any(Pageable.class))).willReturn(rows);
+
+        TransactionPageResponse first = accountService.getTransactionPage(1L, null, 2);
+
+        assertThat(first.getContent()).extracting(TransactionResponse::getId).containsExactly(30L, 29L);
+        assertThat(first.isHasNext()).isTrue();
+        TransactionCursor cursor = TransactionCursor.decode(first.getNextCursor());
+        assertThat(cursor.id()).isEqualTo(29L);
+        assertThat(cursor.createdAt()).isEqualTo(base.minusDays(1));
+
+        given(transactionRepository.findViewsBefore(eq(7L), eq(base.minusDays(1)), eq(29L), any(Pageable.class)))
+                .willReturn(rows.subList(2, 3));
+
+        TransactionPageResponse second = accountService.getTransactionPage(1L, first.getNextCursor(), 2);
+
+        assertThat(second.getContent()).extracting(TransactionResponse::getId).containsExactly(28L);
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("VIRTUAL 계좌 - 저장된 입출금 뒤로 seed 로 계산한 초기 내역이 이어서 페이징됨")
+    void getTransactionPage_virtual_mergesGeneratedHistory() {
+        LocalDateTime base = LocalDateTime.of(2025, 6, 15, 10, 0);
+        Account account = Account.builder()
+                .id(8L)
+                .userId(1L)
+                .userName("가상")
+                .accountNumber("1234567890")
+                .balance(Money.ZERO)
+                .historySeed(42L)
+                .historyBaseTime(base)
+                .historyStatus(HistoryStatus.VIRTUAL)
+                .createdAt(base)
+                .updatedAt(base)
+                .build();
+        TransactionView real = new TransactionView(100L, Money.won(10), TransactionType.DEPOSIT, base.plusMinutes(5), "입금", null);
+        List<TransactionView> generated = virtualTransactionHistory.views(account);
+
+        given(accountRepository.getOrThrowByUserId(1L)).willReturn(account);
+        given(transactionRepository.findLatestViews(eq(8L), any(Pageable.class))).willReturn(List.of(real));
+
+        TransactionPageResponse first = accountService.getTransactionPage(1L, null, 3);
+
+        assertThat(first.getContent()).extracting(TransactionResponse::getId)
+                .containsExactly(100L, generated.get(0).id(), generated.get(1).id());
+        assertThat(first.isHasNext()).isTrue();
+
+        TransactionCursor cursor = TransactionCursor.decode(first.getNextCursor());
+        given(transactionRepository.findViewsBefore(eq(8L), eq(cursor.createdAt()), eq(cursor.id()), any(Pageable.class)))
+                .willReturn(List.of());
+
+        TransactionPageResponse second = accountService.getTransactionPage(1L, first.getNextCursor(), 3);
+
+        assertThat(second.getContent()).extracting(TransactionResponse::getId)
+                .containsExactly(generated.get(2).id(), generated.get(3).id(), generated.get(4).id());
+
+        given(transactionRepository.findAllViews(8L)).willReturn(List.of(real));
+        assertThat(accountService.getTransactions(1L)).hasSize(generated.size() + 1);
+    }
+
+    @Test
+    @DisplayName("ATOMIC 모드 출금 - 조건부 차감 실패 시 잔액 부족")
+    void withdraw_atomic_insufficient_balance() {
+        ReflectionTestUtils.setField(accountService, "balanceUpdateMode", BalanceUpdateMode.ATOMIC);
+        WithdrawRequest request = new WithdrawRequest();
+        request.setAmount(BigDecimal.valueOf(10000L));
+
+        given(accountRepository.decreaseBalanceIfSufficient(eq(1L), eq(new BigDecimal("10000.00")), any(LocalDateTime.class)))
+                .willReturn(0);
+        given(accountRepository.existsByUserId(1L)).willReturn(true);
+
+        assertThatThrownBy(() -> accountService.withdraw(1L, request))
+                .isInstanceOf(CustomException.class)
+                .hasMessageContaining(ErrorCode.INSUFFICIENT_BALANCE.getMessage());
+        verify(transactionRepository, never()).save(any(Transaction.class));
+    }
+
+    @Test
+    @DisplayName("ATOMIC 모드 입금 - 단일 UPDATE 후 갱신된 잔액 반환")
+    void deposit_atomic_success() {
+        ReflectionTestUtils.setField(accountService, "balanceUpdateMode", BalanceUpdateMode.ATOMIC);
+        DepositRequest request = new DepositRequest();
+        request.setAmount(BigDecimal.valueOf(10000L));
+
+        Account updated = Account.builder()
+                .userId(1L)
+                .userName("테스터")
+                .accountNumber("1234567890")
+                .balance(Money.won(15000))
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+
+        given(accountRepository.increaseBalance(eq(1L), eq(new BigDecimal("10000.00")), any(LocalDateTime.class)))
+                .willReturn(1);
+        given(accountRepository.getLatestOrThrowByUserId(1L)).willReturn(updated);
+
+        AccountResponse response = accountService.deposit(1L, request);
+
+        assertThat(response.getBalance()).isEqualByComparingTo("15000");
+        verify(accountRepository, never()).save(any(Account.class));
+        verify(transactionRepository).save(any(Transaction.class));
+    }
 }
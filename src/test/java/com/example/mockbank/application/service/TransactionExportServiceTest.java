@@ -0,0 +1,161 @@
+package com.example.mockbank.application.service;
+
+import com.example.mockbank.application.service.TransactionExportService.AccountExport;
+import com.example.mockbank.common.enums.ErrorCode;
+import com.example.mockbank.common.enums.ExportFormat;
+import com.example.mockbank.common.exception.CustomException;
+import com.example.mockbank.domain.account.entity.Account;
+import com.example.mockbank.domain.account.enums.TransactionType;
+import com.example.mockbank.domain.account.repository.AccountRepository;
+import com.example.mockbank.domain.account.repository.TransactionRepository;
+import com.example.mockbank.domain.account.repository.projection.TransactionExportRow;
+import com.example.mockbank.domain.account.vo.Money;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class TransactionExportServiceTest {
+
+    private static final LocalDateTime T = LocalDateTime.of(2025, 6, 25, 9, 30, 0);
+
+    private final AccountRepository accountRepository = mock(AccountRepository.class);
+    private final TransactionRepository transactionRepository = mock(TransactionRepository.class);
+    private final TransactionHistoryMaterializer transactionHistoryMaterializer = mock(TransactionHistoryMaterializer.class);
+    private final VirtualTransactionHistory virtualTransactionHistory = mock(VirtualTransactionHistory.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final TransactionExportService service = new TransactionExportService(accountRepository, transactionRepository,
+            transactionHistoryMaterializer, virtualTransactionHistory, transactionManager, objectMapper);
+
+    @Test
+    @DisplayName("CSV - 헤더 + 가상 초기 내역 → 저장된 행 순서, 쉼표/따옴표/줄바꿈은 따옴표로 감싸고 null 은 빈 칸")
+    void exportAccount_csv() throws IOException {
+        Account account = mock(Account.class);
+        given(accountRepository.findById(10L)).willReturn(Optional.of(account));
+        given(virtualTransactionHistory.exportRows(account)).willReturn(Stream.of(
+                row(-1L, TransactionType.DEPOSIT, new Money(300_000_050L), "월급", null)));
+        AtomicBoolean closed = new AtomicBoolean();
+        given(transactionRepository.streamExportRows(10L)).willReturn(Stream.of(
+                row(1L, TransactionType.WITHDRAWAL, Money.won(1_500), "카드, 편의점", "\"점심\""),
+                row(2L, TransactionType.DEPOSIT, Money.won(20_000), "입금", "줄\n바꿈")).onClose(() -> closed.set(true)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = service.exportAccount(new AccountExport(10L, false), ExportFormat.CSV, out);
+
+        assertThat(count).isEqualTo(3L);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("""
+                id,accountId,userId,type,amount,createdAt,description,memo
+                -1,10,1,DEPOSIT,3000000.50,2025-06-25T09:30,월급,
+                1,10,1,WITHDRAWAL,1500.00,2025-06-25T09:30,"카드, 편의점",\"""점심\"""
+                2,10,1,DEPOSIT,20000.00,2025-06-25T09:30,입금,"줄
+                바꿈"
+                """);
+        assertThat(closed).isTrue(); // DB 커서 반환
+    }
+
+    @Test
+    @DisplayName("NDJSON - 기간 [from, to] 를 [from 00:00, to+1 00:00) 로 조회하고 한 줄에 한 행")
+    void exportRange_ndjson() throws IOException {
+        LocalDate from = LocalDate.of(2025, 6, 1);
+        LocalDate to = LocalDate.of(2025, 6, 30);
+        given(transactionRepository.streamExportRowsBetween(from.atStartOfDay(), LocalDate.of(2025, 7, 1).atStartOfDay()))
+                .willReturn(Stream.of(
+                        row(1L, TransactionType.WITHDRAWAL, Money.won(1_500), "출금", null),
+                        row(2L, TransactionType.DEPOSIT, new Money(1L), "입금", "메모")));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = service.exportRange(from, to, ExportFormat.NDJSON, out);
+
+        assertThat(count).isEqualTo(2L);
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).hasSize(2);
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertThat(first.get("id").asLong()).isEqualTo(1L);
+        assertThat(first.get("type").asText()).isEqualTo("WITHDRAWAL");
+        assertThat(first.get("amount").decimalValue()).isEqualByComparingTo("1500");
+        assertThat(first.get("createdAt").asText()).isEqualTo("2025-06-25T09:30:00");
+        assertThat(first.get("memo").isNull()).isTrue();
+        assertThat(objectMapper.readTree(lines.get(1)).get("amount").decimalValue()).isEqualByComparingTo("0.01");
+        // 읽기 전용 트랜잭션 안에서 커서를 연다
+        verify(transactionManager).getTransaction(any());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("출력 스트림이 끊기면 IOException 을 그대로 던지고 커서는 닫음")
+    void export_clientDisconnect_closesCursor() {
+        AtomicBoolean closed = new AtomicBoolean();
+        given(accountRepository.findById(10L)).willReturn(Optional.empty());
+        given(transactionRepository.streamExportRows(10L)).willReturn(Stream.of(
+                row(1L, TransactionType.DEPOSIT, Money.won(1), "입금", null)).onClose(() -> closed.set(true)));
+        OutputStream broken = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        assertThatThrownBy(() -> service.exportAccount(new AccountExport(10L, false), ExportFormat.CSV, broken))
+                .isInstanceOf(IOException.class)
+                .hasMessage("Broken pipe");
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    @DisplayName("기간 검사 - 누락은 INVALID_DATE_REQUEST, 역전은 INVALID_DATE_RANGE, 하루짜리는 허용")
+    void validateRange() {
+        LocalDate day = LocalDate.of(2025, 6, 1);
+
+        assertThatThrownBy(() -> service.validateRange(null, day))
+                .isInstanceOf(CustomException.class)
+                .hasMessageContaining(ErrorCode.INVALID_DATE_REQUEST.getMessage());
+        assertThatThrownBy(() -> service.validateRange(day, null))
+                .isInstanceOf(CustomException.class)
+                .hasMessageContaining(ErrorCode.INVALID_DATE_REQUEST.getMessage());
+        assertThatThrownBy(() -> service.validateRange(day.plusDays(1), day))
+                .isInstanceOf(CustomException.class)
+                .hasMessageContaining(ErrorCode.INVALID_DATE_RANGE.getMessage());
+        assertThatNoException().isThrownBy(() -> service.validateRange(day, day));
+    }
+
+    @Test
+    @DisplayName("resolveAccount - 방금 LAZY 초기 내역을 저장했으면 primary 에서 읽도록 표시")
+    void resolveAccount_marksPrimaryAfterMaterialize() {
+        Account account = mock(Account.class);
+        given(account.getId()).willReturn(10L);
+        given(accountRepository.getOrThrowByUserId(1L)).willReturn(account);
+        given(transactionHistoryMaterializer.materializeIfPending(1L)).willReturn(true, false);
+
+        assertThat(service.resolveAccount(1L)).isEqualTo(new AccountExport(10L, true));
+        assertThat(service.resolveAccount(1L)).isEqualTo(new AccountExport(10L, false));
+    }
+
+    private static TransactionExportRow row(Long id, TransactionType type, Money amount, String description, String memo) {
+        return new TransactionExportRow(id, 10L, 1L, amount, type, T, description, memo);
+    }
+}
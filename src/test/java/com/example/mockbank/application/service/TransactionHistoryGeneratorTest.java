@@ -0,0 +1,77 @@
+package com.example.mockbank.application.service;
+
+import com.example.mockbank.domain.account.entity.Account;
+import com.example.mockbank.domain.account.entity.Transaction;
+import com.example.mockbank.domain.account.enums.TransactionType;
+import com.example.mockbank.domain.account.vo.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TransactionHistoryGeneratorTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 17, 14, 30);
+
+    private final TransactionHistoryGenerator generator = new TransactionHistoryGenerator();
+    private final Account account = Account.builder().userId(1L).build();
+
+    @Test
+    @DisplayName("같은 seed/기준시각이면 같은 내역")
+    void generate_sameSeed_isReproducible() {
+        TransactionHistoryGenerator.GeneratedHistory first = generator.generate(account, null, 42L, NOW);
+        TransactionHistoryGenerator.GeneratedHistory second = generator.generate(account, null, 42L, NOW);
+
+        assertThat(second.finalBalance()).isEqualByComparingTo(first.finalBalance());
+        assertThat(second.transactions()).hasSameSizeAs(first.transactions());
+        for (int i = 0; i < first.transactions().size(); i++) {
+            Transaction a = first.transactions().get(i);
+            Transaction b = second.transactions().get(i);
+            assertThat(b.getCreatedAt()).isEqualTo(a.getCreatedAt());
+            assertThat(b.getType()).isEqualTo(a.getType());
+            assertThat(b.getAmount()).isEqualByComparingTo(a.getAmount());
+        }
+    }
+
+    @Test
+    @DisplayName("시간순으로 생성되고 최종 잔액이 재계산 결과와 같음")
+    void generate_isOrderedAndBalanceMatchesReplay() {
+        for (long seed = 0; seed < 50; seed++) {
+            TransactionHistoryGenerator.GeneratedHistory history = generator.generate(account, null, seed, NOW);
+            List<Transaction> txs = history.transactions();
+
+            for (int i = 1; i < txs.size(); i++) {
+                assertThat(txs.get(i).getCreatedAt()).isAfter(txs.get(i - 1).getCreatedAt());
+            }
+            assertThat(txs).allMatch(tx -> tx.getCreatedAt().isBefore(NOW));
+            assertThat(history.finalBalance())
+                    .isEqualByComparingTo(TransactionHistoryGenerator.replayBalance(txs));
+        }
+    }
+
+    @Test
+    @DisplayName("고정 월급 - 말일마다 월급 입금, 잔액은 음수가 되지 않고 거래별 잔액이 누적합과 같음")
+    void generate_fixedSalary() {
+        Money salary = new Money(300_000_050L); // 3,000,000.50원
+        TransactionHistoryGenerator.GeneratedHistory history = generator.generate(account, salary, 7L, NOW);
+
+        List<Transaction> salaries = history.transactions().stream()
+                .filter(tx -> "월급".equals(tx.getMemo()))
+                .toList();
+        assertThat(salaries).isNotEmpty()
+                .allMatch(tx -> tx.getType() == TransactionType.DEPOSIT
+                        && tx.getAmount().equals(salary)
+                        && tx.getCreatedAt().getDayOfMonth() == tx.getCreatedAt().toLocalDate().lengthOfMonth());
+
+        Money running = Money.ZERO;
+        for (Transaction tx : history.transactions()) {
+            running = tx.getType() == TransactionType.DEPOSIT ? running.plus(tx.getAmount()) : running.minus(tx.getAmount());
+            assertThat(running.signum()).isGreaterThanOrEqualTo(0);
+            assertThat(tx.getBalanceAfter()).isEqualByComparingTo(running);
+        }
+        assertThat(history.finalBalance()).isEqualByComparingTo(running);
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.mockbank.application.service;
+
+import com.example.mockbank.common.enums.ErrorCode;
+import com.example.mockbank.common.enums.HistoryMode;
+import com.example.mockbank.common.exception.CustomException;
+import com.example.mockbank.domain.account.entity.Account;
+import com.example.mockbank.domain.account.enums.HistoryStatus;
+import com.example.mockbank.domain.account.repository.AccountRepository;
+import com.example.mockbank.domain.account.repository.TransactionRepository;
+import com.example.mockbank.domain.account.repository.projection.AccountHistoryView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class TransactionHistoryMaterializerTest {
+
+    private final AccountRepository accountRepository = mock(AccountRepository.class);
+    private final TransactionRepository transactionRepository = mock(TransactionRepository.class);
+    private final TransactionSummaryService transactionSummaryService = mock(TransactionSummaryService.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final TransactionHistoryMaterializer materializer = new TransactionHistoryMaterializer(accountRepository,
+            transactionRepository, transactionSummaryService, new TransactionHistoryGenerator(), transactionManager);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(materializer, "historyMode", HistoryMode.LAZY);
+        materializer.init();
+    }
+
+    @Test
+    @DisplayName("PENDING 계좌 - 조회보다 먼저 (별도 쓰기 트랜잭션에서) 초기 내역 저장")
+    void readAfterMaterialize_pending_savesBeforeRead() {
+        Account account = account(HistoryStatus.PENDING);
+        given(accountRepository.findHistoryViewByUserId(1L)).willReturn(view(HistoryStatus.PENDING));
+        given(accountRepository.claimHistoryMaterialization(10L)).willReturn(1);
+        given(accountRepository.findById(10L)).willReturn(Optional.of(account));
+        List<String> calls = new ArrayList<>();
+
+        String result = materializer.readAfterMaterialize(1L, () -> {
+            calls.add("read");
+            return "ok";
+        });
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(calls).containsExactly("read");
+        var order = inOrder(transactionManager, transactionRepository);
+        order.verify(transactionManager).getTransaction(any());
+        order.verify(transactionRepository).bulkInsert(eq(10L), anyList());
+        order.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("이미 저장된 계좌 - claim 없이 바로 조회")
+    void readAfterMaterialize_materialized_readsDirectly() {
+        given(accountRepository.findHistoryViewByUserId(1L)).willReturn(view(HistoryStatus.MATERIALIZED));
+
+        assertThat(materializer.readAfterMaterialize(1L, () -> "ok")).isEqualTo("ok");
+
+        verify(accountRepository, never()).claimHistoryMaterialization(anyLong());
+        verify(transactionManager, never()).getTransaction(any());
+    }
+
+    @Test
+    @DisplayName("다른 트랜잭션이 먼저 claim 했으면 저장 없이 조회 (PENDING 이었음은 그대로 보고)")
+    void materializeIfPending_lostClaim_skipsInsert() {
+        given(accountRepository.findHistoryViewByUserId(1L)).willReturn(view(HistoryStatus.PENDING));
+        given(accountRepository.claimHistoryMaterialization(10L)).willReturn(0);
+
+        assertThat(materializer.materializeIfPending(1L)).isTrue();
+
+        verify(transactionRepository, never()).bulkInsert(anyLong(), anyList());
+    }
+
+    @Test
+    @DisplayName("없는 계좌 - ACCOUNT_NOT_FOUND")
+    void materializeIfPending_missingAccount_throws() {
+        given(accountRepository.findHistoryViewByUserId(1L)).willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> materializer.materializeIfPending(1L))
+                .isInstanceOf(CustomException.class)
+                .hasMessageContaining(ErrorCode.ACCOUNT_NOT_FOUND.getMessage());
+    }
+
+    @Test
+    @DisplayName("EAGER 모드이고 남은 PENDING 계좌가 없으면 계좌 조회 없이 바로 조회")
+    void readAfterMaterialize_noPendingAccounts_skipsLookup() {
+        ReflectionTestUtils.setField(materializer, "historyMode", HistoryMode.EAGER);
+        given(accountRepository.existsByHistoryStatus(HistoryStatus.PENDING)).willReturn(false);
+        materializer.init();
+
+        assertThat(materializer.readAfterMaterialize(1L, () -> "ok")).isEqualTo("ok");
+
+        verify(accountRepository, never()).findHistoryViewByUserId(anyLong());
+        verifyNoInteractions(transactionManager);
+    }
+
+    @Test
+    @DisplayName("EAGER 모드라도 예전 LAZY 계좌가 PENDING 으로 남아 있으면 확인")
+    void materializeIfPending_leftoverPending_checksStatus() {
+        ReflectionTestUtils.setField(materializer, "historyMode", HistoryMode.EAGER);
+        given(accountRepository.existsByHistoryStatus(HistoryStatus.PENDING)).willReturn(true);
+        materializer.init();
+        given(accountRepository.findHistoryViewByUserId(1L)).willReturn(view(HistoryStatus.MATERIALIZED));
+
+        assertThat(materializer.materializeIfPending(1L)).isFalse();
+
+        verify(accountRepository).findHistoryViewByUserId(1L);
+    }
+
+    private static Optional<AccountHistoryView> view(HistoryStatus status) {
+        return Optional.of(new AccountHistoryView(10L, status));
+    }
+
+    private static Account account(HistoryStatus status) {
+        return Account.builder()
+                .id(10L)
+                .userId(1L)
+                .historySeed(42L)
+                .historyBaseTime(LocalDateTime.of(2025, 3, 17, 14, 30))
+                .historyStatus(status)
+                .build();
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.mockbank.application.service;
+
+import com.example.mockbank.domain.account.repository.AccountRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class TransactionLedgerBackfillJobTest {
+
+    private final AccountRepository accountRepository = mock(AccountRepository.class);
+    private final TransactionLedgerService transactionLedgerService = mock(TransactionLedgerService.class);
+    private final TransactionLedgerBackfillJob job = new TransactionLedgerBackfillJob(accountRepository, transactionLedgerService);
+
+    @Test
+    @DisplayName("id 키셋 페이지로 전체 계좌를 돌고, 실패한 계좌는 건너뛰고 계속")
+    void backfillAll_pagesAndSkipsFailures() {
+        List<Long> firstPage = LongStream.rangeClosed(1, 500).boxed().toList();
+        given(accountRepository.findIdsAfter(eq(0L), any())).willReturn(firstPage);
+        given(accountRepository.findIdsAfter(eq(500L), any())).willReturn(List.of(501L));
+        given(transactionLedgerService.rebuild(anyLong())).willReturn(1);
+        given(transactionLedgerService.rebuild(7L)).willThrow(new IllegalStateException("boom"));
+
+        int processed = job.backfillAll();
+
+        assertThat(processed).isEqualTo(500); // 501 개 중 1 개 실패
+        verify(transactionLedgerService).rebuild(501L);
+        verify(accountRepository, never()).findIdsAfter(eq(501L), any());
+    }
+
+    @Test
+    @DisplayName("기동 시 백필은 설정이 켜져 있을 때만")
+    void run_onlyWhenEnabled() {
+        job.run(new DefaultApplicationArguments());
+        verify(accountRepository, never()).findIdsAfter(anyLong(), any());
+
+        ReflectionTestUtils.setField(job, "backfillOnStartup", true);
+        given(accountRepository.findIdsAfter(eq(0L), any())).willReturn(List.of());
+        job.run(new DefaultApplicationArguments());
+        verify(accountRepository).findIdsAfter(eq(0L), any());
+    }
+}
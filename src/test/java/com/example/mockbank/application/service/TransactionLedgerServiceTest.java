@@ -0,0 +1,205 @@
+package com.example.mockbank.application.service;
+
+import com.example.mockbank.application.dto.BalanceAtResponse;
+import com.example.mockbank.application.dto.LedgerCheckResponse;
+import com.example.mockbank.common.enums.ErrorCode;
+import com.example.mockbank.common.exception.CustomException;
+import com.example.mockbank.domain.account.entity.Account;
+import com.example.mockbank.domain.account.entity.Transaction;
+import com.example.mockbank.domain.account.enums.HistoryStatus;
+import com.example.mockbank.domain.account.enums.TransactionType;
+import com.example.mockbank.domain.account.repository.AccountRepository;
+import com.example.mockbank.domain.account.repository.TransactionRepository;
+import com.example.mockbank.domain.account.repository.projection.AccountLedgerView;
+import com.example.mockbank.domain.account.vo.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class TransactionLedgerServiceTest {
+
+    private static final LocalDateTime AT = LocalDateTime.of(2025, 6, 25, 9, 0);
+
+    private final AccountRepository accountRepository = mock(AccountRepository.class);
+    private final TransactionRepository transactionRepository = mock(TransactionRepository.class);
+    private final VirtualTransactionHistory virtualTransactionHistory = mock(VirtualTransactionHistory.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final TransactionLedgerService service = new TransactionLedgerService(accountRepository, transactionRepository,
+            virtualTransactionHistory, transactionManager);
+
+    @Test
+    @DisplayName("시점 잔액 - at 이전 마지막 거래의 balance_after")
+    void getBalanceAt_usesBalanceAfter() {
+        given(accountRepository.getOrThrowByUserId(1L)).willReturn(account(10L, HistoryStatus.MATERIALIZED, Money.won(5_000)));
+        given(transactionRepository.findBalanceAfterAt(eq(10L), eq(AT), any())).willReturn(List.of(Money.won(3_000)));
+
+        BalanceAtResponse response = service.getBalanceAt(1L, AT);
+
+        assertThat(response.getBalance()).isEqualByComparingTo("3000");
+        verify(transactionRepository, never()).sumSignedAmountUntil(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("백필 전 행(balance_after null)은 합산으로 대체")
+    void getBalanceAt_fallsBackToSum() {
+        given(accountRepository.getOrThrowByUserId(1L)).willReturn(account(10L, HistoryStatus.MATERIALIZED, Money.won(5_000)));
+        given(transactionRepository.findBalanceAfterAt(eq(10L), eq(AT), any())).willReturn(Collections.singletonList(null));
+        given(transactionRepository.sumSignedAmountUntil(10L, AT)).willReturn(new BigDecimal("1234.50"));
+
+        assertThat(service.getBalanceAt(1L, AT).getBalance()).isEqualByComparingTo("1234.50");
+    }
+
+    @Test
+    @DisplayName("합산 대체 결과가 음수면 0 (잔액은 음수가 될 수 없음)")
+    void getBalanceAt_sumNegative_clampedToZero() {
+        given(accountRepository.getOrThrowByUserId(1L)).willReturn(account(10L, HistoryStatus.MATERIALIZED, Money.won(5_000)));
+        given(transactionRepository.findBalanceAfterAt(eq(10L), eq(AT), any())).willReturn(Collections.singletonList(null));
+        given(transactionRepository.sumSignedAmountUntil(10L, AT)).willReturn(new BigDecimal("-700000"));
+
+        assertThat(service.getBalanceAt(1L, AT).getBalance()).isEqualByComparingTo("0");
+    }
+
+    @Test
+    @DisplayName("실제 거래 이전 시점 - 가상 내역 잔액, 그것도 없으면 0")
+    void getBalanceAt_beforeFirstTransaction() {
+        Account account = account(10L, HistoryStatus.VIRTUAL, Money.won(5_000));
+        given(accountRepository.getOrThrowByUserId(1L)).willReturn(account);
+        given(transactionRepository.findBalanceAfterAt(eq(10L), eq(AT), any())).willReturn(List.of());
+        given(virtualTransactionHistory.balanceAt(account, AT)).willReturn(Optional.of(Money.won(900)), Optional.empty());
+
+        assertThat(service.getBalanceAt(1L, AT).getBalance()).isEqualByComparingTo("900");
+        assertThat(service.getBalanceAt(1L, AT).getBalance()).isEqualByComparingTo("0");
+    }
+
+    @Test
+    @DisplayName("시점 누락은 INVALID_DATE_REQUEST")
+    void getBalanceAt_nullAt() {
+        assertThatThrownBy(() -> service.getBalanceAt(1L, null))
+                .isInstanceOf(CustomException.class)
+                .hasMessageContaining(ErrorCode.INVALID_DATE_REQUEST.getMessage());
+    }
+
+    @Test
+    @DisplayName("검증 - 마지막 balance_after 와 계좌 잔액 비교")
+    void verify_comparesLatestLedger() {
+        given(accountRepository.getOrThrowByUserId(1L)).willReturn(account(10L, HistoryStatus.MATERIALIZED, Money.won(5_000)));
+        given(transactionRepository.findLatestBalanceAfter(eq(10L), any())).willReturn(List.of(Money.won(5_000)), List.of(Money.won(4_000)));
+
+        assertThat(service.verify(1L).isMatched()).isTrue();
+        LedgerCheckResponse mismatch = service.verify(1L);
+        assertThat(mismatch.isMatched()).isFalse();
+        assertThat(mismatch.getAccountBalance()).isEqualByComparingTo("5000");
+        assertThat(mismatch.getLedgerBalance()).isEqualByComparingTo("4000");
+    }
+
+    @Test
+    @DisplayName("전체 검증 - 프로젝션만 읽어 불일치 계좌만 반환하고 초기 내역 저장 전(PENDING) 계좌는 건너뜀")
+    void verifyAll_returnsMismatchesSkippingPending() {
+        given(accountRepository.findLedgerViewsAfter(eq(0L), any())).willReturn(List.of(
+                ledgerView(10L, HistoryStatus.MATERIALIZED),
+                ledgerView(11L, HistoryStatus.MATERIALIZED),
+                ledgerView(12L, HistoryStatus.PENDING)));
+        given(transactionRepository.findLatestBalanceAfter(eq(10L), any())).willReturn(List.of(Money.won(5_000)));
+        given(transactionRepository.findLatestBalanceAfter(eq(11L), any())).willReturn(Collections.singletonList(null));
+
+        List<LedgerCheckResponse> mismatches = service.verifyAll();
+
+        assertThat(mismatches).extracting(LedgerCheckResponse::getUserId).containsExactly(2L);
+        assertThat(mismatches.get(0).getLedgerBalance()).isNull();
+        verify(transactionRepository, never()).findLatestBalanceAfter(eq(12L), any());
+        verify(accountRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("전체 검증 - 페이지마다 읽기 전용 트랜잭션 하나, 마지막 id 다음부터 이어서")
+    void verifyAll_oneTransactionPerPage() {
+        List<AccountLedgerView> firstPage = new ArrayList<>();
+        for (long id = 1; id <= 500; id++) firstPage.add(ledgerView(id, HistoryStatus.PENDING));
+        given(accountRepository.findLedgerViewsAfter(eq(0L), any())).willReturn(firstPage);
+        given(accountRepository.findLedgerViewsAfter(eq(500L), any())).willReturn(List.of(ledgerView(501L, HistoryStatus.PENDING)));
+
+        assertThat(service.verifyAll()).isEmpty();
+
+        verify(transactionManager, times(2)).getTransaction(any());
+        verify(transactionManager, times(2)).commit(any());
+        verify(accountRepository, never()).findLedgerViewsAfter(eq(501L), any());
+    }
+
+    @Test
+    @DisplayName("전체 검증 - 실제 입출금이 없는 VIRTUAL 계좌만 엔티티를 읽어 캐시 없이 가상 최종 잔액과 비교")
+    void verifyAll_virtualWithoutRows_usesUncachedFinalBalance() {
+        Account account = account(10L, HistoryStatus.VIRTUAL, Money.won(5_000));
+        given(accountRepository.findLedgerViewsAfter(eq(0L), any())).willReturn(List.of(ledgerView(10L, HistoryStatus.VIRTUAL)));
+        given(transactionRepository.findLatestBalanceAfter(eq(10L), any())).willReturn(List.of());
+        given(accountRepository.findById(10L)).willReturn(Optional.of(account));
+        given(virtualTransactionHistory.finalBalanceUncached(account)).willReturn(Money.won(4_000));
+
+        List<LedgerCheckResponse> mismatches = service.verifyAll();
+
+        assertThat(mismatches).singleElement().satisfies(m -> {
+            assertThat(m.getAccountBalance()).isEqualByComparingTo("5000");
+            assertThat(m.getLedgerBalance()).isEqualByComparingTo("4000");
+        });
+        verify(virtualTransactionHistory, never()).finalBalance(any());
+    }
+
+    @Test
+    @DisplayName("재계산 - 가상 최종 잔액 위에 시간순으로 쌓고, 음수는 0 으로 보정, 값이 다른 행만 갱신")
+    void rebuild_updatesOnlyChangedRows() {
+        Account account = account(10L, HistoryStatus.VIRTUAL, Money.won(1_000));
+        given(accountRepository.findById(10L)).willReturn(Optional.of(account));
+        given(virtualTransactionHistory.finalBalance(account)).willReturn(Money.won(1_000));
+        given(transactionRepository.findByAccountIdOrderByCreatedAtAscIdAsc(10L)).willReturn(Arrays.asList(
+                tx(1L, TransactionType.DEPOSIT, 500, Money.won(1_500)),     // 그대로
+                tx(2L, TransactionType.WITHDRAWAL, 2_000, null),            // 백필 전 → 0 (음수 보정)
+                tx(3L, TransactionType.DEPOSIT, 300, Money.won(999))));     // 틀린 값 → 300
+
+        int updated = service.rebuild(10L);
+
+        assertThat(updated).isEqualTo(2);
+        verify(transactionRepository).bulkUpdateBalanceAfter(Map.of(2L, Money.ZERO, 3L, Money.won(300)));
+    }
+
+    private static Account account(Long id, HistoryStatus status, Money balance) {
+        return Account.builder()
+                .id(id)
+                .userId(id - 9)
+                .balance(balance)
+                .historyStatus(status)
+                .build();
+    }
+
+    private static AccountLedgerView ledgerView(Long id, HistoryStatus status) {
+        return new AccountLedgerView(id, id - 9, Money.won(5_000), status);
+    }
+
+    private static Transaction tx(Long id, TransactionType type, long won, Money balanceAfter) {
+        return Transaction.builder()
+                .id(id)
+                .type(type)
+                .amount(Money.won(won))
+                .balanceAfter(balanceAfter)
+                .createdAt(AT.plusMinutes(id))
+                .build();
+    }
+}
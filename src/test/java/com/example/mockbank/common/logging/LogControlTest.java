@@ -0,0 +1,76 @@
+package com.example.mockbank.common.logging;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class LogControlTest {
+
+    @AfterEach
+    void tearDown() {
+        LogControl.clear();
+    }
+
+    @Test
+    @DisplayName("verbose 등록/해제와 만료 시각 스냅샷")
+    void verbose_enableAndDisable() {
+        assertThat(LogControl.hasVerboseUsers()).isFalse();
+
+        LogControl.enableVerbose("42", Duration.ofMinutes(30));
+        LogControl.enableVerbose("7", Duration.ofMinutes(1));
+
+        assertThat(LogControl.isVerbose("42")).isTrue();
+        assertThat(LogControl.isVerbose("8")).isFalse();
+        assertThat(LogControl.verboseUsers()).containsOnlyKeys("42", "7");
+        assertThat(LogControl.verboseUsers().get("42").toEpochMilli())
+                .isCloseTo(Instant.now().plus(Duration.ofMinutes(30)).toEpochMilli(), within(5_000L));
+
+        LogControl.disableVerbose("42");
+        assertThat(LogControl.isVerbose("42")).isFalse();
+        assertThat(LogControl.verboseUsers()).containsOnlyKeys("7");
+    }
+
+    @Test
+    @DisplayName("TTL 이 지나면 자동 해제 (조회 시 정리)")
+    void verbose_expires() {
+        LogControl.enableVerbose("42", Duration.ZERO);
+        LogControl.enableVerbose("7", Duration.ZERO);
+
+        assertThat(LogControl.isVerbose("42")).isFalse();
+        assertThat(LogControl.verboseUsers()).isEmpty();
+        assertThat(LogControl.hasVerboseUsers()).isFalse();
+    }
+
+    @Test
+    @DisplayName("샘플링 비율은 [0, 1] 로 잘리고, 등록되지 않은 로거는 대상 아님(null)")
+    void sampleRate_clampedAndOptional() {
+        assertThat(LogControl.hasSampling()).isFalse();
+        assertThat(LogControl.sampled("org.hibernate.SQL")).isNull();
+
+        LogControl.setSampleRate("off", -0.5);
+        LogControl.setSampleRate("all", 3.0);
+
+        assertThat(LogControl.hasSampling()).isTrue();
+        assertThat(LogControl.sampleRates()).containsEntry("off", 0d).containsEntry("all", 1d);
+        assertThat(LogControl.sampled("off")).isFalse();
+        assertThat(LogControl.sampled("all")).isTrue();
+    }
+
+    @Test
+    @DisplayName("중간 비율은 대략 그 비율만큼 통과")
+    void sampleRate_fraction() {
+        LogControl.setSampleRate("quarter", 0.25);
+
+        int passed = 0;
+        for (int i = 0; i < 20_000; i++) {
+            if (LogControl.sampled("quarter")) passed++;
+        }
+        assertThat(passed / 20_000d).isCloseTo(0.25, within(0.02));
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.mockbank.common.logging;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggerConfiguration;
+import org.springframework.boot.logging.LoggingSystem;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class VerboseLogEndpointTest {
+
+    private final LoggingSystem loggingSystem = mock(LoggingSystem.class);
+    private final VerboseLogEndpoint endpoint = new VerboseLogEndpoint(loggingSystem);
+
+    @AfterEach
+    void tearDown() {
+        LogControl.clear();
+    }
+
+    @Test
+    @DisplayName("샘플링 비율을 올리면 로거를 DEBUG 로, 0 으로 내리면 상위 레벨로 되돌림")
+    void sampleRate_togglesLoggerLevel() {
+        given(loggingSystem.getLoggerConfiguration("org.hibernate.SQL"))
+                .willReturn(new LoggerConfiguration("org.hibernate.SQL", LogLevel.DEBUG, LogLevel.DEBUG));
+
+        Map<String, Object> status = endpoint.update(null, null, " org.hibernate.SQL ", 0.1);
+
+        verify(loggingSystem).setLogLevel("org.hibernate.SQL", LogLevel.DEBUG);
+        assertThat(LogControl.sampleRates()).containsEntry("org.hibernate.SQL", 0.1);
+        assertThat(status.get("levels")).isEqualTo(Map.of("org.hibernate.SQL", "DEBUG"));
+
+        endpoint.update(null, null, "org.hibernate.SQL", 0d);
+        verify(loggingSystem).setLogLevel("org.hibernate.SQL", null);
+    }
+
+    @Test
+    @DisplayName("verbose 등록 - 기간 미지정은 30분, 최대 24시간")
+    void verbose_defaultAndMaxTtl() {
+        endpoint.update("42", null, null, null);
+        endpoint.update("7", 100_000, null, null);
+
+        long now = Instant.now().toEpochMilli();
+        assertThat(LogControl.verboseUsers().get("42").toEpochMilli())
+                .isCloseTo(now + Duration.ofMinutes(30).toMillis(), within(5_000L));
+        assertThat(LogControl.verboseUsers().get("7").toEpochMilli())
+                .isCloseTo(now + Duration.ofHours(24).toMillis(), within(5_000L));
+
+        endpoint.disable("42");
+        assertThat(LogControl.verboseUsers()).containsOnlyKeys("7");
+    }
+}
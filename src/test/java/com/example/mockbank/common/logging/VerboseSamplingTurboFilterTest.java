@@ -0,0 +1,146 @@
+package com.example.mockbank.common.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 운영과 같이 org.hibernate.SQL 은 INFO, mockbank.sqs.body 는 DEBUG 로 둔 별도 LoggerContext
+class VerboseSamplingTurboFilterTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final VerboseSamplingTurboFilter filter = new VerboseSamplingTurboFilter();
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private Logger sqlLogger;
+    private Logger bodyLogger;
+
+    @BeforeEach
+    void setUp() {
+        LogControl.clear();
+        filter.setContext(context);
+        filter.start();
+        context.addTurboFilter(filter);
+
+        appender.setContext(context);
+        appender.start();
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+        root.addAppender(appender);
+        sqlLogger = context.getLogger("org.hibernate.SQL");
+        bodyLogger = context.getLogger("mockbank.sqs.body");
+        bodyLogger.setLevel(Level.DEBUG);
+    }
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+        LogControl.clear();
+        context.stop();
+    }
+
+    @Test
+    @DisplayName("설정이 없으면 NEUTRAL - INFO 로거의 DEBUG 는 레벨 확인에서 걸러짐 (SQL 문자열을 만들지 않음)")
+    void noConfig_neutral() {
+        assertThat(filter.decide(null, sqlLogger, Level.DEBUG, null, null, null)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(sqlLogger.isDebugEnabled()).isFalse();
+
+        sqlLogger.debug("select 1");
+        assertThat(appender.list).isEmpty();
+    }
+
+    @Test
+    @DisplayName("verbose userId 요청은 INFO 로거여도 DEBUG 까지 남김, 다른 사용자/대상 밖 로거는 그대로")
+    void verboseUser_acceptsDebug() {
+        LogControl.enableVerbose("42", Duration.ofMinutes(1));
+        Logger otherLogger = context.getLogger("org.springframework.web");
+
+        MDC.put(LogControl.MDC_USER_ID, "7");
+        assertThat(sqlLogger.isDebugEnabled()).isFalse();
+
+        MDC.put(LogControl.MDC_USER_ID, "42");
+        assertThat(sqlLogger.isDebugEnabled()).isTrue();
+        assertThat(sqlLogger.isTraceEnabled()).isFalse();
+        assertThat(context.getLogger("com.example.mockbank.application.service.AccountService").isDebugEnabled()).isTrue();
+        assertThat(otherLogger.isDebugEnabled()).isFalse();
+
+        sqlLogger.debug("select 1");
+        assertThat(appender.list).extracting(ILoggingEvent::getFormattedMessage).containsExactly("select 1");
+    }
+
+    @Test
+    @DisplayName("verbose 는 샘플링보다 우선")
+    void verboseWinsOverSampling() {
+        LogControl.setSampleRate("org.hibernate.SQL", 0d);
+        LogControl.enableVerbose("42", Duration.ofMinutes(1));
+        MDC.put(LogControl.MDC_USER_ID, "42");
+
+        assertThat(filter.decide(null, sqlLogger, Level.DEBUG, "select 1", null, null)).isEqualTo(FilterReply.ACCEPT);
+    }
+
+    @Test
+    @DisplayName("샘플링 비율 0 이면 실제 로그 호출만 DENY - 레벨 확인과 WARN 이상은 그대로")
+    void sampling_deniesOnlyLogCalls() {
+        LogControl.setSampleRate("mockbank.sqs.body", 0d);
+
+        assertThat(bodyLogger.isDebugEnabled()).isTrue();
+        assertThat(filter.decide(null, bodyLogger, Level.DEBUG, "body={}", null, null)).isEqualTo(FilterReply.DENY);
+        assertThat(filter.decide(null, bodyLogger, Level.WARN, "body={}", null, null)).isEqualTo(FilterReply.NEUTRAL);
+
+        bodyLogger.debug("body={}", "x");
+        bodyLogger.warn("body={}", "y");
+        assertThat(appender.list).extracting(ILoggingEvent::getFormattedMessage).containsExactly("body=y");
+    }
+
+    @Test
+    @DisplayName("샘플링 비율 1 이면 전부 남김")
+    void sampling_rateOneKeepsAll() {
+        LogControl.setSampleRate("mockbank.sqs.body", 1d);
+
+        for (int i = 0; i < 100; i++) {
+            bodyLogger.debug("body={}", i);
+        }
+        assertThat(appender.list).hasSize(100);
+    }
+
+    @Test
+    @DisplayName("sampleRates 설정 문자열 파싱 (공백 허용, 잘못된 항목은 무시)")
+    void setSampleRates_parses() {
+        filter.setSampleRates("org.hibernate.SQL=0, mockbank.sqs.body = 0.01 ,broken");
+
+        assertThat(LogControl.sampleRates())
+                .containsEntry("org.hibernate.SQL", 0d)
+                .containsEntry("mockbank.sqs.body", 0.01)
+                .hasSize(2);
+    }
+
+    @Test
+    @DisplayName("verbosePrefixes 로 verbose 대상 로거를 바꿀 수 있음")
+    void setVerbosePrefixes_limitsTargets() {
+        filter.setVerbosePrefixes("com.example.mockbank");
+        LogControl.enableVerbose("42", Duration.ofMinutes(1));
+        MDC.put(LogControl.MDC_USER_ID, "42");
+
+        assertThat(sqlLogger.isDebugEnabled()).isFalse();
+        assertThat(context.getLogger("com.example.mockbank.Foo").isDebugEnabled()).isTrue();
+    }
+
+    @Test
+    @DisplayName("시작 전(stop 상태)에는 아무것도 거르지 않음")
+    void notStarted_neutral() {
+        LogControl.setSampleRate("mockbank.sqs.body", 0d);
+        filter.stop();
+
+        assertThat(filter.decide(null, bodyLogger, Level.DEBUG, "body={}", null, null)).isEqualTo(FilterReply.NEUTRAL);
+    }
+}
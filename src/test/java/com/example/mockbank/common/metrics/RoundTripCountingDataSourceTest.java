@@ -0,0 +1,67 @@
+package com.example.mockbank.common.metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// H2 인메모리에 실제 JDBC 호출 - [statements, roundTrips]
+class RoundTripCountingDataSourceTest {
+
+    private final RoundTripCountingDataSource dataSource = new RoundTripCountingDataSource(
+            new DriverManagerDataSource("jdbc:h2:mem:roundtrip;DB_CLOSE_DELAY=-1", "sa", ""));
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("create table if not exists roundtrip (id int)");
+        jdbcTemplate.execute("delete from roundtrip");
+    }
+
+    @AfterEach
+    void tearDown() {
+        JdbcRequestStats.end();
+    }
+
+    @Test
+    @DisplayName("배치 INSERT 는 문 1개 / 왕복 1회, 단건 조회는 문 1개 / 왕복 1회")
+    void countsStatementsAndRoundTrips() {
+        JdbcRequestStats.begin();
+        jdbcTemplate.batchUpdate("insert into roundtrip values (?)",
+                List.of(new Object[]{1}, new Object[]{2}, new Object[]{3}));
+        Long count = jdbcTemplate.queryForObject("select count(*) from roundtrip where id > ?", Long.class, 0);
+
+        assertThat(count).isEqualTo(3L);
+        assertThat(JdbcRequestStats.end()).containsExactly(2L, 2L);
+    }
+
+    @Test
+    @DisplayName("집계 중이 아니면 세지 않음 (begin 전 / end 후)")
+    void outsideRequest_notCounted() {
+        jdbcTemplate.update("insert into roundtrip values (1)");
+        assertThat(JdbcRequestStats.end()).isNull();
+
+        JdbcRequestStats.begin();
+        assertThat(JdbcRequestStats.end()).containsExactly(0L, 0L);
+        jdbcTemplate.update("insert into roundtrip values (2)");
+        assertThat(JdbcRequestStats.end()).isNull();
+    }
+
+    @Test
+    @DisplayName("대상 커넥션은 getTargetConnection 으로 꺼낼 수 있음")
+    void exposesTargetConnection() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            assertThat(connection).isInstanceOf(ConnectionProxy.class);
+            assertThat(((ConnectionProxy) connection).getTargetConnection()).isNotInstanceOf(ConnectionProxy.class);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.mockbank.common.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlMetricsInterceptorTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final SqlMetricsInterceptor interceptor = new SqlMetricsInterceptor(registry);
+    private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/accounts/1/transactions/export");
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @AfterEach
+    void tearDown() {
+        JdbcRequestStats.end();
+    }
+
+    @Test
+    @DisplayName("요청 1건의 SQL 문/왕복 수를 엔드포인트 패턴 태그로 기록하고 ThreadLocal 을 비움")
+    void recordsPerRequest() {
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/accounts/{userId}/transactions/export");
+
+        interceptor.preHandle(request, response, new Object());
+        JdbcRequestStats.statementPrepared();
+        JdbcRequestStats.roundTrip();
+        JdbcRequestStats.roundTrip();
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        assertThat(summary("mockbank.http.sql.statements").totalAmount()).isEqualTo(1.0);
+        assertThat(summary("mockbank.http.jdbc.roundtrips").totalAmount()).isEqualTo(2.0);
+        assertThat(JdbcRequestStats.end()).isNull();
+    }
+
+    @Test
+    @DisplayName("비동기 시작 시 요청 스레드의 ThreadLocal 을 비우고, async 디스패치 완료 때 합쳐서 한 번 기록")
+    void asyncRequest_clearsThreadAndMergesOnCompletion() throws Exception {
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/accounts/{userId}/transactions/export");
+
+        interceptor.preHandle(request, response, new Object());
+        JdbcRequestStats.statementPrepared();
+        JdbcRequestStats.roundTrip();
+        interceptor.afterConcurrentHandlingStarted(request, response, new Object());
+
+        // 요청 스레드는 풀로 돌아가므로 남아 있으면 안 된다
+        assertThat(JdbcRequestStats.end()).isNull();
+        JdbcRequestStats.roundTrip(); // 집계 밖 (다음 요청이 begin 하기 전) - 무시
+
+        // async 디스패치는 다른 스레드에서 preHandle → afterCompletion
+        CompletableFuture.runAsync(() -> {
+            interceptor.preHandle(request, response, new Object());
+            JdbcRequestStats.roundTrip();
+            interceptor.afterCompletion(request, response, new Object(), null);
+        }).get();
+
+        assertThat(summary("mockbank.http.sql.statements").count()).isEqualTo(1L);
+        assertThat(summary("mockbank.http.sql.statements").totalAmount()).isEqualTo(1.0);
+        assertThat(summary("mockbank.http.jdbc.roundtrips").totalAmount()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("preHandle 없이 완료되면 (다른 인터셉터가 막은 경우 등) 기록하지 않음")
+    void withoutBegin_recordsNothing() {
+        JdbcRequestStats.roundTrip();
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        assertThat(registry.find("mockbank.http.jdbc.roundtrips").summary()).isNull();
+    }
+
+    private DistributionSummary summary(String name) {
+        return registry.get(name)
+                .tag("uri", "/accounts/{userId}/transactions/export")
+                .tag("method", "GET")
+                .summary();
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.mockbank.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+// 대상 DataSource/커넥션은 mock - permit 수는 active 게이지로 확인
+class ConcurrencyLimitingDataSourceTest {
+
+    private final DataSource target = mock(DataSource.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private ConcurrencyLimitingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        given(target.getConnection()).willAnswer(inv -> mock(Connection.class));
+        dataSource = new ConcurrencyLimitingDataSource(target, 2, 50L);
+        dataSource.bindTo(registry);
+    }
+
+    @Test
+    @DisplayName("커넥션 close 시 permit 반환 - 반환 후 다시 받을 수 있음")
+    void close_releasesPermit() throws SQLException {
+        Connection first = dataSource.getConnection();
+        Connection second = dataSource.getConnection();
+        assertThat(active()).isEqualTo(2.0);
+
+        first.close();
+        assertThat(active()).isEqualTo(1.0);
+        verify(((ConnectionProxy) first).getTargetConnection()).close();
+
+        Connection third = dataSource.getConnection();
+        assertThat(active()).isEqualTo(2.0);
+        second.close();
+        third.close();
+        assertThat(active()).isZero();
+    }
+
+    @Test
+    @DisplayName("두 번 close 해도 permit 은 한 번만 반환 (한도를 넘겨 빌려주지 않음)")
+    void doubleClose_releasesOnce() throws SQLException {
+        Connection connection = dataSource.getConnection();
+        Connection physical = ((ConnectionProxy) connection).getTargetConnection();
+        connection.close();
+        connection.close();
+
+        assertThat(active()).isZero();
+        verify(physical, times(2)).close();
+
+        dataSource.getConnection();
+        dataSource.getConnection();
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+    }
+
+    @Test
+    @DisplayName("permit 대기 시간 초과 시 SQLTransientConnectionException")
+    void acquireTimeout_throwsTransient() throws SQLException {
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        long started = System.nanoTime();
+        assertThatThrownBy(dataSource::getConnection)
+                .isInstanceOf(SQLTransientConnectionException.class)
+                .hasMessageContaining("50ms");
+        assertThat((System.nanoTime() - started) / 1_000_000).isGreaterThanOrEqualTo(40L);
+        assertThat(active()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("대상 DataSource 가 실패하면 받은 permit 을 돌려줌")
+    void targetFailure_releasesPermit() throws SQLException {
+        given(target.getConnection()).willThrow(new SQLException("pool exhausted"));
+
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLException.class).hasMessage("pool exhausted");
+        assertThat(active()).isZero();
+    }
+
+    @Test
+    @DisplayName("unwrap 은 프록시 자신, 그 외 호출은 대상 커넥션으로")
+    void proxy_delegatesToTarget() throws SQLException {
+        Connection connection = dataSource.getConnection();
+        Connection physical = ((ConnectionProxy) connection).getTargetConnection();
+
+        assertThat(connection.unwrap(ConnectionProxy.class)).isSameAs(connection);
+        connection.setAutoCommit(false);
+        verify(physical).setAutoCommit(false);
+        connection.close();
+    }
+
+    private double active() {
+        return registry.get("mockbank.datasource.permits.active").gauge().value();
+    }
+}
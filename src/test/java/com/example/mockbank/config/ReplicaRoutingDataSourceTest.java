@@ -0,0 +1,100 @@
+package com.example.mockbank.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// primary / replica 를 각각 별도 H2 인메모리 DB 로 두고 어느 쪽으로 갔는지 marker 로 확인
+class ReplicaRoutingDataSourceTest {
+
+    private final DriverManagerDataSource primary =
+            new DriverManagerDataSource("jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1", "sa", "");
+    private final DriverManagerDataSource replica =
+            new DriverManagerDataSource("jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1", "sa", "");
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() {
+        init(primary, "primary");
+        init(replica, "replica");
+        new JdbcTemplate(replica).execute("create table if not exists replica_lag (seconds int)");
+        new JdbcTemplate(replica).execute("delete from replica_lag");
+        new JdbcTemplate(replica).execute("insert into replica_lag values (0)");
+
+        routing = new ReplicaRoutingDataSource(primary, Map.of("replica-0", replica),
+                5L, 60_000L, "select seconds from replica_lag");
+        routing.afterPropertiesSet();
+        routing.bindTo(registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        routing.destroy();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본, 그 외는 primary")
+    void routesByReadOnlyFlag() {
+        assertThat(marker()).isEqualTo("primary");
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(marker()).isEqualTo("replica");
+
+        assertThat(registry.get("mockbank.datasource.route").tag("route", "replica-0").counter().count()).isEqualTo(1.0);
+        assertThat(registry.get("mockbank.datasource.route").tag("reason", "write").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("복제 지연이 max-lag 를 넘으면 primary 로 fallback, 회복되면 다시 복제본")
+    void fallsBackWhenLagging() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        new JdbcTemplate(replica).update("update replica_lag set seconds = 30");
+        routing.refreshLag();
+        assertThat(marker()).isEqualTo("primary");
+        assertThat(registry.get("mockbank.datasource.route").tag("reason", "fallback").counter().count()).isEqualTo(1.0);
+        assertThat(registry.get("mockbank.datasource.replica.lag").gauge().value()).isEqualTo(30.0);
+
+        new JdbcTemplate(replica).update("update replica_lag set seconds = 1");
+        routing.refreshLag();
+        assertThat(marker()).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("onPrimary 안의 읽기는 읽기 전용 트랜잭션이어도 primary (중첩 후에도 유지)")
+    void onPrimary_pinsReadsToPrimary() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        String pinned = ReplicaRoutingDataSource.onPrimary(() -> {
+            ReplicaRoutingDataSource.onPrimary(this::marker);
+            return marker();
+        });
+
+        assertThat(pinned).isEqualTo("primary");
+        assertThat(marker()).isEqualTo("replica");
+        assertThat(registry.get("mockbank.datasource.route").tag("reason", "pinned").counter().count()).isEqualTo(2.0);
+    }
+
+    private String marker() {
+        return new JdbcTemplate(routing).queryForObject("select name from marker", String.class);
+    }
+
+    private static void init(DriverManagerDataSource dataSource, String name) {
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("create table if not exists marker (name varchar(20))");
+        jdbc.execute("delete from marker");
+        jdbc.update("insert into marker values (?)", name);
+    }
+}
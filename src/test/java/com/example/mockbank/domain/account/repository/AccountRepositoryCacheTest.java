@@ -0,0 +1,135 @@
+package com.example.mockbank.domain.account.repository;
+
+import com.example.mockbank.domain.account.entity.Account;
+import com.example.mockbank.domain.account.enums.HistoryStatus;
+import com.example.mockbank.domain.account.vo.Money;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// H2(MODE=MYSQL) + 실제 2차 캐시 - 커밋 후 다른 트랜잭션에서 보이는 캐시 상태를 보므로 테스트 트랜잭션은 쓰지 않는다
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AccountRepositoryCacheTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private MonthlyTransactionSummaryRepository monthlyTransactionSummaryRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+    private Long accountId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        accountId = transactionTemplate.execute(status -> accountRepository.save(Account.builder()
+                .accountNumber("110-000-000001")
+                .userId(USER_ID)
+                .userName("user1")
+                .balance(Money.won(10_000))
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .historyStatus(HistoryStatus.PENDING)
+                .build()).getId());
+        // natural id / 엔티티 리전 채우기
+        lookup();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from monthly_transaction_summary");
+        jdbcTemplate.update("delete from account");
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    @DisplayName("ATOMIC 입금 (잔액 native UPDATE + 월별 합계 upsert) 후에도 natural id 캐시 적중, 잔액은 새 값")
+    void deposit_keepsNaturalIdCache() {
+        transactionTemplate.executeWithoutResult(status -> {
+            assertThat(accountRepository.increaseBalance(USER_ID, new BigDecimal("1000.00"), LocalDateTime.now())).isEqualTo(1);
+            monthlyTransactionSummaryRepository.upsertAdd(accountId, "2026-10", new BigDecimal("1000.00"), BigDecimal.ZERO, 1);
+        });
+
+        Account account = lookup();
+
+        assertThat(account.getBalance()).isEqualTo(Money.won(11_000));
+        assertThat(statistics.getNaturalIdCacheMissCount()).isZero();
+        assertThat(statistics.getNaturalIdCacheHitCount()).isPositive();
+        // 갱신된 계좌만 evict 됐다가 다시 채워진다
+        long entityHits = statistics.getSecondLevelCacheHitCount();
+        assertThat(lookup().getBalance()).isEqualTo(Money.won(11_000));
+        assertThat(statistics.getSecondLevelCacheHitCount()).isGreaterThan(entityHits);
+    }
+
+    @Test
+    @DisplayName("출금 잔액 부족이면 갱신 0건, 캐시는 그대로")
+    void withdraw_insufficient_keepsCache() {
+        int updated = transactionTemplate.execute(status ->
+                accountRepository.decreaseBalanceIfSufficient(USER_ID, new BigDecimal("20000.00"), LocalDateTime.now()));
+
+        assertThat(updated).isZero();
+        assertThat(lookup().getBalance()).isEqualTo(Money.won(10_000));
+        assertThat(statistics.getNaturalIdCacheMissCount()).isZero();
+        assertThat(statistics.getSecondLevelCacheMissCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("내역 생성 선점과 write-behind 일괄 잔액 반영도 natural id 캐시를 비우지 않고 계좌만 새로 읽음")
+    void claimAndBulkUpdate_keepNaturalIdCache() {
+        transactionTemplate.executeWithoutResult(status -> {
+            assertThat(accountRepository.claimHistoryMaterialization(accountId)).isEqualTo(1);
+            assertThat(accountRepository.claimHistoryMaterialization(accountId)).isZero();
+        });
+        transactionTemplate.executeWithoutResult(status ->
+                accountRepository.bulkUpdateBalances(Map.of(accountId, Money.won(5_000))));
+
+        Account account = lookup();
+
+        assertThat(account.getHistoryStatus()).isEqualTo(HistoryStatus.MATERIALIZED);
+        assertThat(account.getBalance()).isEqualTo(Money.won(5_000));
+        assertThat(account.getVersion()).isEqualTo(2L);
+        assertThat(statistics.getNaturalIdCacheMissCount()).isZero();
+        assertThat(statistics.getNaturalIdCacheHitCount()).isPositive();
+    }
+
+    private Account lookup() {
+        return transactionTemplate.execute(status -> accountRepository.getOrThrowByUserId(USER_ID));
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.mockbank.domain.account.vo;
+
+import com.example.mockbank.common.converter.MoneyAttributeConverter;
+import com.example.mockbank.common.enums.ErrorCode;
+import com.example.mockbank.common.exception.CustomException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoneyTest {
+
+    @Test
+    @DisplayName("of 는 소수점 둘째 자리까지만 받고 scale 이 달라도 같은 값")
+    void of_acceptsUpToTwoDecimals() {
+        assertThat(Money.of(new BigDecimal("10000"))).isEqualTo(Money.won(10_000));
+        assertThat(Money.of(new BigDecimal("10000.500"))).isEqualTo(new Money(1_000_050L));
+        assertThat(Money.of(new BigDecimal("-0.01"))).isEqualTo(new Money(-1L));
+        assertThat(Money.of(new BigDecimal("1E+3"))).isEqualTo(Money.won(1_000));
+        assertThat(Money.ofNullable(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("of 는 소수점 셋째 자리 이하가 있으면 INVALID_AMOUNT")
+    void of_rejectsThirdDecimal() {
+        assertInvalidAmount(() -> Money.of(new BigDecimal("0.001")));
+        assertInvalidAmount(() -> Money.of(new BigDecimal("10000.005")));
+    }
+
+    @Test
+    @DisplayName("of/won 은 long 최소 단위 범위를 넘으면 INVALID_AMOUNT")
+    void of_rejectsBeyondLongRange() {
+        assertThat(Money.of(new BigDecimal("92233720368547758.07"))).isEqualTo(new Money(Long.MAX_VALUE));
+        assertThat(Money.of(new BigDecimal("-92233720368547758.08"))).isEqualTo(new Money(Long.MIN_VALUE));
+
+        assertInvalidAmount(() -> Money.of(new BigDecimal("92233720368547758.08")));
+        assertInvalidAmount(() -> Money.of(new BigDecimal("-92233720368547758.09")));
+        assertInvalidAmount(() -> Money.won(Long.MAX_VALUE / Money.MINOR_PER_WON + 1));
+    }
+
+    @Test
+    @DisplayName("plus/minus 가 long 범위를 넘으면 잘리지 않고 INVALID_AMOUNT")
+    void plusMinus_overflow() {
+        Money max = new Money(Long.MAX_VALUE);
+        Money min = new Money(Long.MIN_VALUE);
+
+        assertThat(max.minus(new Money(1L)).plus(new Money(1L))).isEqualTo(max);
+        assertInvalidAmount(() -> max.plus(new Money(1L)));
+        assertInvalidAmount(() -> min.minus(new Money(1L)));
+        assertInvalidAmount(() -> Money.ZERO.minus(min));
+    }
+
+    @Test
+    @DisplayName("divideDown 은 원 단위 미만과 나머지를 버림")
+    void divideDown_truncatesToWon() {
+        assertThat(Money.won(3_000_000).divideDown(2)).isEqualTo(Money.won(1_500_000));
+        assertThat(Money.won(1_500_001).divideDown(2)).isEqualTo(Money.won(750_000));
+        assertThat(Money.of(new BigDecimal("1000.99")).divideDown(3)).isEqualTo(Money.won(333));
+        assertThat(Money.of(new BigDecimal("0.99")).divideDown(1)).isEqualTo(Money.ZERO);
+    }
+
+    @Test
+    @DisplayName("toBigDecimal 은 항상 scale 2 (decimal(38,2) 와 같은 표현)")
+    void toBigDecimal_scaleTwo() {
+        assertThat(Money.won(10_000).toBigDecimal()).isEqualTo(new BigDecimal("10000.00"));
+        assertThat(new Money(-5L).toBigDecimal()).isEqualTo(new BigDecimal("-0.05"));
+        assertThat(Money.won(10_000)).hasToString("10000.00");
+    }
+
+    @Test
+    @DisplayName("컨버터는 decimal(38,2) 와 Money 를 손실 없이 왕복")
+    void converter_roundTrip() {
+        MoneyAttributeConverter converter = new MoneyAttributeConverter();
+
+        for (Money money : new Money[]{Money.ZERO, new Money(1L), new Money(-123_456_789L),
+                new Money(Long.MAX_VALUE), new Money(Long.MIN_VALUE)}) {
+            BigDecimal column = converter.convertToDatabaseColumn(money);
+            assertThat(column.scale()).isEqualTo(Money.SCALE);
+            assertThat(converter.convertToEntityAttribute(column)).isEqualTo(money);
+        }
+        // DB 드라이버가 scale 을 다르게 돌려줘도 같은 값
+        assertThat(converter.convertToEntityAttribute(new BigDecimal("10000"))).isEqualTo(Money.won(10_000));
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+    }
+
+    private static void assertInvalidAmount(Runnable call) {
+        assertThatThrownBy(call::run)
+                .isInstanceOf(CustomException.class)
+                .hasMessageContaining(ErrorCode.INVALID_AMOUNT.getMessage());
+    }
+}